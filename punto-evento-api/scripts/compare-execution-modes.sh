@@ -0,0 +1,80 @@
+#!/usr/bin/env bash
+# Compara el modo de hilos de plataforma contra el modo de hilos virtuales
+# sobre el mismo dataset sembrado (DataSeeder) y la misma carga.
+#
+# Requisitos:
+#   - PostgreSQL levantado (docker-compose up -d) con la base recién creada
+#   - JDK 21+ (el modo virtual no tiene efecto en Java 17)
+#   - hey (https://github.com/rakyll/hey) en el PATH
+#
+# Uso: scripts/compare-execution-modes.sh
+# Variables: PORT, CONCURRENCY, DURATION, POOL_SIZE
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT="${PORT:-8080}"
+CONCURRENCY="${CONCURRENCY:-200}"
+DURATION="${DURATION:-60s}"
+POOL_SIZE="${POOL_SIZE:-10}"
+OUT="target/execution-modes"
+BASE="http://localhost:${PORT}"
+
+mkdir -p "$OUT"
+./mvnw -q -Pjava21 -DskipTests package
+JAR="$(ls target/punto-evento-api-*.jar | grep -v '\.original$' | head -1)"
+
+wait_for_app() {
+    for _ in $(seq 1 120); do
+        if curl -s -o /dev/null "${BASE}/auth/login"; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "La aplicación no respondió a tiempo" >&2
+    return 1
+}
+
+login() {
+    curl -s -X POST "${BASE}/auth/login" \
+        -H 'Content-Type: application/json' \
+        -d "{\"email\":\"$1\",\"password\":\"$2\"}" \
+        | sed -E 's/.*"token":"([^"]+)".*/\1/'
+}
+
+run_mode() {
+    local mode="$1" virtual="$2"
+    echo "== Modo ${mode} (concurrencia ${CONCURRENCY}, duración ${DURATION}, pool ${POOL_SIZE})"
+
+    APP_VIRTUAL_THREADS="$virtual" DB_POOL_SIZE="$POOL_SIZE" SPRING_JPA_SHOW_SQL=false \
+        java -jar "$JAR" --server.port="$PORT" > "${OUT}/${mode}-app.log" 2>&1 &
+    local pid=$!
+    trap "kill ${pid} 2>/dev/null || true" EXIT
+    wait_for_app
+
+    local admin employee client
+    admin="$(login admin@puntoevento.com admin123)"
+    employee="$(login empleado@puntoevento.com empleado123)"
+    client="$(login juan.perez@email.com cliente123)"
+
+    # Calentamiento para que JIT y caches no distorsionen la primera medición
+    hey -z 10s -c 20 -H "Authorization: Bearer ${admin}" "${BASE}/api/reservations" > /dev/null
+
+    hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer ${admin}" \
+        "${BASE}/api/reservations" > "${OUT}/${mode}-admin-reservations.txt"
+    hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer ${employee}" \
+        "${BASE}/tasks/my-tasks" > "${OUT}/${mode}-employee-tasks.txt"
+    hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer ${client}" \
+        "${BASE}/api/quotes/my-quotes" > "${OUT}/${mode}-client-quotes.txt"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform false
+run_mode virtual true
+
+for f in "${OUT}"/*-*.txt; do
+    printf '%-50s %s\n' "$(basename "$f")" "$(grep -E 'Requests/sec' "$f" | awk '{print $2}') req/s"
+done
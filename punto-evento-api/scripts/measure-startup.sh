@@ -0,0 +1,94 @@
+#!/usr/bin/env bash
+# Mide el tiempo hasta la primera petición atendida y la memoria residente (RSS)
+# con el jar normal, el perfil fast-startup (AOT + archivo CDS) y, con NATIVE=true,
+# el ejecutable nativo, sobre la misma base de datos.
+#
+# Requisitos:
+#   - PostgreSQL levantado (docker-compose up -d)
+#   - El mismo JDK para compilar y ejecutar (el archivo CDS depende de la versión exacta)
+#   - Para NATIVE=true: GraalVM (native-image) como JDK activo
+#
+# Uso: scripts/measure-startup.sh
+# Variables: PORT, RUNS, NATIVE
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT="${PORT:-8080}"
+RUNS="${RUNS:-5}"
+NATIVE="${NATIVE:-false}"
+OUT="target/startup"
+URL="http://localhost:${PORT}/actuator/health"
+
+mkdir -p "$OUT"
+
+# Jar normal (se copia porque el segundo build lo reemplaza)
+./mvnw -q -DskipTests package
+JAR="$(ls target/punto-evento-api-*.jar | grep -v '\.original$' | head -1)"
+cp "$JAR" "${OUT}/plain.jar"
+
+# Jar con AOT, extraído en target/fast-startup junto con application.jsa
+./mvnw -q -Pfast-startup -DskipTests package
+FAST_DIR="target/fast-startup"
+FAST_JAR="$(basename "$JAR")"
+
+if [ "$NATIVE" = "true" ]; then
+    ./mvnw -q -Pnative -DskipTests native:compile
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+# Tiempo desde el lanzamiento del proceso hasta la primera respuesta HTTP (cualquier código)
+# y RSS en KB justo después de atenderla: "<ms> <kb>"
+measure() {
+    local name="$1" dir="$2"; shift 2
+    local start pid code elapsed
+    start="$(now_ms)"
+    (cd "$dir" && SPRING_JPA_SHOW_SQL=false exec "$@" --server.port="$PORT") > "${OUT}/${name}-app.log" 2>&1 &
+    pid=$!
+    trap "kill ${pid} 2>/dev/null || true" EXIT
+    for _ in $(seq 1 1200); do
+        code="$(curl -s -o /dev/null -w '%{http_code}' "$URL" || true)"
+        if [ "$code" != "000" ]; then
+            elapsed=$(( $(now_ms) - start ))
+            echo "${elapsed} $(ps -o rss= -p "$pid" | tr -d ' ')"
+            kill "$pid"
+            wait "$pid" 2>/dev/null || true
+            trap - EXIT
+            return 0
+        fi
+        sleep 0.05
+    done
+    echo "La aplicación no respondió a tiempo (${name})" >&2
+    return 1
+}
+
+median() {
+    sort -n | sed -n "$(( (RUNS + 1) / 2 ))p"
+}
+
+run_variant() {
+    local name="$1"; shift
+    local times=() rss=() sample
+    for _ in $(seq 1 "$RUNS"); do
+        sample="$(measure "$name" "$@")"
+        times+=("${sample% *}")
+        rss+=("${sample#* }")
+    done
+    local time_median rss_median started
+    time_median="$(printf '%s\n' "${times[@]}" | median)"
+    rss_median="$(printf '%s\n' "${rss[@]}" | median)"
+    started="$(grep -oE 'Started PuntoEventoApiApplication in [0-9.]+ seconds' "${OUT}/${name}-app.log" | awk '{print $4}' || true)"
+    printf '%-14s primera petición: mediana %5s ms  RSS: %4s MB  Spring: %ss  (corridas: %s)\n' \
+        "$name" "$time_median" "$(( rss_median / 1024 ))" "${started:-?}" "$(echo "${times[@]}" | tr ' ' ',')" \
+        | tee -a "${OUT}/results.txt"
+}
+
+: > "${OUT}/results.txt"
+run_variant plain "$OUT" java -jar plain.jar
+run_variant fast-startup "$FAST_DIR" java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar "$FAST_JAR"
+if [ "$NATIVE" = "true" ]; then
+    run_variant native target ./punto-evento-api
+fi
@@ -1,6 +1,7 @@
 -- ============================================================================
 --  PUNTO EVENTO • Estructura base (ENUMS en MAYÚSCULAS, sin extensiones)
---  Crea la base de datos completa al iniciar el contenedor
+--  Referencia histórica: el esquema ahora lo crea Flyway al arrancar la API
+--  (src/main/resources/db/migration). Este script ya no se ejecuta.
 -- ============================================================================
 
 -- =========================
@@ -0,0 +1,94 @@
+package sv.udb.puntoeventoapi.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sv.udb.puntoeventoapi.modules.commons.enums.PricingRuleType;
+import sv.udb.puntoeventoapi.modules.pricing.entity.PricingRule;
+import sv.udb.puntoeventoapi.modules.pricing.service.PricingRules;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Valoración de un ítem con las reglas compiladas, el paso que repite la revaloración por cada ítem
+ * pendiente y {@code QuoteService.create} por cada servicio de la cotización.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricingRulesBenchmark {
+
+    private static final int ITEMS = 1024;
+
+    // Servicios con reglas propias (IVA, tramo de volumen y recargo de temporada)
+    @Param({"0", "50"})
+    public int servicesWithRules;
+
+    private PricingRules rules;
+    private UUID[] serviceIds;
+    private BigDecimal[] quantities;
+    private BigDecimal[] unitPrices;
+    private LocalDate[] eventDates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate today = LocalDate.now();
+        List<PricingRule> ruleList = new ArrayList<>();
+        ruleList.add(rule(PricingRuleType.VOLUME_DISCOUNT, null).minQuantity(new BigDecimal("10"))
+                .percentage(new BigDecimal("5")).build());
+        ruleList.add(rule(PricingRuleType.SEASONAL_SURCHARGE, null).validFrom(today.withDayOfMonth(1))
+                .validTo(today.withDayOfMonth(1).plusMonths(1).minusDays(1)).percentage(new BigDecimal("10")).build());
+        List<UUID> services = new ArrayList<>();
+        for (int i = 0; i < servicesWithRules; i++) {
+            UUID serviceId = UUID.randomUUID();
+            services.add(serviceId);
+            ruleList.add(rule(PricingRuleType.TAX_RATE, serviceId).percentage(new BigDecimal("15")).build());
+            ruleList.add(rule(PricingRuleType.VOLUME_DISCOUNT, serviceId).minQuantity(new BigDecimal("20"))
+                    .percentage(new BigDecimal("8")).build());
+            ruleList.add(rule(PricingRuleType.SEASONAL_SURCHARGE, serviceId).validFrom(today)
+                    .validTo(today.plusDays(30)).percentage(new BigDecimal("12")).build());
+        }
+        rules = PricingRules.compile(ruleList, new BigDecimal("13.00"), "benchmark");
+
+        // Mezcla de ítems con y sin servicio, cantidades a ambos lados de los tramos y fechas dentro y fuera de temporada
+        serviceIds = new UUID[ITEMS];
+        quantities = new BigDecimal[ITEMS];
+        unitPrices = new BigDecimal[ITEMS];
+        eventDates = new LocalDate[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            serviceIds[i] = services.isEmpty() || random.nextBoolean() ? null : services.get(random.nextInt(services.size()));
+            quantities[i] = BigDecimal.valueOf(1 + random.nextInt(40));
+            unitPrices[i] = BigDecimal.valueOf(500 + random.nextInt(50_000), 2);
+            eventDates[i] = today.plusDays(random.nextInt(90));
+        }
+    }
+
+    @Benchmark
+    public PricingRules.PricedItem price() {
+        int i = next++ & (ITEMS - 1);
+        return rules.price(serviceIds[i], quantities[i], unitPrices[i], eventDates[i]);
+    }
+
+    private static PricingRule.PricingRuleBuilder rule(PricingRuleType type, UUID serviceId) {
+        return PricingRule.builder().name(type.name()).ruleType(type).serviceId(serviceId).active(true);
+    }
+}
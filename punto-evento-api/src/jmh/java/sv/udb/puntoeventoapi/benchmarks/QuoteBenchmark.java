@@ -0,0 +1,66 @@
+package sv.udb.puntoeventoapi.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sv.udb.puntoeventoapi.modules.client.entity.Client;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteDto;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteResponse;
+import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
+import sv.udb.puntoeventoapi.modules.quote.service.QuoteService;
+import sv.udb.puntoeventoapi.modules.request.entity.Request;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cálculo de montos por ítem con BigDecimal en {@code QuoteService.create} y la conversión
+ * de la cotización a {@code QuoteResponse}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuoteBenchmark {
+
+    @Param({"5", "50", "200"})
+    public int items;
+
+    private QuoteService service;
+    private QuoteDto dto;
+    private UUID quoteId;
+
+    @Setup
+    public void setUp() {
+        Fixtures.quietLogs();
+        SplittableRandom random = new SplittableRandom(42);
+        Client client = Fixtures.client(random);
+        Request request = Fixtures.request(random, client);
+        Quote quote = Fixtures.quote(random, client, request, items);
+        dto = Fixtures.quoteDto(random, client, request, items);
+        quoteId = quote.getId();
+
+        service = Fixtures.quoteService(client, request, quote);
+    }
+
+    @Benchmark
+    public QuoteResponse create() {
+        return service.create(dto);
+    }
+
+    @Benchmark
+    public QuoteResponse getById() {
+        return service.getById(quoteId);
+    }
+}
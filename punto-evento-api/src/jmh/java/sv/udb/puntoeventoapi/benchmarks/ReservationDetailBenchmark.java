@@ -0,0 +1,76 @@
+package sv.udb.puntoeventoapi.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sv.udb.puntoeventoapi.modules.client.entity.Client;
+import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
+import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
+import sv.udb.puntoeventoapi.modules.request.entity.Request;
+import sv.udb.puntoeventoapi.modules.reservation.dto.ReservationDetailResponse;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.reservation.service.ReservationDetailCache;
+import sv.udb.puntoeventoapi.modules.reservation.service.ReservationService;
+import sv.udb.puntoeventoapi.modules.task.entity.Task;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Armado del detalle de reservación (cliente, cotización, servicios y tareas con empleados),
+ * que es lo que devuelve {@code GET /api/reservations/{id}}, sin caché y con el detalle ya guardado
+ * en {@link ReservationDetailCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationDetailBenchmark {
+
+    @Param({"10", "50"})
+    public int items;
+
+    @Param({"10", "100"})
+    public int tasks;
+
+    @Param({"1", "3"})
+    public int assignmentsPerTask;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private ReservationService service;
+    private UUID reservationId;
+
+    @Setup
+    public void setUp() {
+        Fixtures.quietLogs();
+        SplittableRandom random = new SplittableRandom(42);
+        Client client = Fixtures.client(random);
+        Request request = Fixtures.request(random, client);
+        Quote quote = Fixtures.quote(random, client, request, items);
+        Reservation reservation = Fixtures.reservation(random, quote);
+        List<Task> taskList = Fixtures.tasks(random, reservation, Fixtures.employees(random, 12),
+                tasks, assignmentsPerTask);
+        reservationId = reservation.getId();
+
+        service = Fixtures.reservationService(reservation, taskList, cached ? 2000 : 0);
+    }
+
+    @Benchmark
+    public ApiResponse<ReservationDetailResponse> getReservationById() {
+        return service.getReservationById(reservationId);
+    }
+}
@@ -0,0 +1,63 @@
+package sv.udb.puntoeventoapi.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sv.udb.puntoeventoapi.modules.client.entity.Client;
+import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
+import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
+import sv.udb.puntoeventoapi.modules.request.entity.Request;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.task.dto.TaskResponse;
+import sv.udb.puntoeventoapi.modules.task.entity.Task;
+import sv.udb.puntoeventoapi.modules.task.service.TaskService;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversión de una tarea a {@code TaskResponse}, usada por el tablero del empleado
+ * y por cada cambio de estado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskResponseBenchmark {
+
+    @Param({"1", "5"})
+    public int assignmentsPerTask;
+
+    private TaskService service;
+    private UUID taskId;
+
+    @Setup
+    public void setUp() {
+        Fixtures.quietLogs();
+        SplittableRandom random = new SplittableRandom(42);
+        Client client = Fixtures.client(random);
+        Request request = Fixtures.request(random, client);
+        Quote quote = Fixtures.quote(random, client, request, 5);
+        Reservation reservation = Fixtures.reservation(random, quote);
+        Task task = Fixtures.tasks(random, reservation, Fixtures.employees(random, 12), 1, assignmentsPerTask).get(0);
+        taskId = task.getId();
+
+        service = Fixtures.taskService(task);
+    }
+
+    @Benchmark
+    public ApiResponse<TaskResponse> getById() {
+        return service.getById(taskId);
+    }
+}
@@ -2,8 +2,13 @@ package sv.udb.puntoeventoapi;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import sv.udb.puntoeventoapi.config.nativeimage.NativeImageHints;
 
 @SpringBootApplication(scanBasePackages = "sv.udb.puntoeventoapi")
+@ImportRuntimeHints(NativeImageHints.class)
+@EnableScheduling
 public class PuntoEventoApiApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,420 @@
+package sv.udb.puntoeventoapi.config.datagen;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sv.udb.puntoeventoapi.modules.commons.enums.ContractType;
+import sv.udb.puntoeventoapi.modules.commons.enums.PersonType;
+import sv.udb.puntoeventoapi.modules.commons.enums.QuoteStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.Status;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.UserType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Genera un dataset sintético grande para pruebas de rendimiento, reemplazando a {@code DataSeeder}
+ * en el perfil {@code datagen}. Escribe con JDBC por lotes (sin entidades ni repositorios) y reparte
+ * los clientes en bloques que se insertan en paralelo, cada uno en su propia transacción.
+ *
+ * <p>Cada cliente usa un {@link SplittableRandom} derivado de la semilla y de su índice, de modo que
+ * el resultado no depende del orden en que se procesan los bloques. Los estados siguen distribuciones
+ * coherentes con la fecha del evento (eventos pasados finalizados, próximos programados, etc.).
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+@EnableConfigurationProperties(DataGeneratorProperties.class)
+public class DataGenerator implements CommandLineRunner {
+
+    static final String ADMIN_EMAIL = "admin@puntoevento.com";
+    static final String EMPLOYEE_EMAIL = "empleado@puntoevento.com";
+    static final String CLIENT_EMAIL = "juan.perez@email.com";
+    static final String GENERATED_PASSWORD = "datagen123";
+
+    private static final BigDecimal TAX_RATE = new BigDecimal("13.00");
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+    private static final DateTimeFormatter SCHEDULED_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (id, name, email, password, user_type, active, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CLIENT =
+            "INSERT INTO clients (id, name, document, person_type, phone, email, address, status, user_id, " +
+            "created_by, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_EMPLOYEE =
+            "INSERT INTO employees (id, name, document, person_type, contract_type, phone, email, address, status, " +
+            "user_id, created_by, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_REQUEST =
+            "INSERT INTO requests (id, client_id, event_name, event_date, location, requested_services, notes, " +
+            "status, created_by, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_QUOTE =
+            "INSERT INTO quotes (id, request_id, client_id, event_name, estimated_hours, start_date, end_date, " +
+            "subtotal, tax_total, additional_costs, total, status, created_by, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_QUOTE_ITEM =
+            "INSERT INTO quote_items (id, quote_id, description, quantity, unit_price, tax_rate, subtotal, total, " +
+            "created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_RESERVATION =
+            "INSERT INTO reservations (id, quote_id, client_id, event_name, status, scheduled_for, location, " +
+            "progress_percentage, created_by, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_TASK =
+            "INSERT INTO tasks (id, reservation_id, title, description, start_datetime, end_datetime, status, " +
+            "created_by, completed_at, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_ASSIGNMENT =
+            "INSERT INTO assignments (id, task_id, employee_id, assigned_by, assigned_at, notes) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String[] FIRST_NAMES = {"María", "José", "Ana", "Carlos", "Sofía", "Luis", "Gabriela",
+            "Jorge", "Daniela", "Ricardo", "Valeria", "Fernando", "Paola", "Andrés", "Claudia", "Roberto"};
+    private static final String[] LAST_NAMES = {"Hernández", "López", "Martínez", "Rodríguez", "García", "Pérez",
+            "Flores", "Rivera", "Ramírez", "Cruz", "Ayala", "Castillo", "Mejía", "Romero", "Guzmán", "Alvarado"};
+    private static final String[] EVENT_TYPES = {"Boda", "Conferencia", "Cumpleaños", "Graduación", "Aniversario",
+            "Lanzamiento de producto", "Reunión familiar", "Cena de gala", "Bautizo", "Fiesta corporativa"};
+    private static final String[] LOCATIONS = {"Hotel Sheraton Presidente, San Salvador", "Centro de Convenciones CIFCO",
+            "Salón de Eventos Los Próceres", "Rancho Los Pinos", "Hotel Crowne Plaza", "Casa de Eventos Happy Kids",
+            "Restaurante Vista Hermosa", "Club Campestre Cuscatlán", "Hotel Decameron, Sonsonate"};
+    private static final String[] SERVICES = {"Decoración floral", "Música en vivo", "Catering gourmet",
+            "Fotografía profesional", "Sistema de audio", "Iluminación LED", "Coffee break", "DJ profesional",
+            "Servicio de bar", "Proyector y pantalla", "Animación infantil", "Mobiliario"};
+    private static final int[][] SERVICE_PRICES = {{300, 1500}, {500, 2500}, {1000, 6000}, {250, 1200},
+            {200, 900}, {150, 800}, {100, 600}, {300, 1000}, {400, 2000}, {100, 400}, {150, 700}, {200, 1500}};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final DataGeneratorProperties properties;
+
+    public DataGenerator(JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         PasswordEncoder passwordEncoder,
+                         DataGeneratorProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        Long existingUsers = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (existingUsers != null && existingUsers > 0) {
+            log.warn("La base de datos ya contiene {} usuarios; el generador solo trabaja sobre una base vacía", existingUsers);
+            return;
+        }
+
+        LocalDateTime anchor = properties.anchorDateOrToday().atTime(9, 0);
+        log.info("Generando dataset: {} clientes, {} empleados, semilla {}, fecha de referencia {}",
+                properties.clients(), properties.employees(), properties.seed(), anchor.toLocalDate());
+
+        Map<String, Long> written = new TreeMap<>();
+        long start = System.nanoTime();
+
+        // El hash de BCrypt es caro: todos los usuarios generados comparten contraseña
+        String generatedHash = passwordEncoder.encode(GENERATED_PASSWORD);
+        Staff staff = transactionTemplate.execute(status -> writeStaff(anchor, generatedHash, written));
+
+        int chunks = (properties.clients() + properties.chunkSize() - 1) / properties.chunkSize();
+        AtomicInteger done = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.parallelism()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int from = chunk * properties.chunkSize();
+                int to = Math.min(from + properties.chunkSize(), properties.clients());
+                futures.add(executor.submit(() -> {
+                    transactionTemplate.executeWithoutResult(status ->
+                            writeClients(from, to, staff, anchor, generatedHash, written));
+                    int finished = done.incrementAndGet();
+                    log.info("Bloque {}/{} listo ({} s)", finished, chunks, (System.nanoTime() - start) / 1_000_000_000);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        long rows = written.values().stream().mapToLong(Long::longValue).sum();
+        log.info("Dataset generado: {} filas en {} s ({} filas/s) {}", rows, millis / 1000, rows * 1000 / millis, written);
+        log.info("Cuentas: {} / admin123, {} / empleado123, {} / cliente123; generadas: <correo> / {}",
+                ADMIN_EMAIL, EMPLOYEE_EMAIL, CLIENT_EMAIL, GENERATED_PASSWORD);
+    }
+
+    /**
+     * Usuarios conocidos (los mismos del seeder) y empleados. Devuelve los ids que necesitan los bloques.
+     */
+    private Staff writeStaff(LocalDateTime anchor, String generatedHash, Map<String, Long> written) {
+        SplittableRandom random = new SplittableRandom(properties.seed());
+        JdbcBatchWriter writer = new JdbcBatchWriter(jdbcTemplate, 1000, written);
+        writer.register(INSERT_USER);
+        writer.register(INSERT_EMPLOYEE);
+        LocalDateTime createdAt = anchor.minusYears(2);
+
+        UUID adminId = uuid(random);
+        writer.add(INSERT_USER, adminId, "Administrador del Sistema", ADMIN_EMAIL,
+                passwordEncoder.encode("admin123"), UserType.ADMIN.name(), true,
+                createdAt.toString(), createdAt.toString());
+
+        List<UUID> activeEmployees = new ArrayList<>();
+        for (int i = 0; i <= properties.employees(); i++) {
+            // El índice 0 es el empleado conocido del seeder
+            boolean known = i == 0;
+            UUID userId = uuid(random);
+            UUID employeeId = uuid(random);
+            String name = known ? "Empleado Principal" : personName(random);
+            String email = known ? EMPLOYEE_EMAIL : "empleado" + i + "@datagen.test";
+            Status status = known || random.nextDouble() < 0.9 ? Status.Activo : Status.Inactivo;
+            LocalDateTime hiredAt = createdAt.plusDays(random.nextInt(365));
+
+            writer.add(INSERT_USER, userId, name, email,
+                    known ? passwordEncoder.encode("empleado123") : generatedHash,
+                    UserType.EMPLOYEE.name(), status == Status.Activo, hiredAt.toString(), hiredAt.toString());
+            writer.add(INSERT_EMPLOYEE, employeeId, name, String.format("E%08d-%d", i, i % 10),
+                    PersonType.Natural.name(),
+                    (random.nextDouble() < 0.7 ? ContractType.Permanente : ContractType.PorHoras).name(),
+                    phone(random), email, pick(random, LOCATIONS), status.name(), userId, adminId, hiredAt, hiredAt);
+            if (status == Status.Activo) {
+                activeEmployees.add(employeeId);
+            }
+        }
+        writer.flush();
+        return new Staff(adminId, List.copyOf(activeEmployees));
+    }
+
+    /**
+     * Clientes {@code [from, to)} con todo su historial: solicitudes, cotizaciones, reservaciones y tareas.
+     */
+    private void writeClients(int from, int to, Staff staff, LocalDateTime anchor, String generatedHash,
+                              Map<String, Long> written) {
+        JdbcBatchWriter writer = new JdbcBatchWriter(jdbcTemplate, 1000, written);
+        for (String sql : List.of(INSERT_USER, INSERT_CLIENT, INSERT_REQUEST, INSERT_QUOTE, INSERT_QUOTE_ITEM,
+                INSERT_RESERVATION, INSERT_TASK, INSERT_ASSIGNMENT)) {
+            writer.register(sql);
+        }
+        for (int index = from; index < to; index++) {
+            SplittableRandom random = new SplittableRandom(properties.seed() * 1_000_003L + index + 1);
+            writeClient(writer, random, index, staff, anchor, generatedHash);
+        }
+        writer.flush();
+    }
+
+    private void writeClient(JdbcBatchWriter writer, SplittableRandom random, int index, Staff staff,
+                             LocalDateTime anchor, String generatedHash) {
+        boolean known = index == 0;
+        UUID userId = uuid(random);
+        UUID clientId = uuid(random);
+        boolean company = !known && random.nextDouble() < 0.2;
+        String name = known ? "Juan Pérez González"
+                : company ? "Inversiones " + pick(random, LAST_NAMES) + " S.A. de C.V." : personName(random);
+        String email = known ? CLIENT_EMAIL : "cliente" + index + "@datagen.test";
+        Status status = known || random.nextDouble() < 0.95 ? Status.Activo : Status.Inactivo;
+        LocalDateTime registeredAt = anchor.minusDays(30 + random.nextInt(700));
+
+        writer.add(INSERT_USER, userId, name, email,
+                known ? passwordEncoder.encode("cliente123") : generatedHash,
+                UserType.CLIENT.name(), status == Status.Activo, registeredAt.toString(), registeredAt.toString());
+        writer.add(INSERT_CLIENT, clientId, name, String.format("C%08d-%d", index, index % 10),
+                (company ? PersonType.Jurídica : PersonType.Natural).name(), phone(random), email,
+                pick(random, LOCATIONS), status.name(), userId, staff.adminId(), registeredAt, registeredAt);
+
+        // Entre 1 y 2·promedio−1 solicitudes, con media requestsPerClient
+        int requests = 1 + random.nextInt(Math.max(1, 2 * properties.requestsPerClient() - 1));
+        for (int r = 0; r < requests; r++) {
+            writeRequest(writer, random, clientId, staff, anchor);
+        }
+    }
+
+    private void writeRequest(JdbcBatchWriter writer, SplittableRandom random, UUID clientId, Staff staff,
+                              LocalDateTime anchor) {
+        UUID requestId = uuid(random);
+        String eventName = pick(random, EVENT_TYPES) + " " + pick(random, LAST_NAMES);
+        String location = pick(random, LOCATIONS);
+        // Eventos desde un año atrás hasta seis meses adelante
+        LocalDateTime eventStart = anchor.toLocalDate().plusDays(random.nextInt(-365, 181))
+                .atTime(8 + random.nextInt(10), 0);
+        LocalDateTime requestedAt = eventStart.minusDays(20 + random.nextInt(60));
+        List<Integer> services = distinctIndexes(random, SERVICES.length, 1 + random.nextInt(5));
+
+        writer.add(INSERT_REQUEST, requestId, clientId, eventName, eventStart.toLocalDate().toString(), location,
+                String.join(", ", services.stream().map(i -> SERVICES[i]).toList()),
+                "Generado por datagen", (random.nextDouble() < 0.95 ? Status.Activo : Status.Inactivo).name(),
+                staff.adminId(), requestedAt, requestedAt);
+
+        if (random.nextDouble() >= properties.quoteRatio()) {
+            return;
+        }
+        QuoteStatus quoteStatus = weighted(random,
+                new QuoteStatus[]{QuoteStatus.Pendiente, QuoteStatus.Aprobada, QuoteStatus.Rechazada, QuoteStatus.Cancelada},
+                new double[]{0.20, 0.60, 0.15, 0.05});
+        if (quoteStatus == QuoteStatus.Pendiente && eventStart.isBefore(anchor)) {
+            quoteStatus = QuoteStatus.Rechazada;
+        }
+
+        UUID quoteId = uuid(random);
+        LocalDateTime quotedAt = requestedAt.plusDays(1 + random.nextInt(5));
+        int hours = 4 + random.nextInt(9);
+        BigDecimal subtotal = BigDecimal.ZERO;
+        BigDecimal taxTotal = BigDecimal.ZERO;
+        for (int service : services) {
+            int[] range = SERVICE_PRICES[service];
+            BigDecimal quantity = BigDecimal.valueOf(1 + random.nextInt(3)).setScale(2, RoundingMode.UNNECESSARY);
+            BigDecimal unitPrice = BigDecimal.valueOf(random.nextInt(range[0], range[1] + 1)).setScale(2, RoundingMode.UNNECESSARY);
+            BigDecimal itemSubtotal = quantity.multiply(unitPrice).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal itemTax = itemSubtotal.multiply(TAX_RATE).divide(HUNDRED, 2, RoundingMode.HALF_UP);
+            writer.add(INSERT_QUOTE_ITEM, uuid(random), quoteId, SERVICES[service], quantity, unitPrice, TAX_RATE,
+                    itemSubtotal, itemSubtotal.add(itemTax), quotedAt);
+            subtotal = subtotal.add(itemSubtotal);
+            taxTotal = taxTotal.add(itemTax);
+        }
+        BigDecimal additional = BigDecimal.valueOf(random.nextInt(0, 31) * 10L).setScale(2, RoundingMode.UNNECESSARY);
+        writer.add(INSERT_QUOTE, quoteId, requestId, clientId, eventName, hours, eventStart, eventStart.plusHours(hours),
+                subtotal, taxTotal, additional, subtotal.add(taxTotal).add(additional), quoteStatus.name(),
+                staff.adminId(), quotedAt, quotedAt.plusDays(random.nextInt(1, 4)));
+
+        if (quoteStatus == QuoteStatus.Aprobada) {
+            writeReservation(writer, random, quoteId, clientId, eventName, location, eventStart, hours,
+                    quotedAt.plusDays(random.nextInt(1, 4)), staff, anchor);
+        }
+    }
+
+    private void writeReservation(JdbcBatchWriter writer, SplittableRandom random, UUID quoteId, UUID clientId,
+                                  String eventName, String location, LocalDateTime eventStart, int hours,
+                                  LocalDateTime createdAt, Staff staff, LocalDateTime anchor) {
+        ReservationStatus status = reservationStatus(random, eventStart, anchor);
+        UUID reservationId = uuid(random);
+
+        int taskCount = status == ReservationStatus.EN_PLANEACION && random.nextBoolean()
+                ? 0
+                : 1 + random.nextInt(Math.max(1, 2 * properties.tasksPerReservation() - 1));
+        int completed = 0;
+        for (int t = 0; t < taskCount; t++) {
+            TaskStatus taskStatus = taskStatus(random, status);
+            if (taskStatus == TaskStatus.COMPLETADA) {
+                completed++;
+            }
+            // Montaje desde el día anterior hasta el cierre del evento
+            LocalDateTime taskStart = eventStart.minusHours(random.nextInt(0, 25)).withMinute(0);
+            LocalDateTime taskEnd = taskStart.plusHours(1 + random.nextInt(4));
+            UUID taskId = uuid(random);
+            writer.add(INSERT_TASK, taskId, reservationId, pick(random, SERVICES) + " - " + eventName,
+                    "Tarea generada por datagen", taskStart, taskEnd, taskStatus.name(), staff.adminId(),
+                    taskStatus == TaskStatus.COMPLETADA ? taskEnd : null, createdAt, createdAt);
+
+            if (!staff.activeEmployees().isEmpty()) {
+                int assignees = 1 + random.nextInt(Math.max(1, properties.assignmentsPerTask()));
+                for (int e : distinctIndexes(random, staff.activeEmployees().size(), assignees)) {
+                    writer.add(INSERT_ASSIGNMENT, uuid(random), taskId, staff.activeEmployees().get(e),
+                            staff.adminId(), createdAt, null);
+                }
+            }
+        }
+
+        BigDecimal progress = taskCount == 0
+                ? BigDecimal.ZERO.setScale(2, RoundingMode.UNNECESSARY)
+                : BigDecimal.valueOf(completed * 100L).divide(BigDecimal.valueOf(taskCount), 2, RoundingMode.HALF_UP);
+        writer.add(INSERT_RESERVATION, reservationId, quoteId, clientId, eventName, status.name(),
+                eventStart.format(SCHEDULED_FORMAT), location, progress, staff.adminId(), createdAt,
+                eventStart.plusHours(hours).isBefore(anchor) ? eventStart.plusHours(hours) : createdAt);
+    }
+
+    private static ReservationStatus reservationStatus(SplittableRandom random, LocalDateTime eventStart,
+                                                       LocalDateTime anchor) {
+        if (eventStart.isBefore(anchor.minusDays(1))) {
+            return random.nextDouble() < 0.92 ? ReservationStatus.FINALIZADA : ReservationStatus.CANCELADA;
+        }
+        if (eventStart.isBefore(anchor.plusDays(1))) {
+            return ReservationStatus.ENCURSO;
+        }
+        if (eventStart.isBefore(anchor.plusDays(30))) {
+            return weighted(random,
+                    new ReservationStatus[]{ReservationStatus.PROGRAMADA, ReservationStatus.EN_PLANEACION, ReservationStatus.CANCELADA},
+                    new double[]{0.70, 0.25, 0.05});
+        }
+        return weighted(random,
+                new ReservationStatus[]{ReservationStatus.EN_PLANEACION, ReservationStatus.PROGRAMADA, ReservationStatus.CANCELADA},
+                new double[]{0.70, 0.25, 0.05});
+    }
+
+    private static TaskStatus taskStatus(SplittableRandom random, ReservationStatus reservationStatus) {
+        return switch (reservationStatus) {
+            case FINALIZADA -> TaskStatus.COMPLETADA;
+            case CANCELADA -> TaskStatus.CANCELADA;
+            case ENCURSO -> weighted(random,
+                    new TaskStatus[]{TaskStatus.COMPLETADA, TaskStatus.EN_PROCESO, TaskStatus.PENDIENTE},
+                    new double[]{0.40, 0.30, 0.30});
+            case PROGRAMADA, EN_PLANEACION -> TaskStatus.PENDIENTE;
+        };
+    }
+
+    private static <T> T weighted(SplittableRandom random, T[] values, double[] weights) {
+        double roll = random.nextDouble();
+        double cumulative = 0;
+        for (int i = 0; i < values.length; i++) {
+            cumulative += weights[i];
+            if (roll < cumulative) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static List<Integer> distinctIndexes(SplittableRandom random, int bound, int count) {
+        List<Integer> indexes = new ArrayList<>(count);
+        int target = Math.min(count, bound);
+        while (indexes.size() < target) {
+            int candidate = random.nextInt(bound);
+            if (!indexes.contains(candidate)) {
+                indexes.add(candidate);
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * UUID versión 4 derivado del generador, para que las llaves también sean reproducibles.
+     */
+    private static UUID uuid(SplittableRandom random) {
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    private static String personName(SplittableRandom random) {
+        return pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES) + " " + pick(random, LAST_NAMES);
+    }
+
+    private static String phone(SplittableRandom random) {
+        return String.format("+503 %04d-%04d", 6000 + random.nextInt(2000), random.nextInt(10_000));
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private record Staff(UUID adminId, List<UUID> activeEmployees) {}
+}
@@ -0,0 +1,41 @@
+package sv.udb.puntoeventoapi.config.datagen;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Volumen y forma del dataset sintético ({@code app.datagen.*}). Con la misma semilla, fecha de
+ * referencia y volúmenes se generan exactamente las mismas filas, sin importar el paralelismo.
+ *
+ * @param seed                semilla de todos los generadores
+ * @param clients             clientes (cada uno con su usuario)
+ * @param employees           empleados (cada uno con su usuario)
+ * @param requestsPerClient   solicitudes promedio por cliente
+ * @param quoteRatio          fracción de solicitudes que reciben cotización
+ * @param tasksPerReservation tareas promedio por reservación
+ * @param assignmentsPerTask  empleados máximos por tarea
+ * @param chunkSize           clientes por transacción
+ * @param parallelism         transacciones simultáneas (no más que el pool de conexiones)
+ * @param anchorDate          "hoy" del dataset; vacío usa la fecha actual
+ */
+@ConfigurationProperties(prefix = "app.datagen")
+public record DataGeneratorProperties(
+        @DefaultValue("42") long seed,
+        @DefaultValue("10000") int clients,
+        @DefaultValue("200") int employees,
+        @DefaultValue("3") int requestsPerClient,
+        @DefaultValue("0.85") double quoteRatio,
+        @DefaultValue("4") int tasksPerReservation,
+        @DefaultValue("2") int assignmentsPerTask,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("4") int parallelism,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate anchorDate
+) {
+
+    public LocalDate anchorDateOrToday() {
+        return anchorDate != null ? anchorDate : LocalDate.now();
+    }
+}
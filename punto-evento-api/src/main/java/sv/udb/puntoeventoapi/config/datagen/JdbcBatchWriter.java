@@ -0,0 +1,56 @@
+package sv.udb.puntoeventoapi.config.datagen;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Acumula filas por sentencia INSERT y las envía con {@code batchUpdate}. Las tablas se vacían en el
+ * orden en que se registraron, así las llaves foráneas siempre apuntan a filas ya insertadas.
+ * Con {@code reWriteBatchedInserts=true} el driver de PostgreSQL convierte cada lote en INSERTs
+ * de varias filas.
+ */
+class JdbcBatchWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Map<String, List<Object[]>> pending = new LinkedHashMap<>();
+    private final Map<String, Long> written;
+
+    JdbcBatchWriter(JdbcTemplate jdbcTemplate, int batchSize, Map<String, Long> written) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.written = written;
+    }
+
+    /**
+     * Registra una tabla; debe llamarse en orden de dependencias antes del primer {@link #add}.
+     */
+    void register(String insertSql) {
+        pending.putIfAbsent(insertSql, new ArrayList<>(batchSize));
+    }
+
+    void add(String insertSql, Object... row) {
+        pending.get(insertSql).add(row);
+    }
+
+    void flush() {
+        pending.forEach((sql, rows) -> {
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + batchSize, rows.size())));
+            }
+            synchronized (written) {
+                written.merge(table(sql), (long) rows.size(), Long::sum);
+            }
+            rows.clear();
+        });
+    }
+
+    private static String table(String insertSql) {
+        String afterInto = insertSql.substring(insertSql.indexOf("INTO ") + 5).trim();
+        return afterInto.substring(0, afterInto.indexOf(' '));
+    }
+}
@@ -0,0 +1,13 @@
+package sv.udb.puntoeventoapi.config.execution;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+    // El executor de @Async lo crea Spring Boot (applicationTaskExecutor):
+    // - spring.threads.virtual.enabled=true (Java 21+): hilos virtuales limitados por
+    //   spring.task.execution.simple.concurrency-limit
+    // - en otro caso: pool de hilos de plataforma (spring.task.execution.pool.*)
+}
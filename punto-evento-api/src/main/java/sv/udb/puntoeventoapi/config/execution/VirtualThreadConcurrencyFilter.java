@@ -0,0 +1,87 @@
+package sv.udb.puntoeventoapi.config.execution;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Con hilos virtuales Tomcat deja de limitar la concurrencia por tamaño de pool, así que
+ * todas las peticiones terminarían esperando una conexión de Hikari. Este filtro limita las
+ * peticiones en curso a un múltiplo del pool de conexiones y responde 503 si no hay cupo.
+ * Solo se activa en modo de hilos virtuales.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConcurrencyFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final ObjectMapper objectMapper;
+
+    public VirtualThreadConcurrencyFilter(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${app.virtual-threads.requests-per-connection:4}") int requestsPerConnection,
+            @Value("${app.virtual-threads.acquire-timeout-ms:2000}") long acquireTimeoutMillis,
+            ObjectMapper objectMapper
+    ) {
+        int limit = Math.max(1, poolSize * requestsPerConnection);
+        this.permits = new Semaphore(limit, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.objectMapper = objectMapper;
+        log.info("Modo de hilos virtuales: máximo {} peticiones concurrentes ({} conexiones x {})",
+                limit, poolSize, requestsPerConnection);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setContentType("application/json");
+            response.setHeader("Retry-After", "1");
+            ApiResponse<Void> body = ApiResponse.<Void>builder()
+                    .success(false)
+                    .message("Servidor ocupado, intente de nuevo")
+                    .errors(List.of(ApiResponse.ApiError.builder()
+                            .field("server")
+                            .message("Capacidad de peticiones concurrentes agotada")
+                            .build()))
+                    .build();
+            response.getWriter().write(objectMapper.writeValueAsString(body));
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
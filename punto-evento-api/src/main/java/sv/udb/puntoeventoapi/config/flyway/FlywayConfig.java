@@ -0,0 +1,68 @@
+package sv.udb.puntoeventoapi.config.flyway;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ejecuta las migraciones al arrancar, salvo en la corrida de entrenamiento del archivo CDS
+ * ({@code spring.context.exit=onRefresh}), que solo refresca el contexto y no tiene base de datos.
+ * Con AOT {@code spring.flyway.enabled} queda fijado al compilar, por eso se decide aquí.
+ * <p>
+ * Una base con tablas pero sin historial de Flyway (creada con {@code sql/dump.sql} o con
+ * {@code ddl-auto=update}) no se registra como versión 1: su esquema no coincide con {@code V1} y
+ * {@code ddl-auto=validate} fallaría después con un error menos claro. El arranque se detiene antes.
+ */
+@Slf4j
+@Configuration
+public class FlywayConfig {
+
+    static final String CONTEXT_EXIT_PROPERTY = "spring.context.exit";
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+        boolean trainingRun = "onRefresh".equals(environment.getProperty(CONTEXT_EXIT_PROPERTY));
+        return flyway -> {
+            if (trainingRun) {
+                log.info("Corrida de entrenamiento: se omiten las migraciones de Flyway");
+                return;
+            }
+            rejectUnversionedSchema(flyway);
+            flyway.migrate();
+        };
+    }
+
+    static void rejectUnversionedSchema(Flyway flyway) {
+        if (flyway.info().current() != null) {
+            return;
+        }
+        String historyTable = flyway.getConfiguration().getTable();
+        List<String> tables = new ArrayList<>();
+        try (Connection connection = flyway.getConfiguration().getDataSource().getConnection();
+             ResultSet rs = connection.getMetaData().getTables(
+                     connection.getCatalog(), connection.getSchema(), "%", new String[]{"TABLE"})) {
+            while (rs.next()) {
+                String table = rs.getString("TABLE_NAME");
+                if (!table.equalsIgnoreCase(historyTable)) {
+                    tables.add(table);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("No se pudo revisar el esquema antes de migrar", e);
+        }
+        if (!tables.isEmpty()) {
+            throw new IllegalStateException("La base ya tiene tablas " + tables + " pero no tiene historial de Flyway. "
+                    + "Su esquema (sql/dump.sql o ddl-auto=update) no coincide con V1__baseline.sql: recrearla "
+                    + "vacía (docker-compose down -v) o migrar los datos a una base nueva.");
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package sv.udb.puntoeventoapi.config.idempotency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
+import sv.udb.puntoeventoapi.modules.user.entity.User;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Soporte de la cabecera {@code Idempotency-Key} en peticiones que modifican datos (por ejemplo
+ * {@code POST /api/requests}, {@code POST /api/quotes} y {@code POST /api/quotes/{id}/action}).
+ * La primera respuesta exitosa se guarda por usuario y clave; los reintentos con la misma clave
+ * y el mismo cuerpo la reciben tal cual, sin volver a ejecutar el servicio. Es exitosa si el estado
+ * es 2xx y, cuando es un {@link ApiResponse}, no trae {@code success=false} (varios controladores
+ * devuelven 200 con el error en el cuerpo).
+ *
+ * <p>Va en la cadena de seguridad después de {@code JwtAuthenticationFilter} para conocer al usuario.
+ * Sin cabecera la petición pasa sin cambios.
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Pattern VALID_KEY = Pattern.compile("[A-Za-z0-9._:-]{8,100}");
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration inFlightLease;
+    private final int maxBodyBytes;
+
+    public IdempotencyFilter(IdempotencyStore store,
+                             ObjectMapper objectMapper,
+                             @Value("${app.idempotency.ttl-hours:24}") long ttlHours,
+                             @Value("${app.idempotency.in-flight-seconds:300}") long inFlightSeconds,
+                             @Value("${app.idempotency.max-body-bytes:65536}") int maxBodyBytes) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.inFlightLease = Duration.ofSeconds(inFlightSeconds);
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(HEADER) == null || !MUTATING_METHODS.contains(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(HEADER);
+        if (!VALID_KEY.matcher(idempotencyKey).matches()) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST,
+                    "Idempotency-Key inválida: use entre 8 y 100 caracteres alfanuméricos, '.', '_', ':' o '-'");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = user.getId() + ":" + idempotencyKey;
+        IdempotencyStore.Claim claim = store.claim(key, fingerprint(cachedRequest), inFlightLease);
+
+        switch (claim.outcome()) {
+            case REPLAY -> {
+                IdempotencyStore.StoredResponse stored = claim.response();
+                log.debug("Respuesta repetida para Idempotency-Key {} ({} {})",
+                        idempotencyKey, request.getMethod(), request.getRequestURI());
+                response.setStatus(stored.status());
+                if (stored.contentType() != null) {
+                    response.setContentType(stored.contentType());
+                }
+                response.setHeader(REPLAYED_HEADER, "true");
+                response.getOutputStream().write(stored.body());
+            }
+            case IN_FLIGHT -> writeError(response, HttpServletResponse.SC_CONFLICT,
+                    "Ya hay una petición en curso con esta Idempotency-Key");
+            case MISMATCH -> writeError(response, 422,
+                    "La Idempotency-Key ya se usó con una petición diferente");
+            case ACQUIRED -> execute(cachedRequest, response, filterChain, key);
+        }
+    }
+
+    private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String key) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            int status = wrapper.getStatus();
+            byte[] body = wrapper.getContentAsByteArray();
+            // Solo se guardan respuestas exitosas; un error libera la clave para reintentar
+            if (body.length <= maxBodyBytes && isSuccessful(status, wrapper.getContentType(), body)) {
+                store.complete(key, new IdempotencyStore.StoredResponse(status, wrapper.getContentType(), body), ttl);
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(key);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean isSuccessful(int status, String contentType, byte[] body) {
+        if (status < 200 || status >= 300) {
+            return false;
+        }
+        if (body.length == 0 || contentType == null || !contentType.contains("json")) {
+            return true;
+        }
+        try {
+            JsonNode success = objectMapper.readTree(body).path("success");
+            return !success.isBoolean() || success.booleanValue();
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(ApiResponse.<Void>error(message)));
+    }
+
+    /**
+     * Huella de la petición (método, ruta, query y cuerpo) para detectar una clave reutilizada con otros datos.
+     */
+    private static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "?"
+                    + (request.getQueryString() != null ? request.getQueryString() : "") + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    /**
+     * Lee el cuerpo una vez (para la huella) y lo vuelve a entregar al controlador.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package sv.udb.puntoeventoapi.config.idempotency;
+
+import java.time.Duration;
+
+/**
+ * Guarda la primera respuesta de cada {@code Idempotency-Key} (por usuario) durante un tiempo limitado.
+ * Una clave pasa por dos estados: reservada mientras la petición original corre y completada con su
+ * respuesta. Si la petición falla la reserva se libera para permitir el reintento.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Intenta reservar la clave. Debe ser atómico: solo una petición concurrente obtiene {@link Outcome#ACQUIRED}.
+     * La reserva vence tras {@code lease}, corto, para que una instancia caída no bloquee la clave todo el TTL.
+     */
+    Claim claim(String key, String fingerprint, Duration lease);
+
+    /**
+     * Guarda la respuesta y extiende la vigencia de la clave a {@code ttl}.
+     */
+    void complete(String key, StoredResponse response, Duration ttl);
+
+    void release(String key);
+
+    enum Outcome {
+        /** Clave nueva: la petición debe ejecutarse. */
+        ACQUIRED,
+        /** La petición original sigue en curso. */
+        IN_FLIGHT,
+        /** Ya hay respuesta guardada para la misma petición. */
+        REPLAY,
+        /** La clave se usó con otra petición (otro cuerpo o ruta). */
+        MISMATCH
+    }
+
+    record Claim(Outcome outcome, StoredResponse response) {
+
+        static final Claim ACQUIRED = new Claim(Outcome.ACQUIRED, null);
+        static final Claim IN_FLIGHT = new Claim(Outcome.IN_FLIGHT, null);
+        static final Claim MISMATCH = new Claim(Outcome.MISMATCH, null);
+
+        static Claim replay(StoredResponse response) {
+            return new Claim(Outcome.REPLAY, response);
+        }
+    }
+
+    record StoredResponse(int status, String contentType, byte[] body) {}
+}
@@ -0,0 +1,67 @@
+package sv.udb.puntoeventoapi.config.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Almacén en memoria (por instancia). Las entradas vencidas se purgan cada cierto número de
+ * operaciones y, al llegar a {@code app.idempotency.max-entries}, las claves nuevas ya no se
+ * reservan: la petición se ejecuta normalmente, sin protección contra reintentos.
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private static final int PURGE_EVERY = 1024;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger operations = new AtomicInteger();
+    private final int maxEntries;
+
+    public InMemoryIdempotencyStore(@Value("${app.idempotency.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Claim claim(String key, String fingerprint, Duration lease) {
+        long now = System.currentTimeMillis();
+        if (operations.incrementAndGet() % PURGE_EVERY == 0 || entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        }
+
+        Claim[] result = new Claim[1];
+        entries.compute(key, (k, existing) -> {
+            if (existing == null || existing.expiresAt() <= now) {
+                result[0] = Claim.ACQUIRED;
+                return entries.size() < maxEntries ? new Entry(fingerprint, null, now + lease.toMillis()) : null;
+            }
+            if (!existing.fingerprint().equals(fingerprint)) {
+                result[0] = Claim.MISMATCH;
+            } else if (existing.response() == null) {
+                result[0] = Claim.IN_FLIGHT;
+            } else {
+                result[0] = Claim.replay(existing.response());
+            }
+            return existing;
+        });
+        return result[0];
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response, Duration ttl) {
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        entries.computeIfPresent(key, (k, entry) -> new Entry(entry.fingerprint(), response, expiresAt));
+    }
+
+    @Override
+    public void release(String key) {
+        entries.computeIfPresent(key, (k, entry) -> entry.response() == null ? null : entry);
+    }
+
+    private record Entry(String fingerprint, StoredResponse response, long expiresAt) {}
+}
@@ -0,0 +1,77 @@
+package sv.udb.puntoeventoapi.config.idempotency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Almacén compartido entre instancias sobre la tabla {@code idempotency_keys} (migración V3).
+ * La reserva es un INSERT: la llave primaria garantiza que solo una petición la obtenga.
+ * Las filas vencidas se borran de forma periódica al reservar.
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final int PURGE_EVERY = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicInteger claims = new AtomicInteger();
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Claim claim(String key, String fingerprint, Duration lease) {
+        Instant now = Instant.now();
+        if (claims.incrementAndGet() % PURGE_EVERY == 0) {
+            jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at <= ?", Timestamp.from(now));
+        }
+        // Una clave vencida se borra para poder reservarla de nuevo
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND expires_at <= ?",
+                key, Timestamp.from(now));
+        try {
+            jdbcTemplate.update("INSERT INTO idempotency_keys (idempotency_key, fingerprint, created_at, expires_at) " +
+                            "VALUES (?, ?, ?, ?)",
+                    key, fingerprint, Timestamp.from(now), Timestamp.from(now.plus(lease)));
+            return Claim.ACQUIRED;
+        } catch (DuplicateKeyException e) {
+            List<Claim> existing = jdbcTemplate.query(
+                    "SELECT fingerprint, status_code, content_type, body FROM idempotency_keys WHERE idempotency_key = ?",
+                    (rs, row) -> {
+                        if (!fingerprint.equals(rs.getString("fingerprint"))) {
+                            return Claim.MISMATCH;
+                        }
+                        int status = rs.getInt("status_code");
+                        if (rs.wasNull()) {
+                            return Claim.IN_FLIGHT;
+                        }
+                        return Claim.replay(new StoredResponse(status, rs.getString("content_type"), rs.getBytes("body")));
+                    },
+                    key);
+            // Si la otra petición liberó la clave entre el INSERT y la consulta, se trata como en curso
+            return existing.isEmpty() ? Claim.IN_FLIGHT : existing.get(0);
+        }
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response, Duration ttl) {
+        jdbcTemplate.update("UPDATE idempotency_keys SET status_code = ?, content_type = ?, body = ?, expires_at = ? " +
+                        "WHERE idempotency_key = ?",
+                response.status(), response.contentType(), response.body(),
+                Timestamp.from(Instant.now().plus(ttl)), key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND status_code IS NULL", key);
+    }
+}
@@ -0,0 +1,44 @@
+package sv.udb.puntoeventoapi.config.jdbc;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Envuelve el DataSource de Hikari en un proxy de datasource-proxy para contar y medir
+ * las sentencias ejecutadas. Se desactiva con {@code app.jdbc.instrumentation.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.jdbc.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceProxyConfig implements BeanPostProcessor {
+
+    private final long slowQueryMillis;
+    private final int repeatedQueryThreshold;
+    private final double sqlSampleRate;
+
+    public DataSourceProxyConfig(
+            @Value("${app.jdbc.slow-query-ms:200}") long slowQueryMillis,
+            @Value("${app.jdbc.repeated-query-threshold:5}") int repeatedQueryThreshold,
+            @Value("${app.jdbc.sql-log-sample-rate:0}") double sqlSampleRate
+    ) {
+        this.slowQueryMillis = slowQueryMillis;
+        this.repeatedQueryThreshold = repeatedQueryThreshold;
+        this.sqlSampleRate = sqlSampleRate;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new QueryCountListener(slowQueryMillis, repeatedQueryThreshold, sqlSampleRate))
+                    .build();
+        }
+        return bean;
+    }
+}
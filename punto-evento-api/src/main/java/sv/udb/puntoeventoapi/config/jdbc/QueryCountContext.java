@@ -0,0 +1,147 @@
+package sv.udb.puntoeventoapi.config.jdbc;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Conteo de sentencias JDBC del hilo actual. {@link QueryCountFilter} abre un contexto por
+ * petición HTTP y {@link QueryCountListener} registra cada sentencia ejecutada en él.
+ *
+ * <p>También sirve en pruebas para acotar las consultas de una operación:
+ * <pre>{@code
+ * QueryStats stats = QueryCountContext.capture(() -> service.getReservationById(id));
+ * assertThat(stats.statements()).isLessThanOrEqualTo(6);
+ * }</pre>
+ *
+ * <p>No es seguro entre hilos: cada contexto pertenece al hilo que lo abrió.
+ */
+public final class QueryCountContext {
+
+    private static final ThreadLocal<QueryCountContext> CURRENT = new ThreadLocal<>();
+
+    private final String label;
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int statements;
+    private int slowStatements;
+    private long totalNanos;
+    private long statementStartedAt;
+
+    private QueryCountContext(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Abre un contexto en el hilo actual, reemplazando el anterior si lo hubiera.
+     */
+    public static QueryCountContext start(String label) {
+        QueryCountContext context = new QueryCountContext(label);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Contexto abierto en el hilo actual, o {@code null} si no hay ninguno.
+     */
+    public static QueryCountContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Cierra el contexto del hilo actual y devuelve lo registrado.
+     */
+    public static QueryStats stop() {
+        QueryCountContext context = CURRENT.get();
+        CURRENT.remove();
+        return context != null ? context.snapshot() : QueryStats.EMPTY;
+    }
+
+    /**
+     * Ejecuta la acción dentro de un contexto propio y devuelve sus estadísticas.
+     */
+    public static QueryStats capture(Runnable action) {
+        return capture("captura", () -> {
+            action.run();
+            return null;
+        }).stats();
+    }
+
+    public static <T> Captured<T> capture(String label, Supplier<T> action) {
+        QueryCountContext previous = CURRENT.get();
+        start(label);
+        try {
+            T result = action.get();
+            return new Captured<>(result, CURRENT.get().snapshot());
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public String label() {
+        return label;
+    }
+
+    void markStatementStart() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    long elapsedSinceMark() {
+        return statementStartedAt == 0 ? 0 : System.nanoTime() - statementStartedAt;
+    }
+
+    void recordExecution(long nanos, boolean slow) {
+        statements++;
+        totalNanos += nanos;
+        if (slow) {
+            slowStatements++;
+        }
+        statementStartedAt = 0;
+    }
+
+    /**
+     * Registra la sentencia (texto SQL con parámetros, sin normalizar) y devuelve cuántas veces
+     * se ha visto en este contexto.
+     */
+    int recordShape(String shape) {
+        return shapes.merge(shape, 1, Integer::sum);
+    }
+
+    public QueryStats snapshot() {
+        Map<String, Integer> repeated = shapes.entrySet().stream()
+                .filter(e -> e.getValue() > 1)
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return new QueryStats(label, statements, totalNanos, slowStatements, repeated);
+    }
+
+    /**
+     * Resultado de {@link #capture(String, Supplier)}.
+     */
+    public record Captured<T>(T result, QueryStats stats) {}
+
+    /**
+     * Estadísticas de un contexto. {@code repeatedStatements} contiene las sentencias que se
+     * ejecutaron más de una vez con su número de repeticiones.
+     */
+    public record QueryStats(
+            String label,
+            int statements,
+            long totalNanos,
+            int slowStatements,
+            Map<String, Integer> repeatedStatements
+    ) {
+        public static final QueryStats EMPTY = new QueryStats("", 0, 0, 0, Map.of());
+
+        public double totalMillis() {
+            return totalNanos / 1_000_000.0;
+        }
+
+        public int maxRepetitions() {
+            return repeatedStatements.values().stream().mapToInt(Integer::intValue).max().orElse(1);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package sv.udb.puntoeventoapi.config.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Abre un {@link QueryCountContext} por petición (antes de la cadena de seguridad, para incluir
+ * la carga del usuario del JWT) y al final registra cuántas sentencias ejecutó.
+ * Si una prueba ya abrió un contexto en el mismo hilo (MockMvc), se reutiliza.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnProperty(name = "app.jdbc.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final int maxStatementsPerRequest;
+
+    public QueryCountFilter(@Value("${app.jdbc.max-statements-per-request:50}") int maxStatementsPerRequest) {
+        this.maxStatementsPerRequest = maxStatementsPerRequest;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (QueryCountContext.current() != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        QueryCountContext.start(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCountContext.QueryStats stats = QueryCountContext.stop();
+            if (stats.statements() > maxStatementsPerRequest) {
+                log.warn("{} ejecutó {} sentencias SQL en {} ms (máximo esperado {})",
+                        stats.label(), stats.statements(), Math.round(stats.totalMillis()), maxStatementsPerRequest);
+            } else if (log.isDebugEnabled() && stats.statements() > 0) {
+                log.debug("{} ejecutó {} sentencias SQL en {} ms",
+                        stats.label(), stats.statements(), Math.round(stats.totalMillis()));
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package sv.udb.puntoeventoapi.config.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Recibe cada ejecución JDBC del proxy de datasource: la suma al contexto del hilo,
+ * registra las sentencias lentas con su número de parámetros y avisa cuando la misma
+ * sentencia se repite demasiadas veces en una petición (patrón N+1). Además envía una
+ * muestra de las sentencias al logger {@value #SQL_LOGGER}, que reemplaza a {@code show-sql}.
+ * <p>
+ * Las repeticiones se cuentan por el texto SQL tal cual: Hibernate genera siempre la misma cadena para
+ * la misma consulta, así que no hace falta normalizarla en cada ejecución. Solo se normalizan los
+ * espacios al escribir un log.
+ */
+@Slf4j
+class QueryCountListener implements QueryExecutionListener {
+
+    static final String SQL_LOGGER = "sv.udb.puntoeventoapi.sql";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Logger SQL_LOG = LoggerFactory.getLogger(SQL_LOGGER);
+
+    private final long slowThresholdNanos;
+    private final int repeatThreshold;
+    private final double sqlSampleRate;
+
+    QueryCountListener(long slowThresholdMillis, int repeatThreshold, double sqlSampleRate) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.repeatThreshold = Math.max(2, repeatThreshold);
+        this.sqlSampleRate = sqlSampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryCountContext context = QueryCountContext.current();
+        if (context != null) {
+            context.markStatementStart();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryCountContext context = QueryCountContext.current();
+        long nanos = context != null
+                ? context.elapsedSinceMark()
+                : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+        boolean slow = nanos >= slowThresholdNanos;
+
+        if (slow) {
+            for (QueryInfo query : queryInfoList) {
+                log.warn("Consulta lenta: {} ms, {} parámetros{}: {}",
+                        TimeUnit.NANOSECONDS.toMillis(nanos),
+                        bindCount(query),
+                        execInfo.isBatch() ? ", lote de " + execInfo.getBatchSize() : "",
+                        query.getQuery());
+            }
+        }
+
+        if (!slow && sampled()) {
+            for (QueryInfo query : queryInfoList) {
+                SQL_LOG.atInfo()
+                        .addKeyValue("elapsed_ms", TimeUnit.NANOSECONDS.toMillis(nanos))
+                        .addKeyValue("batch_size", execInfo.isBatch() ? execInfo.getBatchSize() : 1)
+                        .log("SQL {}", singleLine(query.getQuery()));
+            }
+        }
+
+        if (context == null) {
+            return;
+        }
+        context.recordExecution(nanos, slow);
+        for (QueryInfo query : queryInfoList) {
+            int seen = context.recordShape(query.getQuery());
+            if (seen == repeatThreshold) {
+                log.warn("Posible N+1 en {}: la misma consulta ya se ejecutó {} veces: {}",
+                        context.label(), seen, singleLine(query.getQuery()));
+            }
+        }
+    }
+
+    private boolean sampled() {
+        return sqlSampleRate > 0
+                && SQL_LOG.isInfoEnabled()
+                && (sqlSampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sqlSampleRate);
+    }
+
+    private static String singleLine(String sql) {
+        return WHITESPACE.matcher(sql).replaceAll(" ").trim();
+    }
+
+    private static int bindCount(QueryInfo query) {
+        return query.getParametersList().stream().mapToInt(List::size).sum();
+    }
+}
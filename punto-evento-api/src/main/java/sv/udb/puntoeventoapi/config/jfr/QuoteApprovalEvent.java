@@ -0,0 +1,34 @@
+package sv.udb.puntoeventoapi.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("puntoevento.QuoteApproval")
+@Label("Aprobación o rechazo de cotización")
+@Description("QuoteService.approveOrRejectQuote, incluido el registro del evento que crea la reservación")
+@Category({"Punto Evento", "Cotizaciones"})
+@StackTrace(false)
+public class QuoteApprovalEvent extends Event {
+
+    @Label("Cotización")
+    public String quoteId;
+
+    @Label("Acción")
+    public String action;
+
+    @Label("Estado anterior")
+    public String previousStatus;
+
+    @Label("Ítems")
+    public int itemCount;
+
+    @Label("Reservación encolada")
+    public boolean reservationQueued;
+
+    @Label("Exitosa")
+    public boolean success;
+}
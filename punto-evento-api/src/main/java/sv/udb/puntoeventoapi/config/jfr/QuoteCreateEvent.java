@@ -0,0 +1,28 @@
+package sv.udb.puntoeventoapi.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("puntoevento.QuoteCreate")
+@Label("Creación de cotización")
+@Description("QuoteService.create: cálculo de montos por ítem y guardado")
+@Category({"Punto Evento", "Cotizaciones"})
+@StackTrace(false)
+public class QuoteCreateEvent extends Event {
+
+    @Label("Cotización")
+    public String quoteId;
+
+    @Label("Cliente")
+    public String clientId;
+
+    @Label("Ítems")
+    public int itemCount;
+
+    @Label("Total")
+    public double total;
+}
@@ -0,0 +1,28 @@
+package sv.udb.puntoeventoapi.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("puntoevento.ReservationDetail")
+@Label("Detalle de reservación")
+@Description("Armado de ReservationDetailResponse: cotización, servicios, tareas y empleados asignados")
+@Category({"Punto Evento", "Reservaciones"})
+@StackTrace(false)
+public class ReservationDetailEvent extends Event {
+
+    @Label("Reservación")
+    public String reservationId;
+
+    @Label("Servicios")
+    public int itemCount;
+
+    @Label("Tareas")
+    public int taskCount;
+
+    @Label("Asignaciones")
+    public int assignmentCount;
+}
@@ -0,0 +1,31 @@
+package sv.udb.puntoeventoapi.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("puntoevento.TaskStatusTransition")
+@Label("Cambio de estado de tarea")
+@Description("Cambio de estado de una tarea y recálculo de su reservación; en lotes, un evento por tarea")
+@Category({"Punto Evento", "Tareas"})
+@StackTrace(false)
+public class TaskStatusTransitionEvent extends Event {
+
+    @Label("Tarea")
+    public String taskId;
+
+    @Label("Reservación")
+    public String reservationId;
+
+    @Label("Estado anterior")
+    public String fromStatus;
+
+    @Label("Estado nuevo")
+    public String toStatus;
+
+    @Label("Tamaño del lote")
+    public int batchSize;
+}
@@ -0,0 +1,22 @@
+package sv.udb.puntoeventoapi.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("puntoevento.TokenValidation")
+@Label("Validación de JWT")
+@Description("JwtUtil.validateToken: verificación de firma y expiración (no registra el token)")
+@Category({"Punto Evento", "Seguridad"})
+@StackTrace(false)
+public class TokenValidationEvent extends Event {
+
+    @Label("Válido")
+    public boolean valid;
+
+    @Label("Motivo del rechazo")
+    public String failure;
+}
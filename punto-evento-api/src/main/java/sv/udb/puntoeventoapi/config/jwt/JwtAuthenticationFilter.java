@@ -6,6 +6,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,9 +16,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
 import sv.udb.puntoeventoapi.modules.commons.common.exceptions.InvalidJwtException;
 import sv.udb.puntoeventoapi.config.security.UserDetailsServiceImpl;
+import sv.udb.puntoeventoapi.config.timing.ServerTiming;
 import sv.udb.puntoeventoapi.modules.user.entity.User;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Collections;
 import java.util.List;
 
@@ -29,15 +33,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final UserDetailsServiceImpl userDetailsService;
     private final ObjectMapper objectMapper;
 
+    // Token fijo del scrape de Prometheus (rol METRICS); vacío = solo ADMIN con JWT
+    @Value("${app.metrics.scrape-token:}")
+    private String scrapeToken;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        // Solo se mide si Server-Timing está activo
+        ServerTiming timing = ServerTiming.of(request);
+        long authStart = timing != null ? System.nanoTime() : 0;
         try {
             HttpServletRequest httpRequest = (HttpServletRequest) request;
             String path = httpRequest.getRequestURI();
 
-            if (path.startsWith("/auth/login") || path.startsWith("/auth/register")) {
+            // El feed iCal lo piden los clientes de calendario sin JWT; lo protege el token de la URL
+            if (path.startsWith("/auth/login") || path.startsWith("/auth/register")
+                    || path.startsWith("/actuator/health") || path.startsWith("/api/calendar/feeds/")) {
                 filterChain.doFilter(request, response);
                 return;
             }
@@ -54,35 +67,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 String token = authHeader.substring(7);
 
-
-                if (!jwtUtil.validateToken(token)) {
-                    throw new InvalidJwtException("No autorizado");
-                }
-
-                String userId = jwtUtil.extractUserId(token);
-                User user = userDetailsService.getById(userId);
-
-                // Validar que el usuario esté activo
-                if (!user.getActive()) {
-                    throw new InvalidJwtException("Usuario inactivo");
+                if (path.startsWith("/actuator/prometheus") && isScrapeToken(token)) {
+                    SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                            "prometheus", null, List.of(new SimpleGrantedAuthority("ROLE_METRICS"))));
+                } else {
+                    if (!jwtUtil.validateToken(token)) {
+                        throw new InvalidJwtException("No autorizado");
+                    }
+
+                    String userId = jwtUtil.extractUserId(token);
+                    User user = userDetailsService.getById(userId);
+
+                    // Validar que el usuario esté activo
+                    if (!user.getActive()) {
+                        throw new InvalidJwtException("Usuario inactivo");
+                    }
+
+                    // Crear la autoridad con el rol del usuario (ROLE_ADMIN, ROLE_EMPLOYEE, ROLE_CLIENT)
+                    SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + user.getUserType().name());
+
+                    var auth = new UsernamePasswordAuthenticationToken(
+                            user, 
+                            null, 
+                            Collections.singletonList(authority)
+                    );
+                    auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(auth);
                 }
 
-                // Crear la autoridad con el rol del usuario (ROLE_ADMIN, ROLE_EMPLOYEE, ROLE_CLIENT)
-                SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + user.getUserType().name());
-                
-                var auth = new UsernamePasswordAuthenticationToken(
-                        user, 
-                        null, 
-                        Collections.singletonList(authority)
-                );
-                auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(auth);
-
-
             } else {
                 throw new InvalidJwtException("No autorizado");
             }
         } catch (Exception ex) {
+            ServerTiming.record(timing, ServerTiming.AUTH, authStart);
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.setContentType("application/json");
 
@@ -100,6 +117,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         }
 
+        ServerTiming.record(timing, ServerTiming.AUTH, authStart);
         filterChain.doFilter(request, response);
     }
+
+    private boolean isScrapeToken(String token) {
+        return scrapeToken != null && !scrapeToken.isBlank()
+                && MessageDigest.isEqual(scrapeToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
 }
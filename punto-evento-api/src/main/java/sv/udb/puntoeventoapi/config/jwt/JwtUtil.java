@@ -4,6 +4,7 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import sv.udb.puntoeventoapi.config.jfr.TokenValidationEvent;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
@@ -36,11 +37,23 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token) {
+        TokenValidationEvent event = new TokenValidationEvent();
+        event.begin();
+        // Los campos del evento se llenan al final y solo si JFR lo va a registrar
+        Class<?> failure = null;
         try {
             getClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
+            failure = e.getClass();
             return false;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.valid = failure == null;
+                event.failure = failure != null ? failure.getSimpleName() : null;
+                event.commit();
+            }
         }
     }
 
@@ -0,0 +1,90 @@
+package sv.udb.puntoeventoapi.config.metrics;
+
+/**
+ * Nombres y etiquetas de las métricas publicadas en {@code /actuator/prometheus}.
+ * En Prometheus los puntos se convierten en guiones bajos y los timers agregan la unidad
+ * (por ejemplo {@code http.server.requests} → {@code http_server_requests_seconds_bucket}).
+ */
+public final class MetricNames {
+
+    private MetricNames() {
+    }
+
+    /** Etiqueta común a todas las métricas: nombre de la aplicación. */
+    public static final String TAG_APPLICATION = "application";
+
+    // ---- HTTP (un timer por mapping de controlador) ----
+
+    /** Timer con histograma por petición. Etiquetas: method, uri (plantilla de la ruta), status, outcome, exception. */
+    public static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    public static final String TAG_URI = "uri";
+    public static final String TAG_METHOD = "method";
+    public static final String TAG_STATUS = "status";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_EXCEPTION = "exception";
+
+    // ---- Repositorios Spring Data ----
+
+    /**
+     * Timer por método de repositorio (findByClientId, findByReservationId, ...).
+     * Etiquetas: repository, method, state (SUCCESS, ERROR, CANCELED, RUNNING), exception.
+     */
+    public static final String REPOSITORY_INVOCATIONS = "spring.data.repository.invocations";
+    public static final String TAG_REPOSITORY = "repository";
+    public static final String TAG_REPOSITORY_METHOD = "method";
+    public static final String TAG_STATE = "state";
+
+    // ---- Hibernate (requiere hibernate.generate_statistics=true) ----
+    // Etiqueta común: entityManagerFactory
+
+    /** Contador de consultas ejecutadas. */
+    public static final String HIBERNATE_QUERY_EXECUTIONS = "hibernate.query.executions";
+    /** Duración de la consulta más lenta observada. */
+    public static final String HIBERNATE_QUERY_EXECUTIONS_MAX = "hibernate.query.executions.max";
+    /** Contador de entidades cargadas, insertadas, actualizadas y eliminadas. */
+    public static final String HIBERNATE_ENTITIES_LOADS = "hibernate.entities.loads";
+    public static final String HIBERNATE_ENTITIES_INSERTS = "hibernate.entities.inserts";
+    public static final String HIBERNATE_ENTITIES_UPDATES = "hibernate.entities.updates";
+    public static final String HIBERNATE_ENTITIES_DELETES = "hibernate.entities.deletes";
+    /** Cargas de colecciones perezosas: un valor alto frente a las consultas delata N+1. */
+    public static final String HIBERNATE_COLLECTIONS_LOADS = "hibernate.collections.loads";
+    /** Sentencias preparadas y transacciones. Etiqueta result en transacciones: success, failure. */
+    public static final String HIBERNATE_STATEMENTS = "hibernate.statements";
+    public static final String HIBERNATE_TRANSACTIONS = "hibernate.transactions";
+    /** Fallos de versión optimista (ver OptimisticRetry). */
+    public static final String HIBERNATE_OPTIMISTIC_FAILURES = "hibernate.optimistic.failures";
+    /** Caché de segundo nivel, solo si está configurada. Etiquetas: region, result (hit, miss). */
+    public static final String HIBERNATE_SECOND_LEVEL_CACHE_REQUESTS = "hibernate.second.level.cache.requests";
+
+    // ---- Pool de conexiones HikariCP ----
+    // Etiqueta común: pool
+
+    /** Conexiones en uso, libres y totales. */
+    public static final String HIKARI_CONNECTIONS_ACTIVE = "hikaricp.connections.active";
+    public static final String HIKARI_CONNECTIONS_IDLE = "hikaricp.connections.idle";
+    public static final String HIKARI_CONNECTIONS_MAX = "hikaricp.connections.max";
+    /** Hilos esperando una conexión; mayor que 0 de forma sostenida indica saturación del pool. */
+    public static final String HIKARI_CONNECTIONS_PENDING = "hikaricp.connections.pending";
+    /** Timers: espera para obtener una conexión y tiempo que se retiene. */
+    public static final String HIKARI_CONNECTIONS_ACQUIRE = "hikaricp.connections.acquire";
+    public static final String HIKARI_CONNECTIONS_USAGE = "hikaricp.connections.usage";
+    /** Contador de peticiones que agotaron connection-timeout. */
+    public static final String HIKARI_CONNECTIONS_TIMEOUT = "hikaricp.connections.timeout";
+
+    // ---- Notificaciones por correo (app.notifications.enabled=true) ----
+
+    /** Contadores de correos enviados, fallidos y avisos descartados por cola llena. */
+    public static final String NOTIFICATIONS_SENT = "notifications.sent";
+    public static final String NOTIFICATIONS_FAILED = "notifications.failed";
+    public static final String NOTIFICATIONS_DROPPED = "notifications.dropped";
+    /** Avisos en cola esperando su ventana de envío. */
+    public static final String NOTIFICATIONS_QUEUED = "notifications.queued";
+
+    // ---- Caché del detalle de reservaciones ----
+
+    /** Consultas de detalle resueltas desde la caché y armadas desde la base de datos. */
+    public static final String RESERVATION_DETAIL_CACHE_HITS = "reservations.detail_cache.hits";
+    public static final String RESERVATION_DETAIL_CACHE_MISSES = "reservations.detail_cache.misses";
+    /** Detalles guardados en la caché. */
+    public static final String RESERVATION_DETAIL_CACHE_SIZE = "reservations.detail_cache.size";
+}
@@ -0,0 +1,53 @@
+package sv.udb.puntoeventoapi.config.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Histogramas de latencia para las peticiones HTTP, los repositorios y el pool de conexiones,
+ * de modo que Prometheus pueda calcular p50/p95/p99 agregando instancias.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final Set<String> LATENCY_TIMERS = Set.of(
+            MetricNames.HTTP_SERVER_REQUESTS,
+            MetricNames.REPOSITORY_INVOCATIONS,
+            MetricNames.HIKARI_CONNECTIONS_ACQUIRE,
+            MetricNames.HIKARI_CONNECTIONS_USAGE
+    );
+
+    @Bean
+    public MeterFilter latencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!LATENCY_TIMERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue(nanos(Duration.ofMillis(1)))
+                        .maximumExpectedValue(nanos(Duration.ofSeconds(10)))
+                        .serviceLevelObjectives(
+                                nanos(Duration.ofMillis(50)),
+                                nanos(Duration.ofMillis(100)),
+                                nanos(Duration.ofMillis(250)),
+                                nanos(Duration.ofMillis(500)),
+                                nanos(Duration.ofSeconds(1)))
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    private static double nanos(Duration duration) {
+        return duration.toNanos();
+    }
+}
@@ -0,0 +1,87 @@
+package sv.udb.puntoeventoapi.config.nativeimage;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.util.ClassUtils;
+import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Pistas de reflexión para la imagen nativa. Los controladores devuelven {@code ApiResponse<?>},
+ * así que Spring no puede deducir qué DTOs serializa Jackson; se registran todos los tipos de
+ * {@code dto}, {@code entity}, {@code event} y {@code enums} de los módulos (incluidos los builders de Lombok,
+ * que son clases anidadas), además de las clases que JJWT carga por nombre.
+ */
+public class NativeImageHints implements RuntimeHintsRegistrar {
+
+    private static final String MODULES_PACKAGE = "sv.udb.puntoeventoapi.modules";
+    private static final Pattern BINDING_TYPES = Pattern.compile(
+            Pattern.quote(MODULES_PACKAGE) + "\\.(.+\\.dto|.+\\.entity|.+\\.event|commons\\.enums)\\..+");
+
+    // JJWT 0.11 instancia su implementación y el serializador Jackson por reflexión / ServiceLoader
+    private static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+        for (Class<?> type : bindingTypes(classLoader)) {
+            bindings.registerReflectionHints(hints.reflection(), type);
+            if (type.getPackageName().endsWith(".entity")) {
+                hints.reflection().registerType(type,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+        }
+
+        bindings.registerReflectionHints(hints.reflection(), ApiResponse.class);
+
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+        hints.resources().registerPattern("templates/notifications/*.txt");
+    }
+
+    /**
+     * Recorre el classpath al compilar (el registrador solo corre durante el procesamiento AOT).
+     */
+    static List<Class<?>> bindingTypes(ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent() && !beanDefinition.getMetadata().isAnnotation();
+            }
+        };
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter(new RegexPatternTypeFilter(BINDING_TYPES));
+
+        List<Class<?>> types = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(MODULES_PACKAGE)) {
+            types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+        return types;
+    }
+}
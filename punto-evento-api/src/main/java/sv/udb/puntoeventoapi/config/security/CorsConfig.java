@@ -3,6 +3,8 @@ package sv.udb.puntoeventoapi.config.security;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.*;
+import sv.udb.puntoeventoapi.config.idempotency.IdempotencyFilter;
+import sv.udb.puntoeventoapi.config.logging.CorrelationIdFilter;
 
 @Configuration
 public class CorsConfig {
@@ -33,6 +35,9 @@ public class CorsConfig {
         // Exponer headers necesarios
         config.addExposedHeader("Authorization");
         config.addExposedHeader("Content-Type");
+        config.addExposedHeader(CorrelationIdFilter.HEADER);
+        config.addExposedHeader(IdempotencyFilter.REPLAYED_HEADER);
+        config.addExposedHeader("Content-Disposition");
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
@@ -0,0 +1,80 @@
+package sv.udb.puntoeventoapi.config.timing;
+
+import jakarta.servlet.ServletRequest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tiempos por fase de una petición. {@link ServerTimingFilter} la deja como atributo de la
+ * petición solo cuando la función está activa; los demás componentes la obtienen con
+ * {@link #of(ServletRequest)} y no miden nada si devuelve {@code null}.
+ */
+public final class ServerTiming {
+
+    public static final String AUTH = "auth";
+    public static final String DB = "db";
+    public static final String HANDLER = "handler";
+    public static final String SERIALIZATION = "ser";
+    public static final String TOTAL = "total";
+
+    static final String ATTRIBUTE = ServerTiming.class.getName();
+
+    private final long startedAt = System.nanoTime();
+    private final Map<String, Long> durations = new LinkedHashMap<>();
+    private long handlerStartedAt;
+    private long serializationStartedAt;
+
+    ServerTiming() {
+    }
+
+    public static ServerTiming of(ServletRequest request) {
+        return (ServerTiming) request.getAttribute(ATTRIBUTE);
+    }
+
+    /**
+     * Suma la duración desde {@code startNanos} a la fase indicada; no hace nada si la función está apagada.
+     */
+    public static void record(ServerTiming timing, String phase, long startNanos) {
+        if (timing != null) {
+            timing.add(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    public void add(String phase, long nanos) {
+        durations.merge(phase, nanos, Long::sum);
+    }
+
+    void handlerStarted() {
+        handlerStartedAt = System.nanoTime();
+    }
+
+    /**
+     * El controlador devolvió su resultado y comienza la escritura del cuerpo.
+     */
+    void serializationStarted() {
+        long now = System.nanoTime();
+        if (handlerStartedAt != 0 && serializationStartedAt == 0) {
+            add(HANDLER, now - handlerStartedAt);
+        }
+        serializationStartedAt = now;
+    }
+
+    /**
+     * Cierra las fases abiertas; se llama una vez al terminar la cadena de filtros.
+     */
+    void finish() {
+        long now = System.nanoTime();
+        if (serializationStartedAt != 0) {
+            add(SERIALIZATION, now - serializationStartedAt);
+        } else if (handlerStartedAt != 0) {
+            // Respuestas sin cuerpo serializado (void, ResponseEntity vacío)
+            add(HANDLER, now - handlerStartedAt);
+        }
+        durations.put(TOTAL, now - startedAt);
+    }
+
+    Map<String, Long> durations() {
+        return durations;
+    }
+}
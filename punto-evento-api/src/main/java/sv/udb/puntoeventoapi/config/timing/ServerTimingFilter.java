@@ -0,0 +1,106 @@
+package sv.udb.puntoeventoapi.config.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import sv.udb.puntoeventoapi.config.jdbc.QueryCountContext;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Mide el costo de cada petición por fase (autenticación, base de datos, controlador y
+ * serialización) y lo devuelve en la cabecera estándar {@code Server-Timing}, además de una
+ * línea de log con los mismos valores. Se activa con {@code app.server-timing.enabled=true}.
+ *
+ * <p>Se ubica dentro de {@code QueryCountFilter} para leer las sentencias de la petición antes
+ * de que se cierre su contexto. El cuerpo se retiene en memoria para poder escribir la cabecera
+ * al final, por eso la función está apagada por defecto. Las respuestas en flujo (exportaciones y
+ * feeds iCal) quedan fuera: no deben acumularse en memoria.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 25)
+@ConditionalOnProperty(name = "app.server-timing.enabled", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+    private static final List<String> STREAMING_PREFIXES = List.of("/api/exports/", "/api/calendar/feeds/");
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return STREAMING_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ServerTiming timing = new ServerTiming();
+        request.setAttribute(ServerTiming.ATTRIBUTE, timing);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            timing.finish();
+            QueryCountContext queries = QueryCountContext.current();
+            int statements = -1;
+            if (queries != null) {
+                QueryCountContext.QueryStats stats = queries.snapshot();
+                timing.add(ServerTiming.DB, stats.totalNanos());
+                statements = stats.statements();
+            }
+
+            if (!wrapper.isCommitted()) {
+                wrapper.setHeader(HEADER, header(timing.durations(), statements));
+            }
+            wrapper.copyBodyToResponse();
+            logTiming(request, wrapper.getStatus(), timing.durations(), statements);
+        }
+    }
+
+    static String header(Map<String, Long> durations, int statements) {
+        StringBuilder sb = new StringBuilder(128);
+        durations.forEach((phase, nanos) -> {
+            if (!sb.isEmpty()) {
+                sb.append(", ");
+            }
+            sb.append(phase).append(";dur=").append(millis(nanos));
+            if (ServerTiming.DB.equals(phase) && statements >= 0) {
+                sb.append(";desc=\"").append(statements).append(" sentencias\"");
+            }
+        });
+        return sb.toString();
+    }
+
+    private static void logTiming(HttpServletRequest request, int status, Map<String, Long> durations, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : request.getRequestURI();
+
+        var event = log.atInfo()
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("uri", uri)
+                .addKeyValue("status", status);
+        durations.forEach((phase, nanos) -> event.addKeyValue(phase + "_ms", millis(nanos)));
+        if (statements >= 0) {
+            event.addKeyValue("db_statements", statements);
+        }
+        event.log("Server-Timing {} {} {}: {}", request.getMethod(), uri, status, header(durations, statements));
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import sv.udb.puntoeventoapi.modules.assignment.dto.AssignmentDto;
 import sv.udb.puntoeventoapi.modules.assignment.dto.AssignmentResponse;
+import sv.udb.puntoeventoapi.modules.assignment.dto.AutoAssignResponse;
 import sv.udb.puntoeventoapi.modules.assignment.service.AssignmentService;
 import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
 import sv.udb.puntoeventoapi.modules.commons.common.ApiResponseUtil;
@@ -43,6 +44,16 @@ public class AssignmentController {
         ));
     }
 
+    @PostMapping("/reservations/{reservationId}/auto-assign")
+    public ResponseEntity<ApiResponse<AutoAssignResponse>> autoAssign(
+            @PathVariable String reservationId,
+            @CurrentUser User currentUser
+    ) {
+        return ResponseEntity.ok(ApiResponseUtil.success(
+                service.autoAssign(UUID.fromString(reservationId), currentUser.getId())
+        ));
+    }
+
     @GetMapping("/assignments/{id}")
     public ResponseEntity<ApiResponse<AssignmentResponse>> getById(@PathVariable String id) {
         return ResponseEntity.ok(ApiResponseUtil.success(
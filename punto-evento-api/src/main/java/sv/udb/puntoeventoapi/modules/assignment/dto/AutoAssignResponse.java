@@ -0,0 +1,16 @@
+package sv.udb.puntoeventoapi.modules.assignment.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record AutoAssignResponse(
+        UUID reservationId,
+        List<AssignmentResponse> assignments,
+        List<UUID> unassignedTaskIds,
+        long maxLoadMinutes,
+        long evaluations,
+        long elapsedMillis
+) {}
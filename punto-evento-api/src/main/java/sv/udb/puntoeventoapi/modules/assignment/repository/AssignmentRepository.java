@@ -1,12 +1,42 @@
 package sv.udb.puntoeventoapi.modules.assignment.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sv.udb.puntoeventoapi.modules.assignment.entity.Assignment;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface AssignmentRepository extends JpaRepository<Assignment, UUID> {
     List<Assignment> findByTaskId(UUID taskId);
     List<Assignment> findByEmployeeId(UUID employeeId);
+
+    @Query("SELECT a FROM Assignment a JOIN FETCH a.task t " +
+           "WHERE a.employee.id IN :employeeIds AND t.status IN :statuses " +
+           "AND t.startDatetime < :to AND t.endDatetime > :from")
+    List<Assignment> findWorkloadInWindow(
+            @Param("employeeIds") Collection<UUID> employeeIds,
+            @Param("statuses") Collection<TaskStatus> statuses,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    interface CalendarFingerprint {
+        long getTasks();
+        LocalDateTime getLastTaskUpdate();
+        LocalDateTime getLastAssignment();
+        LocalDateTime getLastReservationUpdate();
+    }
+
+    // Resumen barato del feed iCal de un empleado: si no cambia, el calendario tampoco (ETag)
+    @Query("SELECT COUNT(t) AS tasks, MAX(t.updatedAt) AS lastTaskUpdate, MAX(a.assignedAt) AS lastAssignment, " +
+           "MAX(r.updatedAt) AS lastReservationUpdate FROM Assignment a JOIN a.task t JOIN t.reservation r " +
+           "WHERE a.employee.id = :employeeId AND t.startDatetime < :to AND t.endDatetime > :from")
+    CalendarFingerprint findCalendarFingerprint(
+            @Param("employeeId") UUID employeeId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 }
@@ -1,18 +1,37 @@
 package sv.udb.puntoeventoapi.modules.assignment.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import sv.udb.puntoeventoapi.modules.assignment.dto.AssignmentDto;
 import sv.udb.puntoeventoapi.modules.assignment.dto.AssignmentResponse;
+import sv.udb.puntoeventoapi.modules.assignment.dto.AutoAssignResponse;
 import sv.udb.puntoeventoapi.modules.assignment.entity.Assignment;
 import sv.udb.puntoeventoapi.modules.assignment.repository.AssignmentRepository;
+import sv.udb.puntoeventoapi.modules.commons.common.exceptions.FieldValidationException;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.Status;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+import sv.udb.puntoeventoapi.modules.employee.entity.Employee;
+import sv.udb.puntoeventoapi.modules.reservation.repository.ReservationRepository;
+import sv.udb.puntoeventoapi.modules.reservation.service.ReservationDetailCache;
+import sv.udb.puntoeventoapi.modules.task.entity.Task;
 import sv.udb.puntoeventoapi.modules.task.repository.TaskRepository;
 import sv.udb.puntoeventoapi.modules.employee.repository.EmployeeRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AssignmentService {
@@ -20,6 +39,9 @@ public class AssignmentService {
     private final AssignmentRepository repository;
     private final TaskRepository taskRepository;
     private final EmployeeRepository employeeRepository;
+    private final ReservationRepository reservationRepository;
+    private final StaffingSolver staffingSolver;
+    private final ReservationDetailCache reservationDetailCache;
 
     public AssignmentResponse create(UUID taskId, AssignmentDto dto, UUID createdBy) {
         var task = taskRepository.findById(taskId)
@@ -36,7 +58,103 @@ public class AssignmentService {
                 .notes(dto.notes())
                 .build();
 
-        return toResponse(repository.save(assignment));
+        Assignment saved = repository.save(assignment);
+        reservationDetailCache.invalidateAfterCommit(task.getReservation().getId());
+        return toResponse(saved);
+    }
+
+    /**
+     * Asigna automáticamente empleados activos a las tareas sin asignar de una reservación
+     * en EN_PLANEACION, evitando choques de horario y balanceando la carga.
+     * Las asignaciones resultantes se guardan en un solo lote.
+     */
+    @Transactional
+    public AutoAssignResponse autoAssign(UUID reservationId, UUID createdBy) {
+        long started = System.currentTimeMillis();
+
+        var reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new RuntimeException("Reserva no encontrada"));
+
+        if (reservation.getStatus() != ReservationStatus.EN_PLANEACION) {
+            throw new FieldValidationException("reservationId",
+                    "Solo se pueden asignar tareas cuando la reservación está en estado EN_PLANEACION");
+        }
+
+        List<Task> pending = taskRepository.findUnassignedByReservationId(reservationId,
+                List.of(TaskStatus.CANCELADA, TaskStatus.COMPLETADA));
+
+        List<Employee> employees = employeeRepository.findByStatus(Status.Activo);
+
+        if (pending.isEmpty() || employees.isEmpty()) {
+            return AutoAssignResponse.builder()
+                    .reservationId(reservationId)
+                    .assignments(List.of())
+                    .unassignedTaskIds(pending.stream().map(Task::getId).toList())
+                    .elapsedMillis(System.currentTimeMillis() - started)
+                    .build();
+        }
+
+        // Carga actual de cada empleado dentro de la ventana de las tareas pendientes
+        List<StaffingSolver.TaskSlot> slots = pending.stream()
+                .map(t -> new StaffingSolver.TaskSlot(t.getId(),
+                        new StaffingSolver.Interval(t.getStartDatetime(), t.getEndDatetime())))
+                .toList();
+
+        LocalDateTime from = pending.stream().map(Task::getStartDatetime).filter(Objects::nonNull)
+                .min(Comparator.naturalOrder()).orElse(LocalDateTime.now());
+        LocalDateTime to = pending.stream().map(Task::getEndDatetime).filter(Objects::nonNull)
+                .max(Comparator.naturalOrder()).orElse(from);
+
+        Map<UUID, List<StaffingSolver.Interval>> busyByEmployee = new HashMap<>();
+        repository.findWorkloadInWindow(
+                        employees.stream().map(Employee::getId).toList(),
+                        List.of(TaskStatus.PENDIENTE, TaskStatus.EN_PROCESO),
+                        from, to)
+                .forEach(a -> busyByEmployee
+                        .computeIfAbsent(a.getEmployee().getId(), id -> new ArrayList<>())
+                        .add(new StaffingSolver.Interval(a.getTask().getStartDatetime(), a.getTask().getEndDatetime())));
+
+        List<StaffingSolver.Candidate> candidates = employees.stream()
+                .map(e -> {
+                    List<StaffingSolver.Interval> busy = busyByEmployee.getOrDefault(e.getId(), List.of());
+                    long minutes = busy.stream().mapToLong(StaffingSolver.Interval::minutes).sum();
+                    return new StaffingSolver.Candidate(e.getId(), busy, minutes);
+                })
+                .toList();
+
+        StaffingSolver.Solution solution = staffingSolver.solve(slots, candidates);
+
+        Map<UUID, Task> tasksById = pending.stream().collect(Collectors.toMap(Task::getId, Function.identity()));
+        Map<UUID, Employee> employeesById = employees.stream().collect(Collectors.toMap(Employee::getId, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Assignment> batch = solution.assignments().entrySet().stream()
+                .map(entry -> Assignment.builder()
+                        .task(tasksById.get(entry.getKey()))
+                        .employee(employeesById.get(entry.getValue()))
+                        .assignedBy(createdBy)
+                        .assignedAt(now)
+                        .notes("Asignación automática")
+                        .build())
+                .toList();
+
+        List<AssignmentResponse> saved = repository.saveAll(batch).stream()
+                .map(this::toResponse)
+                .toList();
+        reservationDetailCache.invalidateAfterCommit(reservationId);
+
+        long elapsed = System.currentTimeMillis() - started;
+        log.info("Asignación automática de reservación {}: {} asignadas, {} sin asignar, {} evaluaciones en {} ms",
+                reservationId, saved.size(), solution.unassignedTaskIds().size(), solution.evaluations(), elapsed);
+
+        return AutoAssignResponse.builder()
+                .reservationId(reservationId)
+                .assignments(saved)
+                .unassignedTaskIds(solution.unassignedTaskIds())
+                .maxLoadMinutes(solution.maxLoadMinutes())
+                .evaluations(solution.evaluations())
+                .elapsedMillis(elapsed)
+                .build();
     }
 
     public List<AssignmentResponse> getByTaskId(UUID taskId) {
@@ -69,13 +187,16 @@ public class AssignmentService {
 
         assignment.setNotes(dto.notes());
 
-        return toResponse(repository.save(assignment));
+        Assignment saved = repository.save(assignment);
+        reservationDetailCache.invalidateAfterCommit(assignment.getTask().getReservation().getId());
+        return toResponse(saved);
     }
 
     public void delete(UUID id) {
         Assignment assignment = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Asignación no encontrada"));
         repository.delete(assignment);
+        reservationDetailCache.invalidateAfterCommit(assignment.getTask().getReservation().getId());
     }
 
     private AssignmentResponse toResponse(Assignment a) {
@@ -0,0 +1,201 @@
+package sv.udb.puntoeventoapi.modules.assignment.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Heurística de asignación automática de empleados a tareas.
+ * Construye soluciones voraces con distintos órdenes de tareas en paralelo sobre un
+ * ForkJoinPool y conserva la mejor encontrada dentro del presupuesto de tiempo.
+ */
+@Slf4j
+@Component
+public class StaffingSolver {
+
+    // Constante de la razón áurea en 64 bits: separa bien semillas consecutivas
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    private final ForkJoinPool pool;
+    private final long timeBudgetNanos;
+    private final int attempts;
+
+    public StaffingSolver(
+            @Value("${app.staffing.parallelism:0}") int parallelism,
+            @Value("${app.staffing.time-budget-ms:500}") long timeBudgetMillis,
+            @Value("${app.staffing.attempts:64}") int attempts
+    ) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.timeBudgetNanos = Duration.ofMillis(timeBudgetMillis).toNanos();
+        this.attempts = Math.max(1, attempts);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public record Interval(LocalDateTime start, LocalDateTime end) {
+        boolean overlaps(Interval other) {
+            if (start == null || end == null || other.start == null || other.end == null) {
+                return false;
+            }
+            return start.isBefore(other.end) && other.start.isBefore(end);
+        }
+
+        long minutes() {
+            if (start == null || end == null) {
+                return 0;
+            }
+            return Math.max(0, Duration.between(start, end).toMinutes());
+        }
+    }
+
+    public record TaskSlot(UUID taskId, Interval interval) {}
+
+    public record Candidate(UUID employeeId, List<Interval> busy, long assignedMinutes) {}
+
+    public record Solution(
+            Map<UUID, UUID> assignments,
+            List<UUID> unassignedTaskIds,
+            long maxLoadMinutes,
+            long loadSquares,
+            long evaluations
+    ) {}
+
+    /**
+     * Calcula la mejor asignación tarea → empleado encontrada.
+     * El primer intento (orden cronológico) siempre se completa; los demás se descartan
+     * si el presupuesto de tiempo ya se agotó.
+     */
+    public Solution solve(List<TaskSlot> tasks, List<Candidate> candidates) {
+        if (tasks.isEmpty() || candidates.isEmpty()) {
+            return new Solution(Map.of(),
+                    tasks.stream().map(TaskSlot::taskId).toList(), 0, 0, 0);
+        }
+
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        try {
+            return pool.submit(() -> IntStream.range(0, attempts)
+                    .parallel()
+                    .mapToObj(seed -> construct(tasks, candidates, seed, deadline))
+                    .filter(Objects::nonNull)
+                    .reduce(StaffingSolver::better)
+                    .orElseThrow()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Asignación automática interrumpida");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error en la asignación automática: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private Solution construct(List<TaskSlot> tasks, List<Candidate> candidates, int seed, long deadline) {
+        if (seed > 0 && System.nanoTime() > deadline) {
+            return null;
+        }
+
+        List<TaskSlot> order = new ArrayList<>(tasks);
+        // Random con semillas 1, 2, 3... da casi los mismos primeros valores y todos los intentos
+        // barajarían igual; la semilla se mezcla antes de crearlo
+        Random random = new Random(seed * SEED_MIX);
+        if (seed == 0) {
+            // Orden cronológico; a igual inicio, primero las tareas más largas
+            order.sort(Comparator
+                    .comparing((TaskSlot t) -> t.interval().start(), Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(t -> -t.interval().minutes()));
+        } else {
+            Collections.shuffle(order, random);
+        }
+
+        int n = candidates.size();
+        long[] loads = new long[n];
+        List<List<Interval>> busy = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            loads[i] = candidates.get(i).assignedMinutes();
+            busy.add(new ArrayList<>(candidates.get(i).busy()));
+        }
+
+        Map<UUID, UUID> assignments = new LinkedHashMap<>();
+        List<UUID> unassigned = new ArrayList<>();
+        long evaluations = 0;
+
+        for (TaskSlot task : order) {
+            if (seed > 0 && System.nanoTime() > deadline) {
+                return null;
+            }
+            int best = -1;
+            long bestScore = Long.MAX_VALUE;
+            // Empezar en una posición distinta por intento para variar los desempates
+            int offset = seed == 0 ? 0 : random.nextInt(n);
+            for (int k = 0; k < n; k++) {
+                int i = (k + offset) % n;
+                evaluations++;
+                if (conflicts(busy.get(i), task.interval())) {
+                    continue;
+                }
+                long score = loads[i] + task.interval().minutes();
+                if (score < bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            if (best < 0) {
+                unassigned.add(task.taskId());
+                continue;
+            }
+            loads[best] = bestScore;
+            busy.get(best).add(task.interval());
+            assignments.put(task.taskId(), candidates.get(best).employeeId());
+        }
+
+        long max = 0;
+        long squares = 0;
+        for (long load : loads) {
+            max = Math.max(max, load);
+            squares += load * load;
+        }
+        return new Solution(assignments, unassigned, max, squares, evaluations);
+    }
+
+    private static boolean conflicts(List<Interval> busy, Interval interval) {
+        for (Interval b : busy) {
+            if (b.overlaps(interval)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Prioriza: menos tareas sin asignar, menor carga máxima y luego la carga más pareja.
+     */
+    private static Solution better(Solution a, Solution b) {
+        Solution winner;
+        if (a.unassignedTaskIds().size() != b.unassignedTaskIds().size()) {
+            winner = a.unassignedTaskIds().size() < b.unassignedTaskIds().size() ? a : b;
+        } else if (a.maxLoadMinutes() != b.maxLoadMinutes()) {
+            winner = a.maxLoadMinutes() < b.maxLoadMinutes() ? a : b;
+        } else {
+            winner = a.loadSquares() <= b.loadSquares() ? a : b;
+        }
+        return new Solution(winner.assignments(), winner.unassignedTaskIds(), winner.maxLoadMinutes(),
+                winner.loadSquares(), a.evaluations() + b.evaluations());
+    }
+}
@@ -0,0 +1,83 @@
+package sv.udb.puntoeventoapi.modules.calendar.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import sv.udb.puntoeventoapi.modules.calendar.dto.CalendarFeedUrlResponse;
+import sv.udb.puntoeventoapi.modules.calendar.dto.CalendarResponse;
+import sv.udb.puntoeventoapi.modules.calendar.service.CalendarService;
+import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
+import sv.udb.puntoeventoapi.modules.commons.common.ApiResponseUtil;
+import sv.udb.puntoeventoapi.modules.commons.common.annotations.CurrentUser;
+import sv.udb.puntoeventoapi.modules.employee.entity.Employee;
+import sv.udb.puntoeventoapi.modules.user.entity.User;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+    private static final CacheControl FEED_CACHE = CacheControl.maxAge(Duration.ofMinutes(5)).cachePrivate();
+
+    private final CalendarService service;
+
+    // GET /api/calendar?from=2025-01-01&to=2025-01-31&types=reservations,tasks&employeeId=...
+    @GetMapping
+    public ResponseEntity<ApiResponse<CalendarResponse>> range(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String types,
+            @RequestParam(required = false) UUID employeeId) {
+        return ResponseEntity.ok(ApiResponseUtil.success(service.range(from, to, types, employeeId)));
+    }
+
+    // URL de suscripción del empleado autenticado (incluye su token)
+    @GetMapping("/feed-url")
+    public ResponseEntity<ApiResponse<CalendarFeedUrlResponse>> feedUrl(@CurrentUser User currentUser) {
+        Employee employee = service.employeeOf(currentUser);
+        String url = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/calendar/feeds/{employeeId}.ics")
+                .queryParam("token", service.feedToken(employee.getId()))
+                .buildAndExpand(employee.getId())
+                .toUriString();
+        return ResponseEntity.ok(ApiResponseUtil.success(CalendarFeedUrlResponse.builder()
+                .employeeId(employee.getId())
+                .url(url)
+                .build()));
+    }
+
+    /**
+     * Feed iCal público (protegido por el token de la URL). Con {@code If-None-Match} vigente
+     * responde 304 sin consultar las tareas.
+     */
+    @GetMapping("/feeds/{employeeId}.ics")
+    public ResponseEntity<StreamingResponseBody> feed(
+            @PathVariable UUID employeeId,
+            @RequestParam(required = false) String token,
+            WebRequest webRequest) {
+        CalendarService.Feed feed = service.openFeed(employeeId, token).orElse(null);
+        if (feed == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        if (webRequest.checkNotModified(feed.etag())) {
+            // checkNotModified ya dejó el 304 y el ETag en la respuesta
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(FEED_CACHE).build();
+        }
+        StreamingResponseBody body = out -> service.writeFeed(feed, out);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .eTag(feed.etag())
+                .cacheControl(FEED_CACHE)
+                .body(body);
+    }
+}
@@ -0,0 +1,23 @@
+package sv.udb.puntoeventoapi.modules.calendar.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Elemento del calendario: una reservación (en su fecha programada, sin fin) o una tarea.
+ */
+@Builder
+public record CalendarEntryResponse(
+        String type,
+        UUID id,
+        UUID reservationId,
+        String title,
+        LocalDateTime start,
+        LocalDateTime end,
+        String status,
+        String location,
+        String clientName
+) {
+}
@@ -0,0 +1,12 @@
+package sv.udb.puntoeventoapi.modules.calendar.dto;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+@Builder
+public record CalendarFeedUrlResponse(
+        UUID employeeId,
+        String url
+) {
+}
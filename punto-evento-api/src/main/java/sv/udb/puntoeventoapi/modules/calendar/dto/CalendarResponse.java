@@ -0,0 +1,14 @@
+package sv.udb.puntoeventoapi.modules.calendar.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+public record CalendarResponse(
+        LocalDate from,
+        LocalDate to,
+        List<CalendarEntryResponse> entries
+) {
+}
@@ -0,0 +1,54 @@
+package sv.udb.puntoeventoapi.modules.calendar.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Token de la URL del feed iCal. Las aplicaciones de calendario no envían el JWT, así que la URL
+ * lleva un HMAC del id del empleado: no se guarda nada y cambiar {@code app.calendar.feed-secret}
+ * invalida todas las suscripciones.
+ */
+@Component
+public class CalendarFeedTokens {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public CalendarFeedTokens(@Value("${app.calendar.feed-secret:${jwt.secret}}") String secret) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String tokenFor(UUID employeeId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sign(employeeId));
+    }
+
+    public boolean isValid(UUID employeeId, String token) {
+        if (token == null || token.isBlank()) {
+            return false;
+        }
+        try {
+            return MessageDigest.isEqual(sign(employeeId), Base64.getUrlDecoder().decode(token));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private byte[] sign(UUID employeeId) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(employeeId.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudo firmar el token del calendario", e);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package sv.udb.puntoeventoapi.modules.calendar.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import sv.udb.puntoeventoapi.modules.assignment.repository.AssignmentRepository;
+import sv.udb.puntoeventoapi.modules.calendar.dto.CalendarEntryResponse;
+import sv.udb.puntoeventoapi.modules.calendar.dto.CalendarResponse;
+import sv.udb.puntoeventoapi.modules.commons.common.exceptions.FieldValidationException;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+import sv.udb.puntoeventoapi.modules.employee.entity.Employee;
+import sv.udb.puntoeventoapi.modules.employee.repository.EmployeeRepository;
+import sv.udb.puntoeventoapi.modules.reservation.repository.ReservationRepository;
+import sv.udb.puntoeventoapi.modules.task.repository.TaskRepository;
+import sv.udb.puntoeventoapi.modules.user.entity.User;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Calendario de reservaciones y tareas por rango de fechas, y feed iCal de las tareas asignadas
+ * a un empleado.
+ *
+ * <p>El feed se consulta cada pocos minutos desde las aplicaciones de calendario: antes de armarlo
+ * se calcula un ETag con una sola consulta agregada (cantidad y últimas modificaciones de tareas,
+ * asignaciones y reservaciones de la ventana), y si coincide con {@code If-None-Match} se responde
+ * 304 sin leer las tareas.
+ */
+@Slf4j
+@Service
+public class CalendarService {
+
+    static final String RESERVATIONS = "reservations";
+    static final String TASKS = "tasks";
+    private static final Set<String> TYPES = Set.of(RESERVATIONS, TASKS);
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final ReservationRepository reservationRepository;
+    private final TaskRepository taskRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final EmployeeRepository employeeRepository;
+    private final CalendarFeedTokens feedTokens;
+    private final ZoneId zone;
+    private final int feedPastDays;
+    private final int feedFutureDays;
+
+    public CalendarService(
+            ReservationRepository reservationRepository,
+            TaskRepository taskRepository,
+            AssignmentRepository assignmentRepository,
+            EmployeeRepository employeeRepository,
+            CalendarFeedTokens feedTokens,
+            @Value("${app.calendar.time-zone:America/El_Salvador}") String timeZone,
+            @Value("${app.calendar.feed-past-days:30}") int feedPastDays,
+            @Value("${app.calendar.feed-future-days:365}") int feedFutureDays
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.taskRepository = taskRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.employeeRepository = employeeRepository;
+        this.feedTokens = feedTokens;
+        this.zone = ZoneId.of(timeZone);
+        this.feedPastDays = Math.max(0, feedPastDays);
+        this.feedFutureDays = Math.max(1, feedFutureDays);
+    }
+
+    /**
+     * Reservaciones (por fecha programada) y tareas que se cruzan con el rango, ambas fechas incluidas.
+     */
+    public CalendarResponse range(String from, String to, String types, UUID employeeId) {
+        LocalDate start = parseDate("from", from, LocalDate.now(zone));
+        LocalDate end = parseDate("to", to, start.plusDays(DEFAULT_RANGE_DAYS - 1));
+        if (end.isBefore(start)) {
+            throw new FieldValidationException("to", "La fecha final no puede ser anterior a la inicial");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new FieldValidationException("to", "El rango no puede superar " + MAX_RANGE_DAYS + " días");
+        }
+        Set<String> requested = parseTypes(types);
+
+        List<CalendarEntryResponse> entries = new ArrayList<>();
+        // Las reservaciones no tienen asignados: con filtro por empleado solo se muestran sus tareas
+        if (requested.contains(RESERVATIONS) && employeeId == null) {
+            reservationRepository.findCalendar(start.toString(), end.plusDays(1).toString()).forEach(r -> {
+                LocalDateTime scheduled = parseScheduledFor(r.getScheduledFor());
+                if (scheduled == null) {
+                    log.debug("Reservación {} con scheduledFor no reconocido: {}", r.getId(), r.getScheduledFor());
+                    return;
+                }
+                entries.add(CalendarEntryResponse.builder()
+                        .type("RESERVATION")
+                        .id(r.getId())
+                        .reservationId(r.getId())
+                        .title(r.getEventName())
+                        .start(scheduled)
+                        .status(r.getStatus() != null ? r.getStatus().name() : null)
+                        .location(r.getLocation())
+                        .clientName(r.getClientName())
+                        .build());
+            });
+        }
+        if (requested.contains(TASKS)) {
+            LocalDateTime windowStart = start.atStartOfDay();
+            LocalDateTime windowEnd = end.plusDays(1).atStartOfDay();
+            List<TaskRepository.CalendarRow> tasks = employeeId == null
+                    ? taskRepository.findCalendar(windowStart, windowEnd)
+                    : taskRepository.findCalendarByEmployee(employeeId, windowStart, windowEnd);
+            tasks.forEach(t -> entries.add(CalendarEntryResponse.builder()
+                    .type("TASK")
+                    .id(t.getId())
+                    .reservationId(t.getReservationId())
+                    .title(t.getTitle())
+                    .start(t.getStartDatetime())
+                    .end(t.getEndDatetime())
+                    .status(t.getStatus() != null ? t.getStatus().name() : null)
+                    .location(t.getLocation())
+                    .build()));
+        }
+        entries.sort(Comparator.comparing(CalendarEntryResponse::start));
+
+        return CalendarResponse.builder()
+                .from(start)
+                .to(end)
+                .entries(entries)
+                .build();
+    }
+
+    /**
+     * Empleado del usuario autenticado, para armar la URL de su feed.
+     */
+    public Employee employeeOf(User user) {
+        return employeeRepository.findByUserId(user.getId())
+                .orElseThrow(() -> new FieldValidationException("user", "Solo los empleados tienen calendario de tareas"));
+    }
+
+    public String feedToken(UUID employeeId) {
+        return feedTokens.tokenFor(employeeId);
+    }
+
+    /**
+     * Valida el token y calcula el ETag del feed. Vacío si el token no corresponde o el empleado no existe.
+     */
+    public Optional<Feed> openFeed(UUID employeeId, String token) {
+        if (!feedTokens.isValid(employeeId, token)) {
+            return Optional.empty();
+        }
+        return employeeRepository.findById(employeeId).map(employee -> {
+            LocalDate today = LocalDate.now(zone);
+            LocalDateTime from = today.minusDays(feedPastDays).atStartOfDay();
+            LocalDateTime to = today.plusDays(feedFutureDays).atStartOfDay();
+            AssignmentRepository.CalendarFingerprint fingerprint =
+                    assignmentRepository.findCalendarFingerprint(employeeId, from, to);
+            String etag = etag(employeeId, from, fingerprint, employee.getUpdatedAt(), employee.getName());
+            return new Feed(employeeId, employee.getName(), from, to, etag);
+        });
+    }
+
+    /**
+     * Escribe el feed evento por evento; se llama fuera del hilo de la petición.
+     */
+    public void writeFeed(Feed feed, OutputStream out) throws IOException {
+        IcsWriter writer = new IcsWriter(out, zone);
+        writer.begin("Tareas - " + (feed.employeeName() != null ? feed.employeeName() : "Punto Evento"));
+        for (TaskRepository.CalendarRow task : taskRepository.findCalendarByEmployee(feed.employeeId(), feed.from(), feed.to())) {
+            String summary = task.getEventName() != null
+                    ? task.getTitle() + " (" + task.getEventName() + ")"
+                    : task.getTitle();
+            writer.event(task.getId() + "@puntoevento",
+                    task.getUpdatedAt() != null ? task.getUpdatedAt() : task.getStartDatetime(),
+                    task.getStartDatetime(), task.getEndDatetime(),
+                    summary, task.getDescription(), task.getLocation(),
+                    task.getStatus() == TaskStatus.CANCELADA);
+        }
+        writer.end();
+    }
+
+    private static String etag(UUID employeeId, LocalDateTime from, AssignmentRepository.CalendarFingerprint fingerprint,
+                               LocalDateTime employeeUpdatedAt, String employeeName) {
+        String source = String.join("|", "v1", employeeId.toString(), from.toLocalDate().toString(),
+                String.valueOf(fingerprint.getTasks()), String.valueOf(fingerprint.getLastTaskUpdate()),
+                String.valueOf(fingerprint.getLastAssignment()), String.valueOf(fingerprint.getLastReservationUpdate()),
+                String.valueOf(employeeUpdatedAt), String.valueOf(employeeName));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * scheduledFor se guarda como texto ("AAAA-MM-DD HH:mm:ss", ISO o solo la fecha).
+     */
+    static LocalDateTime parseScheduledFor(String value) {
+        if (value == null || value.length() < 10) {
+            return null;
+        }
+        String normalized = value.replace(' ', 'T');
+        try {
+            if (normalized.length() >= 19) {
+                return LocalDateTime.parse(normalized.substring(0, 19));
+            }
+            if (normalized.length() >= 16) {
+                return LocalDateTime.parse(normalized.substring(0, 16));
+            }
+            return LocalDate.parse(normalized.substring(0, 10)).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDate.parse(normalized.substring(0, 10)).atStartOfDay();
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private static LocalDate parseDate(String field, String value, LocalDate fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new FieldValidationException(field, "Fecha inválida (use AAAA-MM-DD): " + value);
+        }
+    }
+
+    private static Set<String> parseTypes(String types) {
+        if (types == null || types.isBlank()) {
+            return TYPES;
+        }
+        Set<String> requested = new HashSet<>();
+        for (String type : types.split(",")) {
+            String normalized = type.trim().toLowerCase();
+            if (!TYPES.contains(normalized)) {
+                throw new FieldValidationException("types", "Tipo no válido: " + type + ". Use reservations o tasks");
+            }
+            requested.add(normalized);
+        }
+        return requested;
+    }
+
+    public record Feed(UUID employeeId, String employeeName, LocalDateTime from, LocalDateTime to, String etag) {
+    }
+}
@@ -0,0 +1,117 @@
+package sv.udb.puntoeventoapi.modules.calendar.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Escritor iCalendar (RFC 5545) en flujo: cada evento se escribe apenas se recibe. Las horas se
+ * convierten a UTC desde la zona de la aplicación para no tener que publicar un VTIMEZONE, y las
+ * líneas se pliegan a 75 octetos como pide la norma.
+ */
+class IcsWriter {
+
+    private static final DateTimeFormatter UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer writer;
+    private final ZoneId zone;
+
+    IcsWriter(OutputStream out, ZoneId zone) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        this.zone = zone;
+    }
+
+    void begin(String calendarName) throws IOException {
+        line("BEGIN", "VCALENDAR");
+        line("VERSION", "2.0");
+        line("PRODID", "-//Punto Evento//Calendario de tareas//ES");
+        line("CALSCALE", "GREGORIAN");
+        line("METHOD", "PUBLISH");
+        line("X-WR-CALNAME", escape(calendarName));
+    }
+
+    void event(String uid, LocalDateTime stamp, LocalDateTime start, LocalDateTime end,
+               String summary, String description, String location, boolean cancelled) throws IOException {
+        line("BEGIN", "VEVENT");
+        line("UID", uid);
+        line("DTSTAMP", utc(stamp));
+        line("DTSTART", utc(start));
+        line("DTEND", utc(end));
+        line("SUMMARY", escape(summary));
+        if (description != null && !description.isBlank()) {
+            line("DESCRIPTION", escape(description));
+        }
+        if (location != null && !location.isBlank()) {
+            line("LOCATION", escape(location));
+        }
+        line("STATUS", cancelled ? "CANCELLED" : "CONFIRMED");
+        line("END", "VEVENT");
+    }
+
+    void end() throws IOException {
+        line("END", "VCALENDAR");
+        writer.flush();
+    }
+
+    private String utc(LocalDateTime value) {
+        return value.atZone(zone).withZoneSameInstant(ZoneOffset.UTC).format(UTC);
+    }
+
+    static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            switch (ch) {
+                case '\\' -> sb.append("\\\\");
+                case ';' -> sb.append("\\;");
+                case ',' -> sb.append("\\,");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> { }
+                default -> sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Escribe {@code NOMBRE:valor} terminando en CRLF; si supera 75 octetos continúa en líneas
+     * que empiezan con un espacio, sin partir caracteres multibyte.
+     */
+    private void line(String name, String value) throws IOException {
+        String content = name + ":" + value;
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = utf8Length(codePoint);
+            if (octets + size > MAX_LINE_OCTETS) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(Character.toChars(codePoint));
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        writer.write("\r\n");
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+}
@@ -1,6 +1,7 @@
 package sv.udb.puntoeventoapi.modules.commons.common;
 
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -65,6 +66,20 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleConcurrencyFailure(ConcurrencyFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                ApiResponse.<Void>builder()
+                        .success(false)
+                        .message("El registro fue modificado por otro usuario, intente de nuevo")
+                        .errors(List.of(ApiResponse.ApiError.builder()
+                                .field("version")
+                                .message("Conflicto de concurrencia")
+                                .build()))
+                        .build()
+        );
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiResponse<Void>> handleRuntime(RuntimeException ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
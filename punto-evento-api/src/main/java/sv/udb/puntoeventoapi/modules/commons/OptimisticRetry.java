@@ -0,0 +1,64 @@
+package sv.udb.puntoeventoapi.modules.commons.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta una operación en su propia transacción y la reintenta un número acotado de veces
+ * si falla por concurrencia (versión optimista desactualizada o bloqueo).
+ * Debe invocarse fuera de una transacción para que cada intento lea datos frescos.
+ */
+@Slf4j
+@Component
+public class OptimisticRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticRetry(
+            PlatformTransactionManager transactionManager,
+            @Value("${app.concurrency.max-attempts:5}") int maxAttempts,
+            @Value("${app.concurrency.backoff-ms:15}") long backoffMillis
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = Math.max(0, backoffMillis);
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Conflicto de concurrencia en {} tras {} intentos", operation, attempt);
+                    throw e;
+                }
+                log.debug("Conflicto de concurrencia en {} (intento {}), reintentando", operation, attempt);
+                pause(attempt);
+            }
+        }
+    }
+
+    private void pause(int attempt) {
+        if (backoffMillis == 0) {
+            return;
+        }
+        // Espera creciente con variación aleatoria para no reintentar todos a la vez
+        long wait = backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        try {
+            Thread.sleep(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reintento interrumpido", e);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package sv.udb.puntoeventoapi.modules.commons.enums;
+
+public enum ItemChangeType {
+    ADDED, REMOVED, CHANGED
+}
@@ -0,0 +1,5 @@
+package sv.udb.puntoeventoapi.modules.commons.enums;
+
+public enum PricingRuleType {
+    TAX_RATE, VOLUME_DISCOUNT, SEASONAL_SURCHARGE, ROUNDING
+}
@@ -0,0 +1,5 @@
+package sv.udb.puntoeventoapi.modules.commons.enums;
+
+public enum ReportSource {
+    QUOTE, RESERVATION
+}
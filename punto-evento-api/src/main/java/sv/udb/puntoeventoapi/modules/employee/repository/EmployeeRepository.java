@@ -1,12 +1,15 @@
 package sv.udb.puntoeventoapi.modules.employee.repository;
 
 import sv.udb.puntoeventoapi.modules.employee.entity.Employee;
+import sv.udb.puntoeventoapi.modules.commons.enums.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
     boolean existsByDocument(String document);
     Optional<Employee> findByUserId(UUID userId);
+    List<Employee> findByStatus(Status status);
 }
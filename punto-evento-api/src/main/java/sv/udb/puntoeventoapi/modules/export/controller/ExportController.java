@@ -0,0 +1,39 @@
+package sv.udb.puntoeventoapi.modules.export.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import sv.udb.puntoeventoapi.modules.export.service.ExportService;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * Descarga {@code reservations}, {@code quotes} o {@code tasks} en CSV o XLSX. Los parámetros se
+     * validan antes de abrir la respuesta; las filas se escriben mientras se leen de la base de datos.
+     */
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String dataset,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String dateFrom,
+            @RequestParam(required = false) String dateTo
+    ) {
+        ExportService.ExportRequest request = exportService.prepare(dataset, format, status, dateFrom, dateTo);
+        StreamingResponseBody body = out -> exportService.write(request, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(request.format().contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(request.fileName()).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,82 @@
+package sv.udb.puntoeventoapi.modules.export.service;
+
+import sv.udb.puntoeventoapi.modules.commons.enums.QuoteStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Conjuntos exportables. Cada uno es una sola consulta plana (sin entidades) cuyas columnas
+ * coinciden en orden con {@link #headers()}; los filtros se aplican sobre {@code alias.status}
+ * y {@code alias.created_at}.
+ */
+public enum ExportDataset {
+
+    RESERVATIONS("reservations", "Reservaciones", "r", ReservationStatus.class,
+            "SELECT r.id, r.event_name, r.status, r.scheduled_for, r.location, r.progress_percentage, " +
+            "c.name AS client_name, c.document AS client_document, q.total, r.created_at " +
+            "FROM reservations r JOIN clients c ON c.id = r.client_id JOIN quotes q ON q.id = r.quote_id",
+            List.of("ID", "Evento", "Estado", "Fecha programada", "Ubicación", "Avance (%)",
+                    "Cliente", "Documento", "Total cotización", "Creada")),
+
+    QUOTES("quotes", "Cotizaciones", "q", QuoteStatus.class,
+            "SELECT q.id, q.event_name, q.status, c.name AS client_name, q.start_date, q.end_date, " +
+            "q.subtotal, q.tax_total, q.additional_costs, q.total, q.created_at " +
+            "FROM quotes q LEFT JOIN clients c ON c.id = q.client_id",
+            List.of("ID", "Evento", "Estado", "Cliente", "Inicio", "Fin",
+                    "Subtotal", "IVA", "Costos adicionales", "Total", "Creada")),
+
+    TASKS("tasks", "Tareas", "t", TaskStatus.class,
+            "SELECT t.id, t.title, t.status, r.event_name, c.name AS client_name, " +
+            "t.start_datetime, t.end_datetime, t.completed_at, t.created_at " +
+            "FROM tasks t JOIN reservations r ON r.id = t.reservation_id JOIN clients c ON c.id = r.client_id",
+            List.of("ID", "Tarea", "Estado", "Evento", "Cliente", "Inicio", "Fin", "Completada", "Creada"));
+
+    private final String path;
+    private final String title;
+    private final String alias;
+    private final Class<? extends Enum<?>> statusType;
+    private final String select;
+    private final List<String> headers;
+
+    ExportDataset(String path, String title, String alias, Class<? extends Enum<?>> statusType,
+                  String select, List<String> headers) {
+        this.path = path;
+        this.title = title;
+        this.alias = alias;
+        this.statusType = statusType;
+        this.select = select;
+        this.headers = headers;
+    }
+
+    public static Optional<ExportDataset> fromPath(String path) {
+        return Arrays.stream(values()).filter(d -> d.path.equalsIgnoreCase(path)).findFirst();
+    }
+
+    public boolean acceptsStatus(String status) {
+        return Arrays.stream(statusType.getEnumConstants()).anyMatch(s -> s.name().equals(status));
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public String title() {
+        return title;
+    }
+
+    String alias() {
+        return alias;
+    }
+
+    String select() {
+        return select;
+    }
+
+    public List<String> headers() {
+        return headers;
+    }
+}
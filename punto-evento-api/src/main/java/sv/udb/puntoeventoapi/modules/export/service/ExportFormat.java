@@ -0,0 +1,36 @@
+package sv.udb.puntoeventoapi.modules.export.service;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+public enum ExportFormat {
+
+    CSV("csv", "text/csv;charset=UTF-8"),
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public static Optional<ExportFormat> fromExtension(String extension) {
+        return Arrays.stream(values()).filter(f -> f.extension.equalsIgnoreCase(extension)).findFirst();
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    RowWriter open(OutputStream out, String sheetName, List<String> headers) {
+        return this == CSV ? new CsvRowWriter(out, headers) : new XlsxRowWriter(out, sheetName, headers);
+    }
+}
@@ -0,0 +1,168 @@
+package sv.udb.puntoeventoapi.modules.export.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sv.udb.puntoeventoapi.modules.commons.common.exceptions.FieldValidationException;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exportaciones en flujo: las filas pasan del cursor JDBC (solo hacia adelante, con
+ * {@code app.export.fetch-size} filas por viaje) al escritor CSV/XLSX sin crear entidades ni listas,
+ * así que la memoria no depende del tamaño del resultado.
+ *
+ * <p>La consulta corre en una transacción de solo lectura: PostgreSQL solo usa cursor (y respeta el
+ * fetch size) con autocommit desactivado; de lo contrario trae todo el resultado de una vez.
+ */
+@Slf4j
+@Service
+public class ExportService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportService(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(Math.max(1, fetchSize));
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Valida los parámetros antes de empezar a escribir la respuesta, para poder devolver 400.
+     */
+    public ExportRequest prepare(String dataset, String format, String status, String dateFrom, String dateTo) {
+        ExportDataset exportDataset = ExportDataset.fromPath(dataset)
+                .orElseThrow(() -> new FieldValidationException("dataset",
+                        "Exportación desconocida. Use reservations, quotes o tasks"));
+        ExportFormat exportFormat = ExportFormat.fromExtension(format)
+                .orElseThrow(() -> new FieldValidationException("format", "Formato no soportado. Use csv o xlsx"));
+        if (status != null && !exportDataset.acceptsStatus(status)) {
+            throw new FieldValidationException("status", "Estado no válido para " + exportDataset.path() + ": " + status);
+        }
+        LocalDate from = parseDate("dateFrom", dateFrom);
+        LocalDate to = parseDate("dateTo", dateTo);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new FieldValidationException("dateFrom", "La fecha inicial no puede ser posterior a la final");
+        }
+        return new ExportRequest(exportDataset, exportFormat, status, from, to);
+    }
+
+    /**
+     * Escribe la exportación completa en {@code out}. Devuelve el número de filas de datos.
+     */
+    public long write(ExportRequest request, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        List<Object> args = new ArrayList<>(3);
+        String sql = buildSql(request, args);
+        long[] rows = {0};
+
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                RowWriter writer = request.format().open(out, request.dataset().title(), request.dataset().headers());
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                            sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    for (int i = 0; i < args.size(); i++) {
+                        ps.setObject(i + 1, args.get(i));
+                    }
+                    return ps;
+                }, rs -> {
+                    writeRow(writer, rs);
+                    rows[0]++;
+                });
+                try {
+                    writer.finish();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Normalmente el cliente cerró la descarga; la transacción ya liberó el cursor
+            log.info("Exportación {} interrumpida tras {} filas: {}", request.dataset().path(), rows[0], e.getMessage());
+            throw e.getCause();
+        }
+
+        log.info("Exportación {} ({}) completada: {} filas en {} ms", request.dataset().path(),
+                request.format().extension(), rows[0], (System.nanoTime() - start) / 1_000_000);
+        return rows[0];
+    }
+
+    private static String buildSql(ExportRequest request, List<Object> args) {
+        String alias = request.dataset().alias();
+        StringBuilder sql = new StringBuilder(request.dataset().select()).append(" WHERE 1 = 1");
+        if (request.status() != null) {
+            sql.append(" AND ").append(alias).append(".status = ?");
+            args.add(request.status());
+        }
+        if (request.from() != null) {
+            sql.append(" AND ").append(alias).append(".created_at >= ?");
+            args.add(Timestamp.valueOf(request.from().atStartOfDay()));
+        }
+        if (request.to() != null) {
+            sql.append(" AND ").append(alias).append(".created_at < ?");
+            args.add(Timestamp.valueOf(request.to().plusDays(1).atStartOfDay()));
+        }
+        return sql.append(" ORDER BY ").append(alias).append(".created_at, ").append(alias).append(".id").toString();
+    }
+
+    private static void writeRow(RowWriter writer, ResultSet rs) throws SQLException {
+        int columns = rs.getMetaData().getColumnCount();
+        Object[] values = new Object[columns];
+        for (int i = 0; i < columns; i++) {
+            values[i] = cellValue(rs.getObject(i + 1));
+        }
+        try {
+            writer.row(values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object cellValue(Object value) {
+        if (value == null || value instanceof String || value instanceof Number) {
+            return value;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        return value.toString();
+    }
+
+    private static LocalDate parseDate(String field, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new FieldValidationException(field, "Fecha inválida (use AAAA-MM-DD): " + value);
+        }
+    }
+
+    public record ExportRequest(ExportDataset dataset, ExportFormat format, String status, LocalDate from, LocalDate to) {
+
+        public String fileName() {
+            return dataset.path() + "-" + LocalDate.now() + "." + format.extension();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package sv.udb.puntoeventoapi.modules.export.service;
+
+import java.io.IOException;
+
+/**
+ * Escribe filas directamente en la salida, sin retenerlas. Los valores llegan ya convertidos:
+ * {@code String}, {@code Number} o {@code null}.
+ */
+interface RowWriter {
+
+    void row(Object[] values) throws IOException;
+
+    /**
+     * Cierra el documento (pie del XLSX) y vacía los buffers; no cierra la salida.
+     */
+    void finish() throws IOException;
+}
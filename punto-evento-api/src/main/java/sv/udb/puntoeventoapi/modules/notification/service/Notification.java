@@ -0,0 +1,9 @@
+package sv.udb.puntoeventoapi.modules.notification.service;
+
+import java.util.Map;
+
+/**
+ * Aviso pendiente para un cliente: plantilla de {@code templates/notifications} y sus valores.
+ */
+public record Notification(String recipient, String recipientName, String template, Map<String, String> values) {
+}
@@ -0,0 +1,208 @@
+package sv.udb.puntoeventoapi.modules.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.mail.MailException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sv.udb.puntoeventoapi.config.metrics.MetricNames;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cola acotada de avisos por correo con un único hilo de envío.
+ *
+ * <p>El hilo espera el primer aviso y luego junta los que lleguen durante
+ * {@code app.notifications.digest-window-ms}: los de un mismo destinatario salen en un solo correo
+ * (resumen) y todos los correos del lote se envían por una misma conexión SMTP. Si la cola está
+ * llena el aviso se descarta y se cuenta en {@code notifications.dropped}; nunca bloquea al productor.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.notifications.enabled", havingValue = "true")
+public class NotificationDispatcher implements SmartLifecycle {
+
+    private final JavaMailSender mailSender;
+    private final NotificationTemplates templates;
+    private final BlockingQueue<Notification> queue;
+    private final String from;
+    private final Duration digestWindow;
+    private final int maxBatch;
+    private final Counter sent;
+    private final Counter dropped;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public NotificationDispatcher(
+            JavaMailSender mailSender,
+            NotificationTemplates templates,
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.from:no-reply@puntoevento.com}") String from,
+            @Value("${app.notifications.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.notifications.digest-window-ms:2000}") long digestWindowMillis,
+            @Value("${app.notifications.max-batch:100}") int maxBatch
+    ) {
+        this.mailSender = mailSender;
+        this.templates = templates;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.from = from;
+        this.digestWindow = Duration.ofMillis(Math.max(0, digestWindowMillis));
+        this.maxBatch = Math.max(1, maxBatch);
+        this.sent = meterRegistry.counter(MetricNames.NOTIFICATIONS_SENT);
+        this.dropped = meterRegistry.counter(MetricNames.NOTIFICATIONS_DROPPED);
+        this.failed = meterRegistry.counter(MetricNames.NOTIFICATIONS_FAILED);
+        meterRegistry.gauge(MetricNames.NOTIFICATIONS_QUEUED, queue, BlockingQueue::size);
+    }
+
+    /**
+     * Encola el aviso cuando confirma la transacción actual (o de inmediato si no hay una),
+     * así un evento que se reintenta no genera correos de más.
+     */
+    public void enqueueAfterCommit(Notification notification) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(notification);
+                }
+            });
+        } else {
+            enqueue(notification);
+        }
+    }
+
+    public boolean enqueue(Notification notification) {
+        if (queue.offer(notification)) {
+            return true;
+        }
+        dropped.increment();
+        log.warn("Cola de notificaciones llena ({}), aviso {} a {} descartado",
+                queue.size(), notification.template(), notification.recipient());
+        return false;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "notificaciones");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                // Se da tiempo a enviar lo que quedó en la cola
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Notification first = running ? queue.poll(1, TimeUnit.SECONDS) : queue.poll();
+                if (first == null) {
+                    continue;
+                }
+                List<Notification> batch = new ArrayList<>();
+                batch.add(first);
+                collect(batch);
+                send(batch);
+            } catch (InterruptedException e) {
+                // stop(): se sale del ciclo de espera y se vacía la cola sin ventana
+                if (running) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.error("Error inesperado en el envío de notificaciones: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void collect(List<Notification> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + digestWindow.toNanos();
+        while (batch.size() < maxBatch) {
+            long remaining = deadline - System.nanoTime();
+            Notification next = running && remaining > 0
+                    ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                    : queue.poll();
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void send(List<Notification> batch) {
+        Map<String, List<Notification>> byRecipient = new LinkedHashMap<>();
+        batch.forEach(n -> byRecipient.computeIfAbsent(n.recipient().toLowerCase(), key -> new ArrayList<>()).add(n));
+
+        List<MimeMessage> messages = new ArrayList<>(byRecipient.size());
+        for (List<Notification> notifications : byRecipient.values()) {
+            Notification first = notifications.get(0);
+            NotificationTemplates.Rendered rendered = notifications.size() == 1
+                    ? templates.render(first)
+                    : templates.renderDigest(first.recipientName(), notifications);
+            try {
+                messages.add(toMessage(first.recipient(), rendered));
+            } catch (MessagingException e) {
+                failed.increment(notifications.size());
+                log.error("No se pudo preparar el correo para {}: {}", first.recipient(), e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            // JavaMailSenderImpl envía todo el arreglo por una sola conexión
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+            sent.increment(messages.size());
+            log.info("Notificaciones enviadas: {} correos para {} avisos", messages.size(), batch.size());
+        } catch (MailException e) {
+            failed.increment(messages.size());
+            log.error("Fallo al enviar {} correos de notificación: {}", messages.size(), e.getMessage());
+        }
+    }
+
+    private MimeMessage toMessage(String recipient, NotificationTemplates.Rendered rendered) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setFrom(from);
+        helper.setTo(recipient);
+        helper.setSubject(rendered.subject());
+        helper.setText(rendered.body());
+        return message;
+    }
+}
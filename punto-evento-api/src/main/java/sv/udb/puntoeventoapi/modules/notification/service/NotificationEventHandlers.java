@@ -0,0 +1,118 @@
+package sv.udb.puntoeventoapi.modules.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import sv.udb.puntoeventoapi.modules.client.entity.Client;
+import sv.udb.puntoeventoapi.modules.outbox.service.DomainEventHandler;
+import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
+import sv.udb.puntoeventoapi.modules.quote.event.QuoteApproved;
+import sv.udb.puntoeventoapi.modules.quote.repository.QuoteRepository;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.reservation.event.ReservationCancelled;
+import sv.udb.puntoeventoapi.modules.reservation.event.ReservationPublished;
+import sv.udb.puntoeventoapi.modules.reservation.repository.ReservationRepository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+
+/**
+ * Avisos al cliente a partir de los eventos del outbox. Cada manejador solo arma el aviso y lo
+ * entrega a {@link NotificationDispatcher} al confirmar; el envío nunca retrasa la entrega del evento.
+ */
+@Slf4j
+public final class NotificationEventHandlers {
+
+    private NotificationEventHandlers() {
+    }
+
+    static void notifyClient(NotificationDispatcher dispatcher, Client client, String template, Map<String, String> values) {
+        String recipient = recipientOf(client);
+        if (recipient == null) {
+            log.debug("El cliente {} no tiene correo; se omite el aviso {}", client.getId(), template);
+            return;
+        }
+        dispatcher.enqueueAfterCommit(new Notification(recipient, client.getName(), template, values));
+    }
+
+    private static String recipientOf(Client client) {
+        if (client.getEmail() != null && !client.getEmail().isBlank()) {
+            return client.getEmail();
+        }
+        return client.getUser() != null ? client.getUser().getEmail() : null;
+    }
+
+    private static String nonNull(String value) {
+        return value != null ? value : "";
+    }
+
+    @Component
+    @RequiredArgsConstructor
+    @ConditionalOnProperty(name = "app.notifications.enabled", havingValue = "true")
+    static class QuoteApprovedNotifier implements DomainEventHandler<QuoteApproved> {
+
+        private final QuoteRepository quoteRepository;
+        private final NotificationDispatcher dispatcher;
+
+        @Override
+        public Class<QuoteApproved> eventType() {
+            return QuoteApproved.class;
+        }
+
+        @Override
+        public void handle(QuoteApproved event) {
+            quoteRepository.findById(event.quoteId()).ifPresent((Quote quote) -> {
+                BigDecimal total = quote.getTotal() != null ? quote.getTotal() : BigDecimal.ZERO;
+                notifyClient(dispatcher, quote.getClient(), "quote-approved", Map.of(
+                        "eventName", nonNull(quote.getEventName()),
+                        "total", total.setScale(2, RoundingMode.HALF_UP).toPlainString()));
+            });
+        }
+    }
+
+    @Component
+    @RequiredArgsConstructor
+    @ConditionalOnProperty(name = "app.notifications.enabled", havingValue = "true")
+    static class ReservationPublishedNotifier implements DomainEventHandler<ReservationPublished> {
+
+        private final ReservationRepository reservationRepository;
+        private final NotificationDispatcher dispatcher;
+
+        @Override
+        public Class<ReservationPublished> eventType() {
+            return ReservationPublished.class;
+        }
+
+        @Override
+        public void handle(ReservationPublished event) {
+            reservationRepository.findById(event.reservationId()).ifPresent((Reservation reservation) ->
+                    notifyClient(dispatcher, reservation.getClient(), "reservation-published", Map.of(
+                            "eventName", nonNull(reservation.getEventName()),
+                            "scheduledFor", nonNull(reservation.getScheduledFor()),
+                            "location", nonNull(reservation.getLocation()))));
+        }
+    }
+
+    @Component
+    @RequiredArgsConstructor
+    @ConditionalOnProperty(name = "app.notifications.enabled", havingValue = "true")
+    static class ReservationCancelledNotifier implements DomainEventHandler<ReservationCancelled> {
+
+        private final ReservationRepository reservationRepository;
+        private final NotificationDispatcher dispatcher;
+
+        @Override
+        public Class<ReservationCancelled> eventType() {
+            return ReservationCancelled.class;
+        }
+
+        @Override
+        public void handle(ReservationCancelled event) {
+            reservationRepository.findById(event.reservationId()).ifPresent((Reservation reservation) ->
+                    notifyClient(dispatcher, reservation.getClient(), "reservation-cancelled", Map.of(
+                            "eventName", nonNull(reservation.getEventName()))));
+        }
+    }
+}
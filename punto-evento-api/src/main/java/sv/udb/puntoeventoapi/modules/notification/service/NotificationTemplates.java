@@ -0,0 +1,92 @@
+package sv.udb.puntoeventoapi.modules.notification.service;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Plantillas de texto en {@code classpath:templates/notifications/}. La primera línea es
+ * {@code Asunto: ...}; el resto es el cuerpo. Los valores se escriben como {@code {{nombre}}}.
+ * Cada aviso se envuelve en {@code layout.txt}; varios avisos al mismo cliente se agrupan con {@code digest.txt}.
+ */
+@Component
+public class NotificationTemplates {
+
+    private static final String LOCATION = "templates/notifications/";
+    private static final String SUBJECT_PREFIX = "Asunto:";
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{(\\w+)}}");
+
+    private final Map<String, Template> cache = new ConcurrentHashMap<>();
+
+    public Rendered render(Notification notification) {
+        Template template = load(notification.template());
+        String subject = fill(template.subject(), notification.values());
+        String content = fill(template.body(), notification.values());
+        return new Rendered(subject, wrap(notification.recipientName(), content));
+    }
+
+    /**
+     * Un solo correo con todos los avisos de un destinatario, en el orden en que llegaron.
+     */
+    public Rendered renderDigest(String recipientName, List<Notification> notifications) {
+        StringBuilder items = new StringBuilder();
+        for (Notification notification : notifications) {
+            Template template = load(notification.template());
+            if (!items.isEmpty()) {
+                items.append("\n\n");
+            }
+            items.append("• ").append(fill(template.subject(), notification.values())).append('\n')
+                    .append(fill(template.body(), notification.values()));
+        }
+        Template digest = load("digest");
+        Map<String, String> values = Map.of("count", String.valueOf(notifications.size()), "items", items.toString());
+        return new Rendered(fill(digest.subject(), values), wrap(recipientName, fill(digest.body(), values)));
+    }
+
+    private String wrap(String recipientName, String content) {
+        return fill(load("layout").body(), Map.of(
+                "clientName", recipientName != null ? recipientName : "cliente",
+                "content", content));
+    }
+
+    private Template load(String name) {
+        return cache.computeIfAbsent(name, key -> {
+            try {
+                String text = StreamUtils.copyToString(
+                        new ClassPathResource(LOCATION + key + ".txt").getInputStream(), StandardCharsets.UTF_8);
+                if (text.startsWith(SUBJECT_PREFIX)) {
+                    int end = text.indexOf('\n');
+                    String subject = text.substring(SUBJECT_PREFIX.length(), end < 0 ? text.length() : end).trim();
+                    return new Template(subject, end < 0 ? "" : text.substring(end + 1).strip());
+                }
+                return new Template("", text.strip());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Plantilla de notificación no encontrada: " + key, e);
+            }
+        });
+    }
+
+    private static String fill(String text, Map<String, String> values) {
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        StringBuilder sb = new StringBuilder(text.length() + 64);
+        while (matcher.find()) {
+            String value = values.getOrDefault(matcher.group(1), "");
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+
+    private record Template(String subject, String body) {}
+
+    public record Rendered(String subject, String body) {}
+}
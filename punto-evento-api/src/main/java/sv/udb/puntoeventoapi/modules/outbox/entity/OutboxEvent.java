@@ -0,0 +1,54 @@
+package sv.udb.puntoeventoapi.modules.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import sv.udb.puntoeventoapi.modules.commons.enums.OutboxStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento de dominio pendiente de entregar. Se guarda en la misma transacción que el cambio
+ * que lo origina y lo consume {@code OutboxDispatcher}.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    private UUID aggregateId;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(length = 64)
+    private String correlationId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,11 @@
+package sv.udb.puntoeventoapi.modules.outbox.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import sv.udb.puntoeventoapi.modules.commons.enums.OutboxStatus;
+import sv.udb.puntoeventoapi.modules.outbox.entity.OutboxEvent;
+
+import java.util.UUID;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+    long countByStatus(OutboxStatus status);
+}
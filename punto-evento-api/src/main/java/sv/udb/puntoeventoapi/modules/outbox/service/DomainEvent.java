@@ -0,0 +1,15 @@
+package sv.udb.puntoeventoapi.modules.outbox.service;
+
+import java.util.UUID;
+
+/**
+ * Hecho del dominio que se entrega por el outbox. Las implementaciones son records
+ * serializables con Jackson; el nombre simple de la clase identifica el tipo.
+ */
+public interface DomainEvent {
+
+    /**
+     * Entidad a la que se refiere el evento (cotización, tarea o reservación).
+     */
+    UUID aggregateId();
+}
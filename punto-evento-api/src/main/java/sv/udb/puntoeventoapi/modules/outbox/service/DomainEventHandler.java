@@ -0,0 +1,12 @@
+package sv.udb.puntoeventoapi.modules.outbox.service;
+
+/**
+ * Consumidor de un tipo de evento. Se ejecuta en su propia transacción, junto con la marca
+ * de procesado, y puede recibir el mismo evento más de una vez: debe ser idempotente.
+ */
+public interface DomainEventHandler<E extends DomainEvent> {
+
+    Class<E> eventType();
+
+    void handle(E event);
+}
@@ -0,0 +1,230 @@
+package sv.udb.puntoeventoapi.modules.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sv.udb.puntoeventoapi.config.logging.CorrelationIdFilter;
+import sv.udb.puntoeventoapi.modules.commons.common.OptimisticRetry;
+import sv.udb.puntoeventoapi.modules.commons.enums.OutboxStatus;
+import sv.udb.puntoeventoapi.modules.outbox.repository.OutboxEventRepository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Entrega en segundo plano los eventos del outbox a sus {@link DomainEventHandler}.
+ *
+ * <p>Cada ronda reserva un lote con {@code FOR UPDATE SKIP LOCKED} y le pone una concesión
+ * ({@code available_at} en el futuro), de modo que varias instancias no toman los mismos eventos
+ * y uno abandonado por una caída vuelve a la cola al vencer. Cada evento se procesa en su propia
+ * transacción; si falla se reprograma con espera exponencial y, agotados los intentos, queda FALLIDO.
+ */
+@Slf4j
+@Service
+public class OutboxDispatcher {
+
+    private static final String CLAIM_SQL =
+            "SELECT id, event_type, payload, attempts, correlation_id FROM outbox_events " +
+            "WHERE status = 'PENDIENTE' AND available_at <= ? " +
+            "ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final RowMapper<ClaimedEvent> CLAIMED = (rs, rowNum) -> new ClaimedEvent(
+            rs.getObject("id", UUID.class),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getInt("attempts") + 1,
+            rs.getString("correlation_id"));
+
+    private static final long MAX_BACKOFF_MILLIS = Duration.ofMinutes(10).toMillis();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OptimisticRetry optimisticRetry;
+    private final OutboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Map<String, List<DomainEventHandler<?>>> handlers = new HashMap<>();
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Duration lease;
+    private final Duration retention;
+
+    public OutboxDispatcher(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            OptimisticRetry optimisticRetry,
+            OutboxEventRepository repository,
+            ObjectMapper objectMapper,
+            List<DomainEventHandler<?>> handlers,
+            @Value("${app.outbox.batch-size:50}") int batchSize,
+            @Value("${app.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${app.outbox.backoff-ms:1000}") long backoffMillis,
+            @Value("${app.outbox.lease-seconds:60}") long leaseSeconds,
+            @Value("${app.outbox.retention-days:7}") long retentionDays
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.optimisticRetry = optimisticRetry;
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        handlers.forEach(handler -> this.handlers
+                .computeIfAbsent(handler.eventType().getSimpleName(), type -> new ArrayList<>())
+                .add(handler));
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = Math.max(0, backoffMillis);
+        this.lease = Duration.ofSeconds(Math.max(1, leaseSeconds));
+        this.retention = Duration.ofDays(Math.max(1, retentionDays));
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-ms:500}", initialDelayString = "${app.outbox.poll-ms:500}")
+    public void poll() {
+        // Mientras salgan lotes completos hay atraso: seguir sin esperar al siguiente ciclo
+        while (dispatchBatch() == batchSize) {
+            log.debug("Lote completo del outbox, continuando");
+        }
+    }
+
+    /**
+     * Reserva y entrega un lote. Devuelve cuántos eventos se tomaron.
+     */
+    public int dispatchBatch() {
+        List<ClaimedEvent> batch = claim();
+        batch.forEach(this::deliver);
+        return batch.size();
+    }
+
+    /**
+     * Procesa hasta que no quedan eventos pendientes (incluidos los que otro hilo tiene tomados
+     * o están en espera de reintento). Pensado para pruebas y para vaciar la cola al apagar.
+     */
+    public boolean drain(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (dispatchBatch() == 0) {
+                if (repository.countByStatus(OutboxStatus.PENDIENTE) == 0) {
+                    return true;
+                }
+                pause();
+            }
+        }
+        return repository.countByStatus(OutboxStatus.PENDIENTE) == 0;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.cleanup-ms:3600000}", initialDelayString = "${app.outbox.cleanup-ms:3600000}")
+    public void purgeProcessed() {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM outbox_events WHERE status = 'PROCESADO' AND processed_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minus(retention)));
+        if (deleted > 0) {
+            log.info("Outbox: {} eventos procesados eliminados", deleted);
+        }
+    }
+
+    private List<ClaimedEvent> claim() {
+        List<ClaimedEvent> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<ClaimedEvent> rows = jdbcTemplate.query(CLAIM_SQL, CLAIMED, Timestamp.valueOf(now), batchSize);
+            if (!rows.isEmpty()) {
+                Timestamp leaseEnd = Timestamp.valueOf(now.plus(lease));
+                jdbcTemplate.batchUpdate(
+                        "UPDATE outbox_events SET attempts = attempts + 1, available_at = ? WHERE id = ?",
+                        rows, rows.size(), (ps, row) -> {
+                            ps.setTimestamp(1, leaseEnd);
+                            ps.setObject(2, row.id());
+                        });
+            }
+            return rows;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void deliver(ClaimedEvent event) {
+        List<DomainEventHandler<?>> targets = handlers.getOrDefault(event.type(), List.of());
+        String previousCorrelationId = MDC.get(CorrelationIdFilter.MDC_KEY);
+        if (event.correlationId() != null) {
+            MDC.put(CorrelationIdFilter.MDC_KEY, event.correlationId());
+        }
+        try {
+            optimisticRetry.execute("outbox " + event.type(), () -> {
+                for (DomainEventHandler<?> handler : targets) {
+                    invoke(handler, event.payload());
+                }
+                jdbcTemplate.update(
+                        "UPDATE outbox_events SET status = 'PROCESADO', processed_at = ?, last_error = NULL WHERE id = ?",
+                        Timestamp.valueOf(LocalDateTime.now()), event.id());
+                return null;
+            });
+            if (targets.isEmpty()) {
+                log.warn("Outbox: evento {} sin manejadores, marcado como procesado", event.type());
+            } else {
+                log.debug("Outbox: evento {} {} entregado", event.type(), event.id());
+            }
+        } catch (RuntimeException e) {
+            reschedule(event, e);
+        } finally {
+            if (previousCorrelationId != null) {
+                MDC.put(CorrelationIdFilter.MDC_KEY, previousCorrelationId);
+            } else {
+                MDC.remove(CorrelationIdFilter.MDC_KEY);
+            }
+        }
+    }
+
+    private <E extends DomainEvent> void invoke(DomainEventHandler<E> handler, String payload) {
+        E event;
+        try {
+            event = objectMapper.readValue(payload, handler.eventType());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Evento ilegible para " + handler.eventType().getSimpleName(), e);
+        }
+        handler.handle(event);
+    }
+
+    private void reschedule(ClaimedEvent event, RuntimeException error) {
+        boolean exhausted = event.attempt() >= maxAttempts;
+        long wait = Math.min(backoffMillis << Math.min(event.attempt() - 1, 20), MAX_BACKOFF_MILLIS);
+        jdbcTemplate.update(
+                "UPDATE outbox_events SET status = ?, available_at = ?, last_error = ? WHERE id = ?",
+                (exhausted ? OutboxStatus.FALLIDO : OutboxStatus.PENDIENTE).name(),
+                Timestamp.valueOf(LocalDateTime.now().plus(Duration.ofMillis(wait))),
+                truncate(String.valueOf(error.getMessage())),
+                event.id());
+        if (exhausted) {
+            log.error("Outbox: evento {} {} descartado tras {} intentos: {}",
+                    event.type(), event.id(), event.attempt(), error.getMessage(), error);
+        } else {
+            log.warn("Outbox: evento {} {} falló (intento {}), reintento en {} ms: {}",
+                    event.type(), event.id(), event.attempt(), wait, error.getMessage());
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Espera del outbox interrumpida", e);
+        }
+    }
+
+    private record ClaimedEvent(UUID id, String type, String payload, int attempt, String correlationId) {}
+}
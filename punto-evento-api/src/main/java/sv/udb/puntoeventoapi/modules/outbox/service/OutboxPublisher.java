@@ -0,0 +1,50 @@
+package sv.udb.puntoeventoapi.modules.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sv.udb.puntoeventoapi.config.logging.CorrelationIdFilter;
+import sv.udb.puntoeventoapi.modules.commons.enums.OutboxStatus;
+import sv.udb.puntoeventoapi.modules.outbox.entity.OutboxEvent;
+import sv.udb.puntoeventoapi.modules.outbox.repository.OutboxEventRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registra eventos de dominio en la tabla outbox. Exige una transacción activa: el evento
+ * se confirma o se descarta junto con el cambio de estado que lo produjo.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        repository.save(OutboxEvent.builder()
+                .eventType(event.getClass().getSimpleName())
+                .aggregateId(event.aggregateId())
+                .payload(toJson(event))
+                .status(OutboxStatus.PENDIENTE)
+                .attempts(0)
+                .availableAt(now)
+                .correlationId(MDC.get(CorrelationIdFilter.MDC_KEY))
+                .createdAt(now)
+                .build());
+    }
+
+    private String toJson(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
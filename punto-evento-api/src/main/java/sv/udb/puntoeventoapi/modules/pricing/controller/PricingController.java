@@ -0,0 +1,61 @@
+package sv.udb.puntoeventoapi.modules.pricing.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
+import sv.udb.puntoeventoapi.modules.commons.common.ApiResponseUtil;
+import sv.udb.puntoeventoapi.modules.commons.common.annotations.CurrentUser;
+import sv.udb.puntoeventoapi.modules.pricing.dto.PricingRuleDto;
+import sv.udb.puntoeventoapi.modules.pricing.dto.PricingRuleResponse;
+import sv.udb.puntoeventoapi.modules.pricing.dto.RepriceResponse;
+import sv.udb.puntoeventoapi.modules.pricing.service.PricingRuleService;
+import sv.udb.puntoeventoapi.modules.pricing.service.QuoteRepricingJob;
+import sv.udb.puntoeventoapi.modules.user.entity.User;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/pricing")
+@RequiredArgsConstructor
+public class PricingController {
+
+    private final PricingRuleService service;
+    private final QuoteRepricingJob repricingJob;
+
+    @GetMapping("/rules")
+    public ResponseEntity<ApiResponse<List<PricingRuleResponse>>> getRules() {
+        return ResponseEntity.ok(ApiResponseUtil.success(service.getAll()));
+    }
+
+    @PostMapping("/rules")
+    public ResponseEntity<ApiResponse<PricingRuleResponse>> create(
+            @RequestBody @Valid PricingRuleDto dto,
+            @CurrentUser User currentUser) {
+        return ResponseEntity.ok(ApiResponseUtil.success(service.create(dto, currentUser.getId())));
+    }
+
+    @PutMapping("/rules/{id}")
+    public ResponseEntity<ApiResponse<PricingRuleResponse>> update(
+            @PathVariable UUID id,
+            @RequestBody @Valid PricingRuleDto dto) {
+        return ResponseEntity.ok(ApiResponseUtil.success(service.update(id, dto)));
+    }
+
+    // Desactiva la regla; se conserva para el historial
+    @DeleteMapping("/rules/{id}")
+    public ResponseEntity<ApiResponse<PricingRuleResponse>> deactivate(@PathVariable UUID id) {
+        return ResponseEntity.ok(ApiResponseUtil.success(service.deactivate(id)));
+    }
+
+    @PostMapping("/reprice-pending")
+    public ResponseEntity<ApiResponse<RepriceResponse>> repricePending() {
+        return repricingJob.repricePending()
+                .map(result -> ResponseEntity.ok(ApiResponseUtil.success(result)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(ApiResponseUtil.error("Ya hay una revaloración de cotizaciones en curso, intente más tarde")));
+    }
+}
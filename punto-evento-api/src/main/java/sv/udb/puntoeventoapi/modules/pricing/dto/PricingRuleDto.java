@@ -0,0 +1,42 @@
+package sv.udb.puntoeventoapi.modules.pricing.dto;
+
+import jakarta.validation.constraints.*;
+import sv.udb.puntoeventoapi.modules.commons.enums.PricingRuleType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record PricingRuleDto(
+
+        @NotBlank(message = "El nombre de la regla es obligatorio.")
+        @Size(max = 120, message = "El nombre no puede superar 120 caracteres.")
+        String name,
+
+        @NotNull(message = "El tipo de regla es obligatorio.")
+        PricingRuleType ruleType,
+
+        UUID serviceId,
+
+        @DecimalMin(value = "0.0", message = "El porcentaje no puede ser negativo.")
+        @DecimalMax(value = "100.0", message = "El porcentaje no puede superar 100.")
+        BigDecimal percentage,
+
+        @DecimalMin(value = "0.01", message = "La cantidad mínima debe ser mayor que 0.")
+        BigDecimal minQuantity,
+
+        LocalDate validFrom,
+
+        LocalDate validTo,
+
+        @Min(value = 0, message = "Los decimales no pueden ser negativos.")
+        @Max(value = 4, message = "Se admiten como máximo 4 decimales.")
+        Integer roundingScale,
+
+        String roundingMode,
+
+        Integer priority,
+
+        Boolean active
+
+) {}
@@ -0,0 +1,28 @@
+package sv.udb.puntoeventoapi.modules.pricing.dto;
+
+import lombok.Builder;
+import sv.udb.puntoeventoapi.modules.commons.enums.PricingRuleType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Builder
+public record PricingRuleResponse(
+        UUID id,
+        String name,
+        PricingRuleType ruleType,
+        UUID serviceId,
+        BigDecimal percentage,
+        BigDecimal minQuantity,
+        LocalDate validFrom,
+        LocalDate validTo,
+        Integer roundingScale,
+        String roundingMode,
+        int priority,
+        boolean active,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
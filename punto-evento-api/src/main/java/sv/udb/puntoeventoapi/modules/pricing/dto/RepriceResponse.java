@@ -0,0 +1,13 @@
+package sv.udb.puntoeventoapi.modules.pricing.dto;
+
+import lombok.Builder;
+
+@Builder
+public record RepriceResponse(
+        long quotes,
+        long items,
+        int chunks,
+        int failedChunks,
+        long durationMs
+) {
+}
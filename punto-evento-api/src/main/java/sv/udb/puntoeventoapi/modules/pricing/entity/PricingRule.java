@@ -0,0 +1,63 @@
+package sv.udb.puntoeventoapi.modules.pricing.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import sv.udb.puntoeventoapi.modules.commons.enums.PricingRuleType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Regla de precio. Los campos que usa cada tipo se describen en la migración V7.
+ */
+@Entity
+@Table(name = "pricing_rules")
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PricingRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false, length = 120)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private PricingRuleType ruleType;
+
+    private UUID serviceId;
+
+    @Column(precision = 7, scale = 4)
+    private BigDecimal percentage;
+
+    @Column(precision = 12, scale = 2)
+    private BigDecimal minQuantity;
+
+    private LocalDate validFrom;
+    private LocalDate validTo;
+
+    private Integer roundingScale;
+
+    @Column(length = 16)
+    private String roundingMode;
+
+    @Column(nullable = false)
+    private int priority;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    private UUID createdBy;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
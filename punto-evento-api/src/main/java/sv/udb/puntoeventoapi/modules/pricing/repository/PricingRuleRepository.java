@@ -0,0 +1,25 @@
+package sv.udb.puntoeventoapi.modules.pricing.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import sv.udb.puntoeventoapi.modules.pricing.entity.PricingRule;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface PricingRuleRepository extends JpaRepository<PricingRule, UUID> {
+
+    List<PricingRule> findByActiveTrue();
+
+    List<PricingRule> findAllByOrderByRuleTypeAscPriorityAscNameAsc();
+
+    interface Fingerprint {
+        long getRules();
+        LocalDateTime getLastUpdate();
+    }
+
+    // Basta para saber si otra instancia cambió las reglas: se desactivan, nunca se borran
+    @Query("SELECT COUNT(r) AS rules, MAX(r.updatedAt) AS lastUpdate FROM PricingRule r")
+    Fingerprint findFingerprint();
+}
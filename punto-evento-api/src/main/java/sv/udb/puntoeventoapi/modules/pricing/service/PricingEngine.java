@@ -0,0 +1,86 @@
+package sv.udb.puntoeventoapi.modules.pricing.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sv.udb.puntoeventoapi.modules.pricing.repository.PricingRuleRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Mantiene las reglas de precio compiladas en memoria. Las lecturas solo leen la referencia actual;
+ * al cambiar una regla se compila una versión nueva y se reemplaza de una vez.
+ *
+ * <p>Los cambios hechos en esta instancia recompilan al confirmar; los de otras instancias se detectan
+ * cada {@code app.pricing.refresh-ms} comparando cantidad y última modificación de las reglas.
+ */
+@Slf4j
+@Service
+public class PricingEngine {
+
+    private final PricingRuleRepository repository;
+    private final BigDecimal defaultTaxRate;
+    private final AtomicReference<PricingRules> current;
+
+    public PricingEngine(
+            PricingRuleRepository repository,
+            @Value("${app.pricing.default-tax-rate:13.00}") BigDecimal defaultTaxRate
+    ) {
+        this.repository = repository;
+        this.defaultTaxRate = defaultTaxRate;
+        // Hasta la primera carga se valora con el IVA por defecto
+        this.current = new AtomicReference<>(PricingRules.compile(List.of(), defaultTaxRate, ""));
+    }
+
+    public PricingRules current() {
+        return current.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.pricing.refresh-ms:30000}", initialDelayString = "${app.pricing.refresh-ms:30000}")
+    public void refreshIfChanged() {
+        if (!fingerprint().equals(current.get().fingerprint())) {
+            reload();
+        }
+    }
+
+    public synchronized PricingRules reload() {
+        String fingerprint = fingerprint();
+        PricingRules compiled = PricingRules.compile(repository.findByActiveTrue(), defaultTaxRate, fingerprint);
+        current.set(compiled);
+        log.info("Reglas de precio compiladas ({})", fingerprint);
+        return compiled;
+    }
+
+    /**
+     * Recompila cuando confirma la transacción actual, para no publicar reglas que luego se revierten.
+     */
+    public void reloadAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    private String fingerprint() {
+        PricingRuleRepository.Fingerprint fingerprint = repository.findFingerprint();
+        return fingerprint.getRules() + "@" + fingerprint.getLastUpdate();
+    }
+}
@@ -0,0 +1,133 @@
+package sv.udb.puntoeventoapi.modules.pricing.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sv.udb.puntoeventoapi.modules.commons.common.exceptions.FieldValidationException;
+import sv.udb.puntoeventoapi.modules.pricing.dto.PricingRuleDto;
+import sv.udb.puntoeventoapi.modules.pricing.dto.PricingRuleResponse;
+import sv.udb.puntoeventoapi.modules.pricing.entity.PricingRule;
+import sv.udb.puntoeventoapi.modules.pricing.repository.PricingRuleRepository;
+
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PricingRuleService {
+
+    private static final Set<String> ROUNDING_MODES = Set.of(
+            RoundingMode.HALF_UP.name(), RoundingMode.HALF_EVEN.name(), RoundingMode.UP.name(),
+            RoundingMode.DOWN.name(), RoundingMode.CEILING.name(), RoundingMode.FLOOR.name());
+
+    private final PricingRuleRepository repository;
+    private final PricingEngine pricingEngine;
+
+    @Transactional(readOnly = true)
+    public List<PricingRuleResponse> getAll() {
+        return repository.findAllByOrderByRuleTypeAscPriorityAscNameAsc().stream().map(this::toResponse).toList();
+    }
+
+    public PricingRuleResponse create(PricingRuleDto dto, UUID createdBy) {
+        validate(dto);
+        LocalDateTime now = LocalDateTime.now();
+        PricingRule rule = PricingRule.builder()
+                .createdBy(createdBy)
+                .createdAt(now)
+                .build();
+        apply(rule, dto, now);
+        PricingRule saved = repository.save(rule);
+        pricingEngine.reloadAfterCommit();
+        return toResponse(saved);
+    }
+
+    public PricingRuleResponse update(UUID id, PricingRuleDto dto) {
+        validate(dto);
+        PricingRule rule = repository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Regla de precio no encontrada"));
+        apply(rule, dto, LocalDateTime.now());
+        PricingRule saved = repository.save(rule);
+        pricingEngine.reloadAfterCommit();
+        return toResponse(saved);
+    }
+
+    /**
+     * Las reglas no se borran: desactivarla cambia updated_at y así la ven las demás instancias.
+     */
+    public PricingRuleResponse deactivate(UUID id) {
+        PricingRule rule = repository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Regla de precio no encontrada"));
+        rule.setActive(false);
+        rule.setUpdatedAt(LocalDateTime.now());
+        PricingRule saved = repository.save(rule);
+        pricingEngine.reloadAfterCommit();
+        return toResponse(saved);
+    }
+
+    private void validate(PricingRuleDto dto) {
+        switch (dto.ruleType()) {
+            case TAX_RATE -> require("percentage", dto.percentage() != null, "El IVA requiere porcentaje");
+            case VOLUME_DISCOUNT -> {
+                require("percentage", dto.percentage() != null, "El descuento requiere porcentaje");
+                require("minQuantity", dto.minQuantity() != null, "El descuento por volumen requiere cantidad mínima");
+            }
+            case SEASONAL_SURCHARGE -> {
+                require("percentage", dto.percentage() != null, "El recargo requiere porcentaje");
+                require("validFrom", dto.validFrom() != null && dto.validTo() != null,
+                        "El recargo de temporada requiere fecha inicial y final");
+                require("validTo", !dto.validTo().isBefore(dto.validFrom()),
+                        "La fecha final no puede ser anterior a la inicial");
+            }
+            case ROUNDING -> {
+                require("roundingScale", dto.roundingScale() != null, "El redondeo requiere número de decimales");
+                require("roundingMode", dto.roundingMode() != null && ROUNDING_MODES.contains(dto.roundingMode()),
+                        "Modo de redondeo no válido. Use " + String.join(", ", ROUNDING_MODES));
+                require("serviceId", dto.serviceId() == null, "El redondeo es general, no por servicio");
+            }
+        }
+    }
+
+    private static void require(String field, boolean condition, String message) {
+        if (!condition) {
+            throw new FieldValidationException(field, message);
+        }
+    }
+
+    private static void apply(PricingRule rule, PricingRuleDto dto, LocalDateTime now) {
+        rule.setName(dto.name());
+        rule.setRuleType(dto.ruleType());
+        rule.setServiceId(dto.serviceId());
+        rule.setPercentage(dto.percentage());
+        rule.setMinQuantity(dto.minQuantity());
+        rule.setValidFrom(dto.validFrom());
+        rule.setValidTo(dto.validTo());
+        rule.setRoundingScale(dto.roundingScale());
+        rule.setRoundingMode(dto.roundingMode());
+        rule.setPriority(dto.priority() != null ? dto.priority() : 0);
+        rule.setActive(dto.active() == null || dto.active());
+        rule.setUpdatedAt(now);
+    }
+
+    private PricingRuleResponse toResponse(PricingRule rule) {
+        return PricingRuleResponse.builder()
+                .id(rule.getId())
+                .name(rule.getName())
+                .ruleType(rule.getRuleType())
+                .serviceId(rule.getServiceId())
+                .percentage(rule.getPercentage())
+                .minQuantity(rule.getMinQuantity())
+                .validFrom(rule.getValidFrom())
+                .validTo(rule.getValidTo())
+                .roundingScale(rule.getRoundingScale())
+                .roundingMode(rule.getRoundingMode())
+                .priority(rule.getPriority())
+                .active(rule.isActive())
+                .createdAt(rule.getCreatedAt())
+                .updatedAt(rule.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+package sv.udb.puntoeventoapi.modules.pricing.service;
+
+import sv.udb.puntoeventoapi.modules.pricing.entity.PricingRule;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reglas de precio compiladas. Es inmutable: se arma una vez por versión de las reglas y se comparte
+ * entre hilos sin sincronización.
+ *
+ * <p>Al compilar se combinan las reglas generales con las de cada servicio, de modo que valorar un ítem
+ * es buscar su servicio en un mapa y recorrer solo sus tramos y recargos, sin consultar la base de datos
+ * ni volver a filtrar reglas.
+ */
+public final class PricingRules {
+
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+    private final ServicePricing general;
+    private final Map<UUID, ServicePricing> byService;
+    private final int scale;
+    private final RoundingMode roundingMode;
+    private final String fingerprint;
+
+    private PricingRules(ServicePricing general, Map<UUID, ServicePricing> byService,
+                         int scale, RoundingMode roundingMode, String fingerprint) {
+        this.general = general;
+        this.byService = byService;
+        this.scale = scale;
+        this.roundingMode = roundingMode;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Compila las reglas activas. Sin reglas de IVA se usa {@code defaultTaxRate}; sin regla de
+     * redondeo, dos decimales con HALF_UP.
+     */
+    public static PricingRules compile(List<PricingRule> rules, BigDecimal defaultTaxRate, String fingerprint) {
+        List<PricingRule> active = rules.stream()
+                .filter(PricingRule::isActive)
+                // A igual alcance gana la de mayor prioridad: se procesan de menor a mayor y la última pisa
+                .sorted(Comparator.comparingInt(PricingRule::getPriority))
+                .toList();
+
+        BigDecimal generalTax = defaultTaxRate;
+        Map<UUID, BigDecimal> serviceTax = new HashMap<>();
+        List<VolumeTier> generalTiers = new ArrayList<>();
+        Map<UUID, List<VolumeTier>> serviceTiers = new HashMap<>();
+        List<Surcharge> generalSurcharges = new ArrayList<>();
+        Map<UUID, List<Surcharge>> serviceSurcharges = new HashMap<>();
+        int scale = 2;
+        RoundingMode roundingMode = RoundingMode.HALF_UP;
+        Set<UUID> services = new HashSet<>();
+
+        for (PricingRule rule : active) {
+            UUID serviceId = rule.getServiceId();
+            if (serviceId != null) {
+                services.add(serviceId);
+            }
+            switch (rule.getRuleType()) {
+                case TAX_RATE -> {
+                    if (serviceId == null) {
+                        generalTax = rule.getPercentage();
+                    } else {
+                        serviceTax.put(serviceId, rule.getPercentage());
+                    }
+                }
+                case VOLUME_DISCOUNT -> {
+                    VolumeTier tier = new VolumeTier(rule.getMinQuantity(), factor(rule.getPercentage().negate()));
+                    if (serviceId == null) {
+                        generalTiers.add(tier);
+                    } else {
+                        serviceTiers.computeIfAbsent(serviceId, id -> new ArrayList<>()).add(tier);
+                    }
+                }
+                case SEASONAL_SURCHARGE -> {
+                    Surcharge surcharge = new Surcharge(rule.getValidFrom(), rule.getValidTo(), factor(rule.getPercentage()));
+                    if (serviceId == null) {
+                        generalSurcharges.add(surcharge);
+                    } else {
+                        serviceSurcharges.computeIfAbsent(serviceId, id -> new ArrayList<>()).add(surcharge);
+                    }
+                }
+                case ROUNDING -> {
+                    scale = rule.getRoundingScale();
+                    roundingMode = RoundingMode.valueOf(rule.getRoundingMode());
+                }
+            }
+        }
+
+        ServicePricing general = ServicePricing.of(generalTax, generalTiers, generalSurcharges);
+        Map<UUID, ServicePricing> byService = new HashMap<>();
+        for (UUID serviceId : services) {
+            // Con el mismo mínimo, el tramo del servicio va antes que el general
+            List<VolumeTier> tiers = new ArrayList<>(serviceTiers.getOrDefault(serviceId, List.of()));
+            tiers.addAll(generalTiers);
+            List<Surcharge> surcharges = new ArrayList<>(generalSurcharges);
+            surcharges.addAll(serviceSurcharges.getOrDefault(serviceId, List.of()));
+            byService.put(serviceId, ServicePricing.of(serviceTax.getOrDefault(serviceId, generalTax), tiers, surcharges));
+        }
+        return new PricingRules(general, Map.copyOf(byService), scale, roundingMode, fingerprint);
+    }
+
+    /**
+     * Valora un ítem: precio por cantidad, descuento por volumen del tramo alcanzado, recargos de
+     * temporada vigentes en {@code eventDate} y el IVA del servicio. Los montos se redondean al final.
+     */
+    public PricedItem price(UUID serviceId, BigDecimal quantity, BigDecimal unitPrice, LocalDate eventDate) {
+        ServicePricing pricing = serviceId != null ? byService.getOrDefault(serviceId, general) : general;
+
+        BigDecimal amount = quantity.multiply(unitPrice);
+        for (VolumeTier tier : pricing.tiers()) {
+            if (quantity.compareTo(tier.minQuantity()) >= 0) {
+                amount = amount.multiply(tier.factor());
+                break;
+            }
+        }
+        if (eventDate != null) {
+            for (Surcharge surcharge : pricing.surcharges()) {
+                if (surcharge.covers(eventDate)) {
+                    amount = amount.multiply(surcharge.factor());
+                }
+            }
+        }
+
+        BigDecimal subtotal = amount.setScale(scale, roundingMode);
+        BigDecimal tax = subtotal.multiply(pricing.taxRate()).divide(HUNDRED).setScale(scale, roundingMode);
+        return new PricedItem(pricing.taxRate(), subtotal, tax, subtotal.add(tax));
+    }
+
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    private static BigDecimal factor(BigDecimal percentage) {
+        return BigDecimal.ONE.add(percentage.divide(HUNDRED));
+    }
+
+    public record PricedItem(BigDecimal taxRate, BigDecimal subtotal, BigDecimal tax, BigDecimal total) {
+    }
+
+    /**
+     * Tramos ordenados de mayor a menor mínimo: el primero que se alcanza es el que aplica.
+     */
+    private record ServicePricing(BigDecimal taxRate, List<VolumeTier> tiers, List<Surcharge> surcharges) {
+
+        static ServicePricing of(BigDecimal taxRate, List<VolumeTier> tiers, List<Surcharge> surcharges) {
+            List<VolumeTier> sorted = new ArrayList<>(tiers);
+            sorted.sort(Comparator.comparing(VolumeTier::minQuantity).reversed());
+            return new ServicePricing(Objects.requireNonNull(taxRate), List.copyOf(sorted), List.copyOf(surcharges));
+        }
+    }
+
+    private record VolumeTier(BigDecimal minQuantity, BigDecimal factor) {
+    }
+
+    private record Surcharge(LocalDate from, LocalDate to, BigDecimal factor) {
+
+        boolean covers(LocalDate date) {
+            return !date.isBefore(from) && !date.isAfter(to);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package sv.udb.puntoeventoapi.modules.pricing.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sv.udb.puntoeventoapi.modules.commons.enums.QuoteStatus;
+import sv.udb.puntoeventoapi.modules.pricing.dto.RepriceResponse;
+import sv.udb.puntoeventoapi.modules.quote.service.QuoteRevisionService;
+
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Revalora todas las cotizaciones pendientes con las reglas vigentes. Trabaja por lotes de
+ * {@code app.pricing.reprice-chunk-size} cotizaciones: cada lote lee sus ítems con una consulta, los
+ * valora en memoria con {@link PricingRules} y escribe cotizaciones e ítems con actualizaciones en
+ * bloque dentro de una transacción. Los lotes corren en paralelo ({@code app.pricing.reprice-parallelism}).
+ *
+ * <p>Solo se escriben las cotizaciones cuyo monto cambia, y la actualización exige que sigan pendientes
+ * e incrementa {@code version}: una aprobada entre la lectura y la escritura no se toca, y quien la
+ * esté editando con una versión anterior recibe el conflicto de bloqueo optimista. Cada cotización
+ * revalorada agrega una revisión con solo sus ítems modificados.
+ */
+@Slf4j
+@Service
+public class QuoteRepricingJob {
+
+    private static final String PENDING = QuoteStatus.Pendiente.name();
+
+    private static final String SELECT_ITEMS =
+            "SELECT qi.id, qi.quote_id, qi.service_id, qi.quantity, qi.unit_price, qi.tax_rate, qi.subtotal, qi.total, " +
+            "COALESCE(q.start_date, q.created_at) FROM quote_items qi JOIN quotes q ON q.id = qi.quote_id " +
+            "WHERE q.status = ? AND qi.quote_id IN (%s)";
+
+    private static final String UPDATE_QUOTE =
+            "UPDATE quotes SET subtotal = ?, tax_total = ?, total = ? + COALESCE(additional_costs, 0), " +
+            "updated_at = ?, version = version + 1 WHERE id = ? AND status = ?";
+
+    private static final String UPDATE_ITEM =
+            "UPDATE quote_items SET tax_rate = ?, subtotal = ?, total = ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PricingEngine pricingEngine;
+    private final QuoteRevisionService revisionService;
+    private final int chunkSize;
+    private final int parallelism;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public QuoteRepricingJob(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            PricingEngine pricingEngine,
+            QuoteRevisionService revisionService,
+            @Value("${app.pricing.reprice-chunk-size:500}") int chunkSize,
+            @Value("${app.pricing.reprice-parallelism:4}") int parallelism
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pricingEngine = pricingEngine;
+        this.revisionService = revisionService;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Vacío si ya hay una revaloración en curso en esta instancia.
+     */
+    public Optional<RepriceResponse> repricePending() {
+        if (!running.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(run());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private RepriceResponse run() {
+        long start = System.nanoTime();
+        // Todos los lotes usan la misma versión de las reglas
+        PricingRules rules = pricingEngine.current();
+        List<UUID> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM quotes WHERE status = ? ORDER BY id", UUID.class, PENDING);
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += chunkSize) {
+            chunks.add(ids.subList(i, Math.min(ids.size(), i + chunkSize)));
+        }
+
+        long quotes = 0;
+        long items = 0;
+        int failed = 0;
+        if (!chunks.isEmpty()) {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, chunks.size()));
+            try {
+                List<Future<long[]>> futures = new ArrayList<>(chunks.size());
+                chunks.forEach(chunk -> futures.add(executor.submit(() -> repriceChunk(chunk, rules))));
+                for (Future<long[]> future : futures) {
+                    try {
+                        long[] counts = future.get();
+                        quotes += counts[0];
+                        items += counts[1];
+                    } catch (ExecutionException e) {
+                        failed++;
+                        log.error("No se pudo revalorar un lote de cotizaciones: {}", e.getCause().getMessage());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failed++;
+                    }
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Revaloración: {} de {} cotizaciones pendientes y {} ítems actualizados en {} ms ({} lotes, {} con error)",
+                quotes, ids.size(), items, millis, chunks.size(), failed);
+        return RepriceResponse.builder()
+                .quotes(quotes)
+                .items(items)
+                .chunks(chunks.size())
+                .failedChunks(failed)
+                .durationMs(millis)
+                .build();
+    }
+
+    /**
+     * Revalora un lote en una transacción. Devuelve {cotizaciones, ítems} actualizados.
+     */
+    long[] repriceChunk(List<UUID> quoteIds, PricingRules rules) {
+        return transactionTemplate.execute(status -> {
+            Map<UUID, QuoteTotals> totals = new LinkedHashMap<>();
+            List<Object> args = new ArrayList<>(quoteIds.size() + 1);
+            args.add(PENDING);
+            args.addAll(quoteIds);
+            String sql = String.format(SELECT_ITEMS, String.join(", ", Collections.nCopies(quoteIds.size(), "?")));
+
+            jdbcTemplate.query(sql, rs -> {
+                UUID quoteId = rs.getObject(2, UUID.class);
+                Timestamp eventDate = rs.getTimestamp(9);
+                PricingRules.PricedItem priced = rules.price(rs.getObject(3, UUID.class), rs.getBigDecimal(4),
+                        rs.getBigDecimal(5), eventDate != null ? eventDate.toLocalDateTime().toLocalDate() : LocalDate.now());
+                boolean changed = differs(rs.getBigDecimal(6), priced.taxRate())
+                        || differs(rs.getBigDecimal(7), priced.subtotal())
+                        || differs(rs.getBigDecimal(8), priced.total());
+                totals.computeIfAbsent(quoteId, key -> new QuoteTotals()).add(rs.getObject(1, UUID.class), priced, changed);
+            }, args.toArray());
+
+            List<UUID> changedQuotes = totals.entrySet().stream()
+                    .filter(entry -> entry.getValue().changed)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (changedQuotes.isEmpty()) {
+                return new long[]{0, 0};
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE_QUOTE, changedQuotes.stream()
+                    .map(id -> {
+                        QuoteTotals quote = totals.get(id);
+                        return new Object[]{quote.subtotal, quote.tax, quote.subtotal.add(quote.tax), now, id, PENDING};
+                    })
+                    .toList());
+
+            // Los ítems solo se reescriben si su cotización seguía pendiente
+            List<Object[]> itemArgs = new ArrayList<>();
+            List<QuoteRevisionService.Change> revisions = new ArrayList<>();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] > 0 || updated[i] == Statement.SUCCESS_NO_INFO) {
+                    QuoteTotals quote = totals.get(changedQuotes.get(i));
+                    quote.changedItems.forEach(itemId -> {
+                        PricingRules.PricedItem priced = quote.items.get(itemId);
+                        itemArgs.add(new Object[]{priced.taxRate(), priced.subtotal(), priced.total(), now, itemId});
+                    });
+                    revisions.add(new QuoteRevisionService.Change(changedQuotes.get(i), quote.changedItems, List.of()));
+                }
+            }
+            if (!itemArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_ITEM, itemArgs);
+            }
+            // El historial guarda solo los ítems revalorados de cada cotización
+            revisionService.recordAll(revisions, "Revaloración por reglas de precio", null);
+            return new long[]{revisions.size(), itemArgs.size()};
+        });
+    }
+
+    private static boolean differs(BigDecimal stored, BigDecimal priced) {
+        return stored == null || stored.compareTo(priced) != 0;
+    }
+
+    private static final class QuoteTotals {
+
+        private final Map<UUID, PricingRules.PricedItem> items = new LinkedHashMap<>();
+        private final List<UUID> changedItems = new ArrayList<>();
+        private BigDecimal subtotal = BigDecimal.ZERO;
+        private BigDecimal tax = BigDecimal.ZERO;
+        private boolean changed;
+
+        void add(UUID itemId, PricingRules.PricedItem priced, boolean itemChanged) {
+            items.put(itemId, priced);
+            subtotal = subtotal.add(priced.subtotal());
+            tax = tax.add(priced.tax());
+            if (itemChanged) {
+                changedItems.add(itemId);
+                changed = true;
+            }
+        }
+    }
+}
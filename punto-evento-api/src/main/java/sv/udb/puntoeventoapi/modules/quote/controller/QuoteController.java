@@ -10,6 +10,10 @@ import sv.udb.puntoeventoapi.modules.commons.enums.QuoteStatus;
 import sv.udb.puntoeventoapi.modules.quote.dto.QuoteDto;
 import sv.udb.puntoeventoapi.modules.quote.dto.QuoteResponse;
 import sv.udb.puntoeventoapi.modules.quote.dto.ApproveRejectQuoteDto;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteRevisionDiffResponse;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteRevisionDto;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteRevisionResponse;
+import sv.udb.puntoeventoapi.modules.quote.service.QuoteRevisionService;
 import sv.udb.puntoeventoapi.modules.quote.service.QuoteService;
 import sv.udb.puntoeventoapi.modules.user.repository.UserRepository;
 import sv.udb.puntoeventoapi.modules.client.repository.ClientRepository;
@@ -26,6 +30,7 @@ import java.util.UUID;
 public class QuoteController {
 
     private final QuoteService service;
+    private final QuoteRevisionService revisionService;
     private final UserRepository userRepository;
     private final ClientRepository clientRepository;
     private final ClientService clientService;
@@ -102,4 +107,36 @@ public class QuoteController {
         ApiResponse<QuoteResponse> response = service.approveOrRejectQuote(id, dto, currentUser.getId());
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Renegociar los ítems de una cotización; genera una nueva revisión
+     */
+    @PutMapping("/{id}/items")
+    public ResponseEntity<ApiResponse<QuoteRevisionResponse>> revise(
+            @PathVariable UUID id,
+            @RequestBody @Valid QuoteRevisionDto dto,
+            @CurrentUser User currentUser) {
+        return ResponseEntity.ok(ApiResponseUtil.success(service.revise(id, dto, currentUser.getId())));
+    }
+
+    @GetMapping("/{id}/revisions")
+    public ResponseEntity<ApiResponse<List<QuoteRevisionResponse>>> getRevisions(@PathVariable UUID id) {
+        return ResponseEntity.ok(ApiResponseUtil.success(revisionService.list(id)));
+    }
+
+    // Sin parámetros compara la revisión vigente con la anterior
+    @GetMapping("/{id}/revisions/diff")
+    public ResponseEntity<ApiResponse<QuoteRevisionDiffResponse>> diffRevisions(
+            @PathVariable UUID id,
+            @RequestParam(required = false) Integer from,
+            @RequestParam(required = false) Integer to) {
+        return ResponseEntity.ok(ApiResponseUtil.success(revisionService.diff(id, from, to)));
+    }
+
+    @GetMapping("/{id}/revisions/{revision}")
+    public ResponseEntity<ApiResponse<QuoteRevisionResponse>> getRevision(
+            @PathVariable UUID id,
+            @PathVariable int revision) {
+        return ResponseEntity.ok(ApiResponseUtil.success(revisionService.get(id, revision)));
+    }
 }
@@ -0,0 +1,29 @@
+package sv.udb.puntoeventoapi.modules.quote.dto;
+
+import lombok.Builder;
+import sv.udb.puntoeventoapi.modules.commons.enums.ItemChangeType;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record QuoteRevisionDiffResponse(
+        UUID quoteId,
+        int fromRevision,
+        int toRevision,
+        BigDecimal totalBefore,
+        BigDecimal totalAfter,
+        List<ItemChange> changes
+) {
+
+    // before es null en ADDED y after en REMOVED
+    @Builder
+    public record ItemChange(
+            UUID itemKey,
+            ItemChangeType change,
+            QuoteItemResponse before,
+            QuoteItemResponse after
+    ) {
+    }
+}
@@ -0,0 +1,22 @@
+package sv.udb.puntoeventoapi.modules.quote.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+import java.util.List;
+
+public record QuoteRevisionDto(
+
+        // Lista completa de ítems de la nueva revisión: los vigentes que no aparecen se eliminan
+        @NotNull(message = "Debe incluir al menos un servicio.")
+        @Size(min = 1, message = "Debe incluir al menos un servicio.")
+        @Valid
+        List<QuoteRevisionItemDto> items,
+
+        @DecimalMin(value = "0.0", inclusive = true, message = "El costo adicional no puede ser negativo.")
+        Double additionalCosts,
+
+        @Size(max = 255, message = "La nota no puede superar 255 caracteres.")
+        String note
+
+) {}
@@ -0,0 +1,25 @@
+package sv.udb.puntoeventoapi.modules.quote.dto;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record QuoteRevisionResponse(
+        UUID quoteId,
+        int revision,
+        BigDecimal subtotal,
+        BigDecimal taxTotal,
+        BigDecimal additionalCosts,
+        BigDecimal total,
+        int changedItems,
+        String note,
+        UUID createdBy,
+        LocalDateTime createdAt,
+        // Solo al consultar una revisión concreta
+        List<QuoteItemResponse> items
+) {
+}
@@ -57,6 +57,11 @@ public class Quote {
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // Control de concurrencia optimista; las filas existentes inician en 0
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
     
     public void addItem(QuoteItem item) {
         items.add(item);
@@ -0,0 +1,58 @@
+package sv.udb.puntoeventoapi.modules.quote.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Encabezado inmutable de una revisión de cotización: totales en ese momento y cuántos ítems cambiaron.
+ * Solo lo escribe {@code QuoteRevisionService}.
+ */
+@Entity
+@Table(name = "quote_revisions")
+@IdClass(QuoteRevision.Key.class)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteRevision {
+
+    @Id
+    private UUID quoteId;
+
+    @Id
+    private int revisionNumber;
+
+    @Column(precision = 38, scale = 2)
+    private BigDecimal subtotal;
+
+    @Column(precision = 38, scale = 2)
+    private BigDecimal taxTotal;
+
+    @Column(precision = 38, scale = 2)
+    private BigDecimal additionalCosts;
+
+    @Column(precision = 38, scale = 2)
+    private BigDecimal total;
+
+    @Column(nullable = false)
+    private int changedItems;
+
+    private String note;
+
+    private UUID createdBy;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID quoteId;
+        private int revisionNumber;
+    }
+}
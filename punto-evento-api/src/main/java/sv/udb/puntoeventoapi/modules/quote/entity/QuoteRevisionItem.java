@@ -0,0 +1,62 @@
+package sv.udb.puntoeventoapi.modules.quote.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Versión de un ítem introducida en una revisión. Los ítems sin cambios no se copian: en la revisión N
+ * vale la fila con mayor {@code revisionNumber <= N} de cada {@code itemKey}, salvo que esté marcada
+ * como eliminada.
+ */
+@Entity
+@Table(name = "quote_revision_items")
+@IdClass(QuoteRevisionItem.Key.class)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteRevisionItem {
+
+    @Id
+    private UUID quoteId;
+
+    @Id
+    private UUID itemKey;
+
+    @Id
+    private int revisionNumber;
+
+    private UUID serviceId;
+
+    private String description;
+
+    @Column(precision = 12, scale = 2)
+    private BigDecimal quantity;
+
+    @Column(precision = 12, scale = 2)
+    private BigDecimal unitPrice;
+
+    @Column(precision = 5, scale = 2)
+    private BigDecimal taxRate;
+
+    @Column(precision = 12, scale = 2)
+    private BigDecimal subtotal;
+
+    @Column(precision = 12, scale = 2)
+    private BigDecimal total;
+
+    @Column(nullable = false)
+    private boolean removed;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID quoteId;
+        private UUID itemKey;
+        private int revisionNumber;
+    }
+}
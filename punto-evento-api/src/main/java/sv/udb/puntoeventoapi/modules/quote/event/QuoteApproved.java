@@ -0,0 +1,16 @@
+package sv.udb.puntoeventoapi.modules.quote.event;
+
+import sv.udb.puntoeventoapi.modules.outbox.service.DomainEvent;
+
+import java.util.UUID;
+
+/**
+ * El cliente aprobó una cotización; a partir de ella se crea la reservación.
+ */
+public record QuoteApproved(UUID quoteId, UUID approvedBy, String notes) implements DomainEvent {
+
+    @Override
+    public UUID aggregateId() {
+        return quoteId;
+    }
+}
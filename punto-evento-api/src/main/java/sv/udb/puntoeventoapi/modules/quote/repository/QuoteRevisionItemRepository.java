@@ -0,0 +1,19 @@
+package sv.udb.puntoeventoapi.modules.quote.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import sv.udb.puntoeventoapi.modules.quote.entity.QuoteRevisionItem;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface QuoteRevisionItemRepository extends JpaRepository<QuoteRevisionItem, QuoteRevisionItem.Key> {
+
+    // Última versión de cada ítem hasta la revisión pedida; la subconsulta se resuelve con la llave primaria
+    @Query("SELECT i FROM QuoteRevisionItem i WHERE i.quoteId = :quoteId AND i.removed = false " +
+           "AND i.revisionNumber = (SELECT MAX(j.revisionNumber) FROM QuoteRevisionItem j " +
+           "WHERE j.quoteId = i.quoteId AND j.itemKey = i.itemKey AND j.revisionNumber <= :revision) " +
+           "ORDER BY i.description, i.itemKey")
+    List<QuoteRevisionItem> findItemsAt(@Param("quoteId") UUID quoteId, @Param("revision") int revision);
+}
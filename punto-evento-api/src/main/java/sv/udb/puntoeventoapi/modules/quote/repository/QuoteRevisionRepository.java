@@ -0,0 +1,17 @@
+package sv.udb.puntoeventoapi.modules.quote.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import sv.udb.puntoeventoapi.modules.quote.entity.QuoteRevision;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface QuoteRevisionRepository extends JpaRepository<QuoteRevision, QuoteRevision.Key> {
+
+    List<QuoteRevision> findByQuoteIdOrderByRevisionNumberDesc(UUID quoteId);
+
+    Optional<QuoteRevision> findFirstByQuoteIdOrderByRevisionNumberDesc(UUID quoteId);
+
+    Optional<QuoteRevision> findByQuoteIdAndRevisionNumber(UUID quoteId, int revisionNumber);
+}
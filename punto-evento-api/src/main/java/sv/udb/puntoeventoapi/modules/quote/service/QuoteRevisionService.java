@@ -0,0 +1,255 @@
+package sv.udb.puntoeventoapi.modules.quote.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sv.udb.puntoeventoapi.modules.commons.common.exceptions.FieldValidationException;
+import sv.udb.puntoeventoapi.modules.commons.enums.ItemChangeType;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteItemResponse;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteRevisionDiffResponse;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteRevisionResponse;
+import sv.udb.puntoeventoapi.modules.quote.entity.QuoteRevision;
+import sv.udb.puntoeventoapi.modules.quote.entity.QuoteRevisionItem;
+import sv.udb.puntoeventoapi.modules.quote.repository.QuoteRevisionItemRepository;
+import sv.udb.puntoeventoapi.modules.quote.repository.QuoteRevisionRepository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Historial inmutable de cotizaciones. {@code quotes} y {@code quote_items} siguen siendo la revisión
+ * vigente (se leen como siempre, por id); cada cambio agrega un encabezado en {@code quote_revisions}
+ * y en {@code quote_revision_items} solo los ítems modificados, agregados o eliminados. El resto se
+ * comparte con las revisiones anteriores, así que el historial crece con las ediciones y no con el
+ * tamaño de la cotización.
+ *
+ * <p>Las revisiones se escriben copiando el estado ya actualizado de las tablas vigentes, dentro de la
+ * transacción del cambio. Dos revisiones simultáneas de la misma cotización chocan en la versión de
+ * {@code quotes} (o en la llave primaria), nunca quedan con el mismo número.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class QuoteRevisionService {
+
+    private static final String INSERT_REVISION =
+            "INSERT INTO quote_revisions (quote_id, revision_number, subtotal, tax_total, additional_costs, total, " +
+            "changed_items, note, created_by, created_at) " +
+            "SELECT q.id, ?, q.subtotal, q.tax_total, q.additional_costs, q.total, ?, ?, CAST(? AS UUID), ? " +
+            "FROM quotes q WHERE q.id = ?";
+
+    private static final String INSERT_ITEM =
+            "INSERT INTO quote_revision_items (quote_id, item_key, revision_number, service_id, description, quantity, " +
+            "unit_price, tax_rate, subtotal, total, removed) " +
+            "SELECT qi.quote_id, qi.id, ?, qi.service_id, qi.description, qi.quantity, qi.unit_price, qi.tax_rate, " +
+            "qi.subtotal, qi.total, FALSE FROM quote_items qi WHERE qi.id = ?";
+
+    private static final String INSERT_REMOVED =
+            "INSERT INTO quote_revision_items (quote_id, item_key, revision_number, removed) VALUES (?, ?, ?, TRUE)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QuoteRevisionRepository revisionRepository;
+    private final QuoteRevisionItemRepository revisionItemRepository;
+
+    /**
+     * Cambios de una cotización ya escritos (y sincronizados con flush) en las tablas vigentes.
+     */
+    public record Change(UUID quoteId, Collection<UUID> changedItemIds, Collection<UUID> removedItemKeys) {
+    }
+
+    public int record(Change change, String note, UUID createdBy) {
+        return recordAll(List.of(change), note, createdBy).get(change.quoteId());
+    }
+
+    /**
+     * Registra una revisión por cotización con actualizaciones en bloque. Si la cotización aún no tiene
+     * historial, la primera revisión copia todos sus ítems. Devuelve el número de revisión de cada una.
+     */
+    public Map<UUID, Integer> recordAll(List<Change> changes, String note, UUID createdBy) {
+        if (changes.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> quoteIds = changes.stream().map(Change::quoteId).toList();
+        Map<UUID, Integer> latest = latestRevisions(quoteIds);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        Map<UUID, Integer> numbers = new LinkedHashMap<>();
+        List<Object[]> headers = new ArrayList<>(changes.size());
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> removed = new ArrayList<>();
+        for (Change change : changes) {
+            int previous = latest.getOrDefault(change.quoteId(), 0);
+            int number = previous + 1;
+            Collection<UUID> changed = previous == 0
+                    ? jdbcTemplate.queryForList("SELECT id FROM quote_items WHERE quote_id = ?", UUID.class, change.quoteId())
+                    : change.changedItemIds();
+            Collection<UUID> gone = previous == 0 ? List.of() : change.removedItemKeys();
+
+            numbers.put(change.quoteId(), number);
+            headers.add(new Object[]{number, changed.size() + gone.size(), note, createdBy, now, change.quoteId()});
+            changed.forEach(itemId -> items.add(new Object[]{number, itemId}));
+            gone.forEach(itemKey -> removed.add(new Object[]{change.quoteId(), itemKey, number}));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_REVISION, headers);
+        if (!items.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ITEM, items);
+        }
+        if (!removed.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_REMOVED, removed);
+        }
+        log.debug("Revisiones registradas: {} cotizaciones, {} ítems modificados, {} eliminados",
+                headers.size(), items.size(), removed.size());
+        return numbers;
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuoteRevisionResponse> list(UUID quoteId) {
+        return revisionRepository.findByQuoteIdOrderByRevisionNumberDesc(quoteId).stream()
+                .map(revision -> toResponse(revision, null))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public QuoteRevisionResponse get(UUID quoteId, int revision) {
+        QuoteRevision header = find(quoteId, revision);
+        List<QuoteItemResponse> items = revisionItemRepository.findItemsAt(quoteId, revision).stream()
+                .map(QuoteRevisionService::toItemResponse)
+                .toList();
+        return toResponse(header, items);
+    }
+
+    /**
+     * Diferencias entre dos revisiones. Sin {@code to} se usa la vigente y sin {@code from}, la anterior a {@code to}.
+     */
+    @Transactional(readOnly = true)
+    public QuoteRevisionDiffResponse diff(UUID quoteId, Integer from, Integer to) {
+        int toRevision = to != null ? to : revisionRepository.findFirstByQuoteIdOrderByRevisionNumberDesc(quoteId)
+                .map(QuoteRevision::getRevisionNumber)
+                .orElseThrow(() -> new RuntimeException("La cotización no tiene revisiones"));
+        int fromRevision = from != null ? from : Math.max(1, toRevision - 1);
+        if (fromRevision > toRevision) {
+            throw new FieldValidationException("from", "La revisión inicial no puede ser posterior a la final");
+        }
+        QuoteRevision before = find(quoteId, fromRevision);
+        QuoteRevision after = find(quoteId, toRevision);
+
+        Map<UUID, QuoteRevisionItem> beforeItems = byKey(revisionItemRepository.findItemsAt(quoteId, fromRevision));
+        Map<UUID, QuoteRevisionItem> afterItems = byKey(revisionItemRepository.findItemsAt(quoteId, toRevision));
+
+        List<QuoteRevisionDiffResponse.ItemChange> changes = new ArrayList<>();
+        afterItems.forEach((key, item) -> {
+            QuoteRevisionItem previous = beforeItems.get(key);
+            if (previous == null) {
+                changes.add(change(key, ItemChangeType.ADDED, null, item));
+            } else if (previous.getRevisionNumber() != item.getRevisionNumber() && !sameContent(previous, item)) {
+                changes.add(change(key, ItemChangeType.CHANGED, previous, item));
+            }
+        });
+        beforeItems.forEach((key, item) -> {
+            if (!afterItems.containsKey(key)) {
+                changes.add(change(key, ItemChangeType.REMOVED, item, null));
+            }
+        });
+
+        return QuoteRevisionDiffResponse.builder()
+                .quoteId(quoteId)
+                .fromRevision(fromRevision)
+                .toRevision(toRevision)
+                .totalBefore(before.getTotal())
+                .totalAfter(after.getTotal())
+                .changes(changes)
+                .build();
+    }
+
+    private Map<UUID, Integer> latestRevisions(List<UUID> quoteIds) {
+        Map<UUID, Integer> latest = new HashMap<>();
+        String placeholders = String.join(", ", Collections.nCopies(quoteIds.size(), "?"));
+        jdbcTemplate.query("SELECT quote_id, MAX(revision_number) FROM quote_revisions WHERE quote_id IN (" +
+                        placeholders + ") GROUP BY quote_id",
+                rs -> {
+                    latest.put(rs.getObject(1, UUID.class), rs.getInt(2));
+                }, quoteIds.toArray());
+        return latest;
+    }
+
+    private QuoteRevision find(UUID quoteId, int revision) {
+        return revisionRepository.findByQuoteIdAndRevisionNumber(quoteId, revision)
+                .orElseThrow(() -> new RuntimeException("Revisión " + revision + " no encontrada"));
+    }
+
+    private static Map<UUID, QuoteRevisionItem> byKey(List<QuoteRevisionItem> items) {
+        return items.stream().collect(Collectors.toMap(QuoteRevisionItem::getItemKey, Function.identity(),
+                (a, b) -> a, LinkedHashMap::new));
+    }
+
+    // Una revisión puede volver a escribir un ítem sin cambios de contenido (p. ej. la primera de una
+    // cotización anterior al historial); eso no cuenta como cambio
+    private static boolean sameContent(QuoteRevisionItem a, QuoteRevisionItem b) {
+        return Objects.equals(a.getServiceId(), b.getServiceId())
+                && Objects.equals(a.getDescription(), b.getDescription())
+                && sameAmount(a.getQuantity(), b.getQuantity())
+                && sameAmount(a.getUnitPrice(), b.getUnitPrice())
+                && sameAmount(a.getTaxRate(), b.getTaxRate())
+                && sameAmount(a.getSubtotal(), b.getSubtotal())
+                && sameAmount(a.getTotal(), b.getTotal());
+    }
+
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+
+    private static QuoteRevisionDiffResponse.ItemChange change(UUID key, ItemChangeType type,
+                                                              QuoteRevisionItem before, QuoteRevisionItem after) {
+        return QuoteRevisionDiffResponse.ItemChange.builder()
+                .itemKey(key)
+                .change(type)
+                .before(before != null ? toItemResponse(before) : null)
+                .after(after != null ? toItemResponse(after) : null)
+                .build();
+    }
+
+    private static QuoteRevisionResponse toResponse(QuoteRevision revision, List<QuoteItemResponse> items) {
+        return QuoteRevisionResponse.builder()
+                .quoteId(revision.getQuoteId())
+                .revision(revision.getRevisionNumber())
+                .subtotal(revision.getSubtotal())
+                .taxTotal(revision.getTaxTotal())
+                .additionalCosts(revision.getAdditionalCosts())
+                .total(revision.getTotal())
+                .changedItems(revision.getChangedItems())
+                .note(revision.getNote())
+                .createdBy(revision.getCreatedBy())
+                .createdAt(revision.getCreatedAt())
+                .items(items)
+                .build();
+    }
+
+    private static QuoteItemResponse toItemResponse(QuoteRevisionItem item) {
+        return QuoteItemResponse.builder()
+                .id(item.getItemKey())
+                .serviceId(item.getServiceId())
+                .description(item.getDescription())
+                .quantity(item.getQuantity())
+                .unitPrice(item.getUnitPrice())
+                .taxRate(item.getTaxRate())
+                .subtotal(item.getSubtotal())
+                .total(item.getTotal())
+                .build();
+    }
+}
@@ -4,30 +4,42 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sv.udb.puntoeventoapi.config.jfr.QuoteApprovalEvent;
+import sv.udb.puntoeventoapi.config.jfr.QuoteCreateEvent;
 import sv.udb.puntoeventoapi.modules.commons.enums.QuoteStatus;
 import sv.udb.puntoeventoapi.modules.commons.enums.Status;
-import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
 import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
 import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
 import sv.udb.puntoeventoapi.modules.quote.dto.QuoteDto;
 import sv.udb.puntoeventoapi.modules.quote.dto.QuoteResponse;
 import sv.udb.puntoeventoapi.modules.quote.dto.ApproveRejectQuoteDto;
+import sv.udb.puntoeventoapi.modules.quote.event.QuoteApproved;
+import sv.udb.puntoeventoapi.modules.outbox.service.OutboxPublisher;
+import sv.udb.puntoeventoapi.modules.pricing.service.PricingEngine;
+import sv.udb.puntoeventoapi.modules.pricing.service.PricingRules;
 import sv.udb.puntoeventoapi.modules.quote.repository.QuoteRepository;
 import sv.udb.puntoeventoapi.modules.request.entity.Request;
+import sv.udb.puntoeventoapi.modules.reservation.service.ReservationDetailCache;
 import sv.udb.puntoeventoapi.modules.request.repository.RequestRepository;
-import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
-import sv.udb.puntoeventoapi.modules.reservation.repository.ReservationRepository;
 import sv.udb.puntoeventoapi.modules.client.entity.Client;
 import sv.udb.puntoeventoapi.modules.client.repository.ClientRepository;
 import sv.udb.puntoeventoapi.modules.quote.entity.QuoteItem;
 import sv.udb.puntoeventoapi.modules.quote.repository.QuoteItemRepository;
 import sv.udb.puntoeventoapi.modules.quote.dto.QuoteItemDto;
 import sv.udb.puntoeventoapi.modules.quote.dto.QuoteItemResponse;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteRevisionDto;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteRevisionItemDto;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteRevisionResponse;
+import sv.udb.puntoeventoapi.modules.commons.common.exceptions.FieldValidationException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.Optional;
@@ -41,9 +53,12 @@ public class QuoteService {
 
     private final QuoteRepository repository;
     private final RequestRepository requestRepository;
-    private final ReservationRepository reservationRepository;
     private final ClientRepository clientRepository;
     private final QuoteItemRepository quoteItemRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final PricingEngine pricingEngine;
+    private final QuoteRevisionService quoteRevisionService;
+    private final ReservationDetailCache reservationDetailCache;
 
     public ApiResponse<QuoteResponse> createQuoteFromRequest(UUID requestId, UUID createdBy) {
         try {
@@ -71,7 +86,9 @@ public class QuoteService {
                     .updatedAt(LocalDateTime.now())
                     .build();
             
-            Quote savedQuote = repository.save(quote);
+            Quote savedQuote = repository.saveAndFlush(quote);
+            quoteRevisionService.record(new QuoteRevisionService.Change(savedQuote.getId(), List.of(), List.of()),
+                    "Versión inicial", createdBy);
             log.info("Cotización creada desde solicitud: {}", savedQuote.getId());
             
             return ApiResponse.success(toResponse(savedQuote), "Cotización creada exitosamente");
@@ -82,6 +99,9 @@ public class QuoteService {
     }
     
     public QuoteResponse create(QuoteDto dto) {
+        QuoteCreateEvent event = new QuoteCreateEvent();
+        event.begin();
+
         if (dto.startDate() != null && dto.endDate() != null && dto.startDate().isAfter(dto.endDate())) {
             throw new IllegalArgumentException("La fecha de inicio no puede ser posterior a la fecha de fin.");
         }
@@ -110,32 +130,32 @@ public class QuoteService {
                 .items(new ArrayList<>())
                 .build();
 
-        // Crear los items de la cotización
+        // Crear los items de la cotización con las reglas de precio vigentes
+        PricingRules rules = pricingEngine.current();
         BigDecimal subtotalItems = BigDecimal.ZERO;
         BigDecimal taxTotalItems = BigDecimal.ZERO;
         
         for (QuoteItemDto itemDto : dto.items()) {
+            BigDecimal quantity = BigDecimal.valueOf(itemDto.quantity());
+            BigDecimal unitPrice = BigDecimal.valueOf(itemDto.unitPrice());
+            PricingRules.PricedItem priced = rules.price(itemDto.serviceId(), quantity, unitPrice, dto.startDate());
+
             QuoteItem item = QuoteItem.builder()
                     .quote(quote)
+                    .serviceId(itemDto.serviceId())
                     .description(itemDto.description())
-                    .quantity(BigDecimal.valueOf(itemDto.quantity()))
-                    .unitPrice(BigDecimal.valueOf(itemDto.unitPrice()))
-                    .taxRate(new BigDecimal("13.00")) // 13% IVA
+                    .quantity(quantity)
+                    .unitPrice(unitPrice)
+                    .taxRate(priced.taxRate())
+                    .subtotal(priced.subtotal())
+                    .total(priced.total())
                     .createdAt(LocalDateTime.now())
                     .build();
             
-            // Calcular subtotal y total del item
-            BigDecimal itemSubtotal = item.getQuantity().multiply(item.getUnitPrice());
-            BigDecimal itemTax = itemSubtotal.multiply(item.getTaxRate()).divide(new BigDecimal("100"));
-            BigDecimal itemTotal = itemSubtotal.add(itemTax);
-            
-            item.setSubtotal(itemSubtotal);
-            item.setTotal(itemTotal);
-            
             quote.addItem(item);
             
-            subtotalItems = subtotalItems.add(itemSubtotal);
-            taxTotalItems = taxTotalItems.add(itemTax);
+            subtotalItems = subtotalItems.add(priced.subtotal());
+            taxTotalItems = taxTotalItems.add(priced.tax());
         }
 
         // Calcular totales de la cotización
@@ -144,9 +164,19 @@ public class QuoteService {
         BigDecimal total = subtotalItems.add(taxTotalItems).add(quote.getAdditionalCosts());
         quote.setTotal(total);
 
-        Quote savedQuote = repository.save(quote);
+        Quote savedQuote = repository.saveAndFlush(quote);
+        quoteRevisionService.record(new QuoteRevisionService.Change(savedQuote.getId(),
+                savedQuote.getItems().stream().map(QuoteItem::getId).toList(), List.of()), "Versión inicial", null);
         log.info("Cotización creada con {} items. Total: ${}", savedQuote.getItems().size(), savedQuote.getTotal());
 
+        event.end();
+        if (event.shouldCommit()) {
+            event.quoteId = String.valueOf(savedQuote.getId());
+            event.clientId = String.valueOf(client.getId());
+            event.itemCount = savedQuote.getItems().size();
+            event.total = total.doubleValue();
+            event.commit();
+        }
         return toResponse(savedQuote);
     }
 
@@ -213,7 +243,11 @@ public class QuoteService {
             quote.setTotal(subtotal.add(taxTotal).add(additionalCosts));
             quote.setUpdatedAt(LocalDateTime.now());
             
-            Quote savedQuote = repository.save(quote);
+            // Los totales anteriores quedan en el historial de revisiones
+            Quote savedQuote = repository.saveAndFlush(quote);
+            quoteRevisionService.record(new QuoteRevisionService.Change(id, List.of(), List.of()),
+                    "Ajuste de precios", null);
+            reservationDetailCache.invalidateQuoteAfterCommit(id);
             log.info("Precios de cotización actualizados: {}", id);
             
             return ApiResponse.success(toResponse(savedQuote), "Precios actualizados exitosamente");
@@ -223,6 +257,95 @@ public class QuoteService {
         }
     }
     
+    /**
+     * Renegocia los ítems de una cotización y registra la nueva revisión. Recibe la lista completa:
+     * los ítems con id se conservan (y se revaloran si cambian), los sin id se agregan y los vigentes
+     * que no vienen se eliminan. En el historial solo quedan los ítems que cambiaron.
+     */
+    public QuoteRevisionResponse revise(UUID id, QuoteRevisionDto dto, UUID userId) {
+        Quote quote = repository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Cotización no encontrada"));
+        if (quote.getStatus() != QuoteStatus.Pendiente && quote.getStatus() != QuoteStatus.EnProceso) {
+            throw new FieldValidationException("status",
+                    "Solo se pueden modificar cotizaciones pendientes o en proceso. Estado actual: " + quote.getStatus());
+        }
+
+        Map<UUID, QuoteItem> current = quote.getItems().stream()
+                .collect(Collectors.toMap(QuoteItem::getId, item -> item));
+        PricingRules rules = pricingEngine.current();
+        LocalDate eventDate = quote.getStartDate() != null ? quote.getStartDate().toLocalDate() : null;
+        LocalDateTime now = LocalDateTime.now();
+
+        List<QuoteItem> changed = new ArrayList<>();
+        Set<UUID> kept = new HashSet<>();
+        for (QuoteRevisionItemDto itemDto : dto.items()) {
+            BigDecimal quantity = BigDecimal.valueOf(itemDto.quantity());
+            BigDecimal unitPrice = BigDecimal.valueOf(itemDto.unitPrice());
+            PricingRules.PricedItem priced = rules.price(itemDto.serviceId(), quantity, unitPrice, eventDate);
+
+            QuoteItem item;
+            if (itemDto.id() != null) {
+                item = current.get(itemDto.id());
+                if (item == null || !kept.add(itemDto.id())) {
+                    throw new FieldValidationException("items", "Ítem no válido para esta cotización: " + itemDto.id());
+                }
+                if (sameItem(item, itemDto.serviceId(), itemDto.description(), quantity, unitPrice, priced)) {
+                    continue;
+                }
+            } else {
+                item = QuoteItem.builder().createdAt(now).build();
+                quote.addItem(item);
+            }
+            item.setServiceId(itemDto.serviceId());
+            item.setDescription(itemDto.description());
+            item.setQuantity(quantity);
+            item.setUnitPrice(unitPrice);
+            item.setTaxRate(priced.taxRate());
+            item.setSubtotal(priced.subtotal());
+            item.setTotal(priced.total());
+            changed.add(item);
+        }
+
+        List<UUID> removed = current.keySet().stream().filter(key -> !kept.contains(key)).toList();
+        removed.forEach(key -> quote.removeItem(current.get(key)));
+
+        if (dto.additionalCosts() != null) {
+            quote.setAdditionalCosts(BigDecimal.valueOf(dto.additionalCosts()));
+        }
+        BigDecimal subtotal = BigDecimal.ZERO;
+        BigDecimal taxTotal = BigDecimal.ZERO;
+        for (QuoteItem item : quote.getItems()) {
+            subtotal = subtotal.add(item.getSubtotal());
+            taxTotal = taxTotal.add(item.getTotal().subtract(item.getSubtotal()));
+        }
+        BigDecimal additionalCosts = quote.getAdditionalCosts() != null ? quote.getAdditionalCosts() : BigDecimal.ZERO;
+        quote.setSubtotal(subtotal);
+        quote.setTaxTotal(taxTotal);
+        quote.setTotal(subtotal.add(taxTotal).add(additionalCosts));
+        quote.setUpdatedAt(now);
+
+        // La cotización ya está administrada: flush persiste los ítems nuevos (con su id) y la revisión
+        // se copia de las tablas vigentes ya actualizadas
+        repository.flush();
+        int revision = quoteRevisionService.record(new QuoteRevisionService.Change(id,
+                changed.stream().map(QuoteItem::getId).toList(), removed), dto.note(), userId);
+        reservationDetailCache.invalidateQuoteAfterCommit(id);
+        log.info("Cotización {} revisada (revisión {}): {} ítems modificados, {} eliminados",
+                id, revision, changed.size(), removed.size());
+        return quoteRevisionService.get(id, revision);
+    }
+
+    private static boolean sameItem(QuoteItem item, UUID serviceId, String description,
+                                    BigDecimal quantity, BigDecimal unitPrice, PricingRules.PricedItem priced) {
+        return Objects.equals(item.getServiceId(), serviceId)
+                && Objects.equals(item.getDescription(), description)
+                && item.getQuantity().compareTo(quantity) == 0
+                && item.getUnitPrice().compareTo(unitPrice) == 0
+                && item.getTaxRate().compareTo(priced.taxRate()) == 0
+                && item.getSubtotal().compareTo(priced.subtotal()) == 0
+                && item.getTotal().compareTo(priced.total()) == 0;
+    }
+
     public ApiResponse<QuoteResponse> approveQuote(UUID id) {
         try {
             Quote quote = repository.findById(id)
@@ -236,6 +359,7 @@ public class QuoteService {
             quote.setUpdatedAt(LocalDateTime.now());
             
             Quote savedQuote = repository.save(quote);
+            reservationDetailCache.invalidateQuoteAfterCommit(id);
             log.info("Cotización aprobada: {}", id);
             
             return ApiResponse.success(toResponse(savedQuote), "Cotización aprobada exitosamente");
@@ -252,19 +376,30 @@ public class QuoteService {
         quote.setStatus(status);
         quote.setUpdatedAt(LocalDateTime.now());
 
-        return toResponse(repository.save(quote));
+        Quote savedQuote = repository.save(quote);
+        reservationDetailCache.invalidateQuoteAfterCommit(id);
+        return toResponse(savedQuote);
     }
     
     /**
      * Aprobar o rechazar una cotización
-     * Si se aprueba, automáticamente crea una reservación
+     * Si se aprueba, registra un evento {@link QuoteApproved} y la reservación se crea en segundo plano
      */
     public ApiResponse<QuoteResponse> approveOrRejectQuote(UUID quoteId, ApproveRejectQuoteDto dto, UUID userId) {
+        QuoteApprovalEvent event = new QuoteApprovalEvent();
+        event.begin();
+        // Los campos del evento se llenan al final y solo si JFR lo va a registrar
+        String action = null;
+        QuoteStatus previousStatus = null;
+        int itemCount = 0;
+        boolean reservationQueued = false;
+        boolean success = false;
         try {
             Quote quote = repository.findById(quoteId)
                     .orElseThrow(() -> new RuntimeException("Cotización no encontrada"));
             
-            String action = dto.getAction().toUpperCase();
+            action = dto.getAction().toUpperCase();
+            previousStatus = quote.getStatus();
             
             if ("APROBAR".equals(action)) {
                 // Verificar que la cotización esté en estado pendiente o en proceso
@@ -276,32 +411,16 @@ public class QuoteService {
                 quote.setStatus(QuoteStatus.Aprobada);
                 quote.setUpdatedAt(LocalDateTime.now());
                 Quote approvedQuote = repository.save(quote);
+                reservationDetailCache.invalidateQuoteAfterCommit(quoteId);
                 
-                // Auto-crear reservación
-                try {
-                    Reservation reservation = Reservation.builder()
-                            .quote(approvedQuote)
-                            .client(approvedQuote.getClient())
-                            .eventName(approvedQuote.getEventName())
-                            .status(ReservationStatus.EN_PLANEACION)
-                            .scheduledFor(approvedQuote.getStartDate() != null ? 
-                                    approvedQuote.getStartDate().toString() : LocalDateTime.now().toString())
-                            .location("Por definir")
-                            .notes(dto.getNotes())
-                            .progressPercentage(BigDecimal.ZERO)
-                            .createdBy(userId)
-                            .createdAt(LocalDateTime.now())
-                            .updatedAt(LocalDateTime.now())
-                            .build();
-                    
-                    reservationRepository.save(reservation);
-                    log.info("Reservación auto-creada para cotización aprobada: {}", reservation.getId());
-                } catch (Exception e) {
-                    log.error("Error al crear reservación automática: {}", e.getMessage());
-                    // No fallar la aprobación si falla la creación de reservación
-                }
+                // La reservación se crea en segundo plano a partir del evento
+                outboxPublisher.publish(new QuoteApproved(approvedQuote.getId(), userId, dto.getNotes()));
+                reservationQueued = true;
                 
-                return ApiResponse.success(toResponse(approvedQuote), "Cotización aprobada y reservación creada exitosamente");
+                QuoteResponse response = toResponse(approvedQuote);
+                itemCount = response.items().size();
+                success = true;
+                return ApiResponse.success(response, "Cotización aprobada; la reservación se creará en breve");
                 
             } else if ("RECHAZAR".equals(action)) {
                 // Verificar que la cotización esté en estado pendiente o en proceso
@@ -313,8 +432,12 @@ public class QuoteService {
                 quote.setStatus(QuoteStatus.Rechazada);
                 quote.setUpdatedAt(LocalDateTime.now());
                 Quote rejectedQuote = repository.save(quote);
+                reservationDetailCache.invalidateQuoteAfterCommit(quoteId);
                 
-                return ApiResponse.success(toResponse(rejectedQuote), "Cotización rechazada exitosamente");
+                QuoteResponse response = toResponse(rejectedQuote);
+                itemCount = response.items().size();
+                success = true;
+                return ApiResponse.success(response, "Cotización rechazada exitosamente");
                 
             } else {
                 return ApiResponse.error("Acción inválida. Use 'APROBAR' o 'RECHAZAR'");
@@ -323,6 +446,17 @@ public class QuoteService {
         } catch (Exception e) {
             log.error("Error al procesar cotización: {}", e.getMessage());
             return ApiResponse.error("Error al procesar cotización: " + e.getMessage());
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.quoteId = String.valueOf(quoteId);
+                event.action = action;
+                event.previousStatus = String.valueOf(previousStatus);
+                event.itemCount = itemCount;
+                event.reservationQueued = reservationQueued;
+                event.success = success;
+                event.commit();
+            }
         }
     }
     
@@ -0,0 +1,57 @@
+package sv.udb.puntoeventoapi.modules.report.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
+import sv.udb.puntoeventoapi.modules.commons.common.ApiResponseUtil;
+import sv.udb.puntoeventoapi.modules.report.dto.ClientTicketResponse;
+import sv.udb.puntoeventoapi.modules.report.dto.ConversionReportResponse;
+import sv.udb.puntoeventoapi.modules.report.dto.MonthlyRevenueResponse;
+import sv.udb.puntoeventoapi.modules.report.dto.ReportRefreshResponse;
+import sv.udb.puntoeventoapi.modules.report.service.ReportService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final ReportService service;
+
+    // Meses en formato AAAA-MM; sin rango se devuelven los últimos doce
+    @GetMapping("/revenue")
+    public ResponseEntity<ApiResponse<List<MonthlyRevenueResponse>>> revenue(
+            @RequestParam(defaultValue = "QUOTE") String source,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        return ResponseEntity.ok(ApiResponseUtil.success(service.revenue(source, from, to)));
+    }
+
+    @GetMapping("/conversion")
+    public ResponseEntity<ApiResponse<ConversionReportResponse>> conversion(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        return ResponseEntity.ok(ApiResponseUtil.success(service.conversion(from, to)));
+    }
+
+    @GetMapping("/clients/average-ticket")
+    public ResponseEntity<ApiResponse<List<ClientTicketResponse>>> averageTicket(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponseUtil.success(service.averageTicket(from, to, limit)));
+    }
+
+    @PostMapping("/recompute")
+    public ResponseEntity<ApiResponse<ReportRefreshResponse>> recompute(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        return service.recompute(from, to)
+                .map(result -> ResponseEntity.ok(ApiResponseUtil.success(result)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(ApiResponseUtil.error("Hay un recálculo de reportes en curso, intente más tarde")));
+    }
+}
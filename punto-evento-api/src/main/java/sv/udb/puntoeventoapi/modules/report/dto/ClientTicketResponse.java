@@ -0,0 +1,16 @@
+package sv.udb.puntoeventoapi.modules.report.dto;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Builder
+public record ClientTicketResponse(
+        UUID clientId,
+        String clientName,
+        long reservations,
+        BigDecimal revenue,
+        BigDecimal averageTicket
+) {
+}
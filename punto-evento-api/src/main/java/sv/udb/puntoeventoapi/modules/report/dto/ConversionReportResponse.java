@@ -0,0 +1,33 @@
+package sv.udb.puntoeventoapi.modules.report.dto;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Embudo solicitud → cotización → reservación. Las tasas son porcentajes sobre las solicitudes del periodo.
+ */
+@Builder
+public record ConversionReportResponse(
+        String from,
+        String to,
+        long requests,
+        long quotedRequests,
+        long reservedRequests,
+        BigDecimal quoteRate,
+        BigDecimal reservationRate,
+        List<Month> months
+) {
+
+    @Builder
+    public record Month(
+            String period,
+            long requests,
+            long quotedRequests,
+            long reservedRequests,
+            BigDecimal quoteRate,
+            BigDecimal reservationRate
+    ) {
+    }
+}
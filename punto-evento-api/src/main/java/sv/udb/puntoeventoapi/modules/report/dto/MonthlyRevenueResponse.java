@@ -0,0 +1,19 @@
+package sv.udb.puntoeventoapi.modules.report.dto;
+
+import lombok.Builder;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReportSource;
+
+import java.math.BigDecimal;
+
+@Builder
+public record MonthlyRevenueResponse(
+        String period,
+        ReportSource source,
+        String status,
+        long count,
+        BigDecimal subtotal,
+        BigDecimal taxTotal,
+        BigDecimal additionalCosts,
+        BigDecimal total
+) {
+}
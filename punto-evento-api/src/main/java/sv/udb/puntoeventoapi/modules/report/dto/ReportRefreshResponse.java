@@ -0,0 +1,13 @@
+package sv.udb.puntoeventoapi.modules.report.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ReportRefreshResponse(
+        int months,
+        List<String> failedMonths,
+        long durationMs
+) {
+}
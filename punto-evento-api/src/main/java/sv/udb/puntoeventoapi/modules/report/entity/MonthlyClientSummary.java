@@ -0,0 +1,45 @@
+package sv.udb.puntoeventoapi.modules.report.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reservaciones no canceladas de un cliente en un mes y su monto. Solo la escribe {@code ReportRefresher}.
+ */
+@Entity
+@Table(name = "report_monthly_client")
+@IdClass(MonthlyClientSummary.Key.class)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyClientSummary {
+
+    @Id
+    private LocalDate periodStart;
+
+    @Id
+    private UUID clientId;
+
+    @Column(nullable = false)
+    private long reservationCount;
+
+    @Column(nullable = false)
+    private BigDecimal revenue;
+
+    @Column(nullable = false)
+    private LocalDateTime refreshedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate periodStart;
+        private UUID clientId;
+    }
+}
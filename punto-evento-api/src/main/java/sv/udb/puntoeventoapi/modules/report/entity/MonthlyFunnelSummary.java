@@ -0,0 +1,33 @@
+package sv.udb.puntoeventoapi.modules.report.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Embudo de la cohorte de solicitudes creadas en un mes. Solo la escribe {@code ReportRefresher}.
+ */
+@Entity
+@Table(name = "report_monthly_funnel")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyFunnelSummary {
+
+    @Id
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private long requests;
+
+    @Column(nullable = false)
+    private long quotedRequests;
+
+    @Column(nullable = false)
+    private long reservedRequests;
+
+    @Column(nullable = false)
+    private LocalDateTime refreshedAt;
+}
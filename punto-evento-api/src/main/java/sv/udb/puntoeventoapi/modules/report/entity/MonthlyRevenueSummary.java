@@ -0,0 +1,61 @@
+package sv.udb.puntoeventoapi.modules.report.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReportSource;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Montos de un mes por origen y estado. Solo la escribe {@code ReportRefresher}.
+ */
+@Entity
+@Table(name = "report_monthly_revenue")
+@IdClass(MonthlyRevenueSummary.Key.class)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyRevenueSummary {
+
+    @Id
+    private LocalDate periodStart;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ReportSource source;
+
+    @Id
+    @Column(length = 32)
+    private String status;
+
+    @Column(nullable = false)
+    private long itemCount;
+
+    @Column(nullable = false)
+    private BigDecimal subtotal;
+
+    @Column(nullable = false)
+    private BigDecimal taxTotal;
+
+    @Column(nullable = false)
+    private BigDecimal additionalCosts;
+
+    @Column(nullable = false)
+    private BigDecimal total;
+
+    @Column(nullable = false)
+    private LocalDateTime refreshedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate periodStart;
+        private ReportSource source;
+        private String status;
+    }
+}
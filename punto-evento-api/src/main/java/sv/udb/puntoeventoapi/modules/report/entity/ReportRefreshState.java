@@ -0,0 +1,25 @@
+package sv.udb.puntoeventoapi.modules.report.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marca de agua y concesión del refresco de resúmenes; se maneja por JDBC en {@code ReportRefresher}.
+ */
+@Entity
+@Table(name = "report_refresh_state")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportRefreshState {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    private LocalDateTime watermark;
+
+    private LocalDateTime lockedUntil;
+}
@@ -0,0 +1,27 @@
+package sv.udb.puntoeventoapi.modules.report.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import sv.udb.puntoeventoapi.modules.report.entity.MonthlyClientSummary;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface MonthlyClientSummaryRepository extends JpaRepository<MonthlyClientSummary, MonthlyClientSummary.Key> {
+
+    interface ClientTotals {
+        UUID getClientId();
+        Long getReservations();
+        BigDecimal getRevenue();
+    }
+
+    // Clientes con más ingreso en el rango; sobre la tabla resumen, no sobre reservaciones
+    @Query("SELECT s.clientId AS clientId, SUM(s.reservationCount) AS reservations, SUM(s.revenue) AS revenue " +
+           "FROM MonthlyClientSummary s WHERE s.periodStart BETWEEN :from AND :to " +
+           "GROUP BY s.clientId ORDER BY SUM(s.revenue) DESC, s.clientId")
+    List<ClientTotals> findTopClients(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+}
@@ -0,0 +1,12 @@
+package sv.udb.puntoeventoapi.modules.report.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import sv.udb.puntoeventoapi.modules.report.entity.MonthlyFunnelSummary;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MonthlyFunnelSummaryRepository extends JpaRepository<MonthlyFunnelSummary, LocalDate> {
+
+    List<MonthlyFunnelSummary> findByPeriodStartBetweenOrderByPeriodStartAsc(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,14 @@
+package sv.udb.puntoeventoapi.modules.report.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReportSource;
+import sv.udb.puntoeventoapi.modules.report.entity.MonthlyRevenueSummary;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MonthlyRevenueSummaryRepository extends JpaRepository<MonthlyRevenueSummary, MonthlyRevenueSummary.Key> {
+
+    List<MonthlyRevenueSummary> findBySourceAndPeriodStartBetweenOrderByPeriodStartAscStatusAsc(
+            ReportSource source, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,283 @@
+package sv.udb.puntoeventoapi.modules.report.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sv.udb.puntoeventoapi.modules.report.dto.ReportRefreshResponse;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Mantiene las tablas {@code report_monthly_*}. La unidad de trabajo es el mes: se borra y se vuelve a
+ * insertar completo con {@code INSERT ... SELECT} en una sola transacción, y los meses se procesan en
+ * paralelo ({@code app.reports.parallelism} transacciones a la vez).
+ *
+ * <p>El refresco programado solo recalcula los meses con filas creadas o modificadas después de la
+ * marca de agua (menos {@code app.reports.watermark-lag-seconds}, para no perder transacciones que
+ * confirmaron tarde); la primera vez recorre todo el historial. Una concesión en
+ * {@code report_refresh_state} evita que dos instancias refresquen a la vez.
+ */
+@Slf4j
+@Service
+public class ReportRefresher {
+
+    static final String STATE = "monthly";
+
+    private static final List<String> SUMMARY_TABLES =
+            List.of("report_monthly_revenue", "report_monthly_funnel", "report_monthly_client");
+
+    private static final String INSERT_QUOTE_REVENUE =
+            "INSERT INTO report_monthly_revenue (period_start, source, status, item_count, subtotal, tax_total, " +
+            "additional_costs, total, refreshed_at) " +
+            "SELECT CAST(? AS DATE), 'QUOTE', q.status, COUNT(*), COALESCE(SUM(q.subtotal), 0), " +
+            "COALESCE(SUM(q.tax_total), 0), COALESCE(SUM(q.additional_costs), 0), COALESCE(SUM(q.total), 0), " +
+            "CAST(? AS TIMESTAMP) FROM quotes q " +
+            "WHERE q.created_at >= ? AND q.created_at < ? AND q.status IS NOT NULL GROUP BY q.status";
+
+    private static final String INSERT_RESERVATION_REVENUE =
+            "INSERT INTO report_monthly_revenue (period_start, source, status, item_count, subtotal, tax_total, " +
+            "additional_costs, total, refreshed_at) " +
+            "SELECT CAST(? AS DATE), 'RESERVATION', res.status, COUNT(*), COALESCE(SUM(q.subtotal), 0), " +
+            "COALESCE(SUM(q.tax_total), 0), COALESCE(SUM(q.additional_costs), 0), COALESCE(SUM(q.total), 0), " +
+            "CAST(? AS TIMESTAMP) FROM reservations res JOIN quotes q ON q.id = res.quote_id " +
+            "WHERE res.created_at >= ? AND res.created_at < ? AND res.status IS NOT NULL GROUP BY res.status";
+
+    private static final String INSERT_FUNNEL =
+            "INSERT INTO report_monthly_funnel (period_start, requests, quoted_requests, reserved_requests, refreshed_at) " +
+            "SELECT CAST(? AS DATE), COUNT(*), " +
+            "COUNT(CASE WHEN EXISTS (SELECT 1 FROM quotes q WHERE q.request_id = r.id) THEN 1 END), " +
+            "COUNT(CASE WHEN EXISTS (SELECT 1 FROM quotes q JOIN reservations res ON res.quote_id = q.id " +
+            "WHERE q.request_id = r.id) THEN 1 END), " +
+            "CAST(? AS TIMESTAMP) FROM requests r WHERE r.created_at >= ? AND r.created_at < ?";
+
+    private static final String INSERT_CLIENT =
+            "INSERT INTO report_monthly_client (period_start, client_id, reservation_count, revenue, refreshed_at) " +
+            "SELECT CAST(? AS DATE), res.client_id, COUNT(*), COALESCE(SUM(q.total), 0), CAST(? AS TIMESTAMP) " +
+            "FROM reservations res JOIN quotes q ON q.id = res.quote_id " +
+            "WHERE res.created_at >= ? AND res.created_at < ? AND res.status <> 'CANCELADA' " +
+            "AND res.client_id IS NOT NULL GROUP BY res.client_id";
+
+    // Meses afectados por cambios posteriores a la marca. Los joins cubren los resúmenes que dependen
+    // de otra tabla: montos de reservación (cotización) y embudo de solicitudes (cotización/reservación)
+    private static final List<String> CHANGED_MONTHS = List.of(
+            "SELECT DISTINCT EXTRACT(YEAR FROM r.created_at), EXTRACT(MONTH FROM r.created_at) FROM requests r " +
+            "WHERE r.created_at > ? OR r.updated_at > ?",
+            "SELECT DISTINCT EXTRACT(YEAR FROM q.created_at), EXTRACT(MONTH FROM q.created_at) FROM quotes q " +
+            "WHERE q.created_at > ? OR q.updated_at > ?",
+            "SELECT DISTINCT EXTRACT(YEAR FROM res.created_at), EXTRACT(MONTH FROM res.created_at) FROM reservations res " +
+            "WHERE res.created_at > ? OR res.updated_at > ?",
+            "SELECT DISTINCT EXTRACT(YEAR FROM res.created_at), EXTRACT(MONTH FROM res.created_at) FROM reservations res " +
+            "JOIN quotes q ON q.id = res.quote_id WHERE q.created_at > ? OR q.updated_at > ?",
+            "SELECT DISTINCT EXTRACT(YEAR FROM r.created_at), EXTRACT(MONTH FROM r.created_at) FROM requests r " +
+            "JOIN quotes q ON q.request_id = r.id WHERE q.created_at > ? OR q.updated_at > ?",
+            "SELECT DISTINCT EXTRACT(YEAR FROM r.created_at), EXTRACT(MONTH FROM r.created_at) FROM requests r " +
+            "JOIN quotes q ON q.request_id = r.id JOIN reservations res ON res.quote_id = q.id " +
+            "WHERE res.created_at > ? OR res.updated_at > ?");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+    private final Duration leaseDuration;
+    private final Duration watermarkLag;
+
+    public ReportRefresher(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.reports.parallelism:4}") int parallelism,
+            @Value("${app.reports.lease-seconds:3600}") long leaseSeconds,
+            @Value("${app.reports.watermark-lag-seconds:300}") long watermarkLagSeconds
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.parallelism = Math.max(1, parallelism);
+        this.leaseDuration = Duration.ofSeconds(Math.max(1, leaseSeconds));
+        this.watermarkLag = Duration.ofSeconds(Math.max(0, watermarkLagSeconds));
+    }
+
+    @Scheduled(fixedDelayString = "${app.reports.refresh-ms:300000}", initialDelayString = "${app.reports.refresh-ms:300000}")
+    public void scheduledRefresh() {
+        refreshChanged();
+    }
+
+    /**
+     * Recalcula los meses modificados desde el último refresco completo. Vacío si otra instancia
+     * tiene la concesión. La marca solo avanza si todos los meses se recalcularon.
+     */
+    public Optional<ReportRefreshResponse> refreshChanged() {
+        LocalDateTime runStart = LocalDateTime.now();
+        Lease lease = acquire(runStart);
+        if (lease == null) {
+            log.debug("Refresco de reportes en curso en otra instancia; se omite");
+            return Optional.empty();
+        }
+
+        ReportRefreshResponse result = null;
+        try {
+            SortedSet<YearMonth> months = lease.watermark() != null
+                    ? changedMonths(lease.watermark().minus(watermarkLag))
+                    : allMonths(runStart);
+            result = recompute(months);
+            return Optional.of(result);
+        } finally {
+            release(result != null && result.failedMonths().isEmpty() ? runStart : null);
+        }
+    }
+
+    /**
+     * Recalcula un rango de meses sin tocar la marca de agua (p. ej. tras una corrección manual de datos).
+     */
+    public Optional<ReportRefreshResponse> recomputeRange(YearMonth from, YearMonth to) {
+        if (acquire(LocalDateTime.now()) == null) {
+            return Optional.empty();
+        }
+        try {
+            SortedSet<YearMonth> months = new TreeSet<>();
+            for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                months.add(month);
+            }
+            return Optional.of(recompute(months));
+        } finally {
+            release(null);
+        }
+    }
+
+    /**
+     * Reemplaza los resúmenes de un mes en una sola transacción: los lectores ven el mes anterior
+     * completo hasta que confirma.
+     */
+    public void recomputeMonth(YearMonth month) {
+        Date period = Date.valueOf(month.atDay(1));
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            SUMMARY_TABLES.forEach(table -> jdbcTemplate.update("DELETE FROM " + table + " WHERE period_start = ?", period));
+            jdbcTemplate.update(INSERT_QUOTE_REVENUE, period, now, from, to);
+            jdbcTemplate.update(INSERT_RESERVATION_REVENUE, period, now, from, to);
+            jdbcTemplate.update(INSERT_FUNNEL, period, now, from, to);
+            jdbcTemplate.update(INSERT_CLIENT, period, now, from, to);
+        });
+    }
+
+    private ReportRefreshResponse recompute(SortedSet<YearMonth> months) {
+        long start = System.nanoTime();
+        List<String> failed = new ArrayList<>();
+        if (!months.isEmpty()) {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, months.size()));
+            try {
+                Map<YearMonth, Future<?>> futures = new LinkedHashMap<>();
+                months.forEach(month -> futures.put(month, executor.submit(() -> recomputeMonth(month))));
+                for (Map.Entry<YearMonth, Future<?>> entry : futures.entrySet()) {
+                    try {
+                        entry.getValue().get();
+                    } catch (ExecutionException e) {
+                        failed.add(entry.getKey().toString());
+                        log.error("No se pudo recalcular el resumen de {}: {}", entry.getKey(), e.getCause().getMessage());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failed.add(entry.getKey().toString());
+                    }
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        if (!months.isEmpty()) {
+            log.info("Reportes: {} meses recalculados ({} - {}) en {} ms, {} con error",
+                    months.size(), months.first(), months.last(), millis, failed.size());
+        }
+        return ReportRefreshResponse.builder()
+                .months(months.size())
+                .failedMonths(failed)
+                .durationMs(millis)
+                .build();
+    }
+
+    private SortedSet<YearMonth> changedMonths(LocalDateTime since) {
+        Timestamp ts = Timestamp.valueOf(since);
+        SortedSet<YearMonth> months = new TreeSet<>();
+        for (String sql : CHANGED_MONTHS) {
+            jdbcTemplate.query(sql, rs -> {
+                if (rs.getObject(1) != null) {
+                    months.add(YearMonth.of(rs.getInt(1), rs.getInt(2)));
+                }
+            }, ts, ts);
+        }
+        return months;
+    }
+
+    private SortedSet<YearMonth> allMonths(LocalDateTime now) {
+        SortedSet<YearMonth> months = new TreeSet<>();
+        Timestamp first = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM (SELECT MIN(created_at) AS created_at FROM requests " +
+                "UNION ALL SELECT MIN(created_at) FROM quotes UNION ALL SELECT MIN(created_at) FROM reservations) firsts",
+                Timestamp.class);
+        if (first == null) {
+            return months;
+        }
+        YearMonth last = YearMonth.from(now);
+        for (YearMonth month = YearMonth.from(first.toLocalDateTime()); !month.isAfter(last); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    /**
+     * Toma la concesión, o devuelve {@code null} si otra ejecución la tiene.
+     */
+    private Lease acquire(LocalDateTime now) {
+        try {
+            jdbcTemplate.update("INSERT INTO report_refresh_state (name) SELECT CAST(? AS VARCHAR(50)) WHERE NOT EXISTS " +
+                    "(SELECT 1 FROM report_refresh_state WHERE name = ?)", STATE, STATE);
+        } catch (DuplicateKeyException e) {
+            // Otra instancia creó la fila al mismo tiempo
+        }
+        int claimed = jdbcTemplate.update(
+                "UPDATE report_refresh_state SET locked_until = ? WHERE name = ? AND (locked_until IS NULL OR locked_until < ?)",
+                Timestamp.valueOf(now.plus(leaseDuration)), STATE, Timestamp.valueOf(now));
+        if (claimed == 0) {
+            return null;
+        }
+        Timestamp watermark = jdbcTemplate.queryForObject(
+                "SELECT watermark FROM report_refresh_state WHERE name = ?", Timestamp.class, STATE);
+        return new Lease(watermark != null ? watermark.toLocalDateTime() : null);
+    }
+
+    private void release(LocalDateTime newWatermark) {
+        if (newWatermark == null) {
+            jdbcTemplate.update("UPDATE report_refresh_state SET locked_until = NULL WHERE name = ?", STATE);
+        } else {
+            jdbcTemplate.update("UPDATE report_refresh_state SET locked_until = NULL, watermark = ? WHERE name = ?",
+                    Timestamp.valueOf(newWatermark), STATE);
+        }
+    }
+
+    /**
+     * Concesión tomada; {@code watermark} es nula si nunca hubo un refresco completo.
+     */
+    private record Lease(LocalDateTime watermark) {
+    }
+}
@@ -0,0 +1,176 @@
+package sv.udb.puntoeventoapi.modules.report.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sv.udb.puntoeventoapi.modules.client.entity.Client;
+import sv.udb.puntoeventoapi.modules.client.repository.ClientRepository;
+import sv.udb.puntoeventoapi.modules.commons.common.exceptions.FieldValidationException;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReportSource;
+import sv.udb.puntoeventoapi.modules.report.dto.ClientTicketResponse;
+import sv.udb.puntoeventoapi.modules.report.dto.ConversionReportResponse;
+import sv.udb.puntoeventoapi.modules.report.dto.MonthlyRevenueResponse;
+import sv.udb.puntoeventoapi.modules.report.dto.ReportRefreshResponse;
+import sv.udb.puntoeventoapi.modules.report.entity.MonthlyFunnelSummary;
+import sv.udb.puntoeventoapi.modules.report.repository.MonthlyClientSummaryRepository;
+import sv.udb.puntoeventoapi.modules.report.repository.MonthlyFunnelSummaryRepository;
+import sv.udb.puntoeventoapi.modules.report.repository.MonthlyRevenueSummaryRepository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Lecturas de reportes. Solo consulta las tablas resumen (una fila por mes y estado o cliente),
+ * así que el costo depende del número de meses pedidos y no del historial de cotizaciones.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReportService {
+
+    private static final int DEFAULT_MONTHS = 12;
+    private static final int MAX_CLIENTS = 100;
+
+    private final MonthlyRevenueSummaryRepository revenueRepository;
+    private final MonthlyFunnelSummaryRepository funnelRepository;
+    private final MonthlyClientSummaryRepository clientSummaryRepository;
+    private final ClientRepository clientRepository;
+    private final ReportRefresher refresher;
+
+    public List<MonthlyRevenueResponse> revenue(String source, String from, String to) {
+        ReportSource reportSource = parseSource(source);
+        Range range = Range.parse(from, to);
+        return revenueRepository.findBySourceAndPeriodStartBetweenOrderByPeriodStartAscStatusAsc(
+                        reportSource, range.from().atDay(1), range.to().atDay(1))
+                .stream()
+                .map(s -> MonthlyRevenueResponse.builder()
+                        .period(YearMonth.from(s.getPeriodStart()).toString())
+                        .source(s.getSource())
+                        .status(s.getStatus())
+                        .count(s.getItemCount())
+                        .subtotal(s.getSubtotal())
+                        .taxTotal(s.getTaxTotal())
+                        .additionalCosts(s.getAdditionalCosts())
+                        .total(s.getTotal())
+                        .build())
+                .toList();
+    }
+
+    public ConversionReportResponse conversion(String from, String to) {
+        Range range = Range.parse(from, to);
+        List<MonthlyFunnelSummary> rows = funnelRepository.findByPeriodStartBetweenOrderByPeriodStartAsc(
+                range.from().atDay(1), range.to().atDay(1));
+
+        long requests = rows.stream().mapToLong(MonthlyFunnelSummary::getRequests).sum();
+        long quoted = rows.stream().mapToLong(MonthlyFunnelSummary::getQuotedRequests).sum();
+        long reserved = rows.stream().mapToLong(MonthlyFunnelSummary::getReservedRequests).sum();
+
+        return ConversionReportResponse.builder()
+                .from(range.from().toString())
+                .to(range.to().toString())
+                .requests(requests)
+                .quotedRequests(quoted)
+                .reservedRequests(reserved)
+                .quoteRate(percentage(quoted, requests))
+                .reservationRate(percentage(reserved, requests))
+                .months(rows.stream()
+                        .map(s -> ConversionReportResponse.Month.builder()
+                                .period(YearMonth.from(s.getPeriodStart()).toString())
+                                .requests(s.getRequests())
+                                .quotedRequests(s.getQuotedRequests())
+                                .reservedRequests(s.getReservedRequests())
+                                .quoteRate(percentage(s.getQuotedRequests(), s.getRequests()))
+                                .reservationRate(percentage(s.getReservedRequests(), s.getRequests()))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Ticket promedio (monto de reservaciones no canceladas / cantidad) de los clientes con más ingreso.
+     */
+    public List<ClientTicketResponse> averageTicket(String from, String to, int limit) {
+        Range range = Range.parse(from, to);
+        if (limit < 1 || limit > MAX_CLIENTS) {
+            throw new FieldValidationException("limit", "El límite debe estar entre 1 y " + MAX_CLIENTS);
+        }
+        List<MonthlyClientSummaryRepository.ClientTotals> totals = clientSummaryRepository.findTopClients(
+                range.from().atDay(1), range.to().atDay(1), PageRequest.of(0, limit));
+        Map<UUID, String> names = clientRepository.findAllById(totals.stream()
+                        .map(MonthlyClientSummaryRepository.ClientTotals::getClientId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Client::getId, Client::getName, (a, b) -> a));
+
+        return totals.stream()
+                .map(t -> ClientTicketResponse.builder()
+                        .clientId(t.getClientId())
+                        .clientName(names.get(t.getClientId()))
+                        .reservations(t.getReservations())
+                        .revenue(t.getRevenue())
+                        .averageTicket(t.getReservations() > 0
+                                ? t.getRevenue().divide(BigDecimal.valueOf(t.getReservations()), 2, RoundingMode.HALF_UP)
+                                : BigDecimal.ZERO)
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Recalcula el rango pedido en paralelo. Vacío si ya hay un refresco en curso.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<ReportRefreshResponse> recompute(String from, String to) {
+        Range range = Range.parse(from, to);
+        return refresher.recomputeRange(range.from(), range.to());
+    }
+
+    static YearMonth parseMonth(String field, String value, YearMonth fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return YearMonth.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new FieldValidationException(field, "Mes inválido (use AAAA-MM): " + value);
+        }
+    }
+
+    private static ReportSource parseSource(String source) {
+        try {
+            return ReportSource.valueOf(source.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new FieldValidationException("source", "Origen no válido. Use QUOTE o RESERVATION");
+        }
+    }
+
+    private static BigDecimal percentage(long part, long whole) {
+        if (whole == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(part * 100).divide(BigDecimal.valueOf(whole), 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Rango de meses inclusivo; por defecto los últimos doce incluyendo el actual.
+     */
+    record Range(YearMonth from, YearMonth to) {
+
+        static Range parse(String from, String to) {
+            YearMonth end = parseMonth("to", to, YearMonth.now());
+            YearMonth start = parseMonth("from", from, end.minusMonths(DEFAULT_MONTHS - 1));
+            if (start.isAfter(end)) {
+                throw new FieldValidationException("from", "El mes inicial no puede ser posterior al final");
+            }
+            return new Range(start, end);
+        }
+    }
+}
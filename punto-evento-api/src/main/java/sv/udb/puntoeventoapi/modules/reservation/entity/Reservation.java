@@ -48,4 +48,9 @@ public class Reservation {
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // Control de concurrencia optimista; las filas existentes inician en 0
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
 }
@@ -0,0 +1,16 @@
+package sv.udb.puntoeventoapi.modules.reservation.event;
+
+import sv.udb.puntoeventoapi.modules.outbox.service.DomainEvent;
+
+import java.util.UUID;
+
+/**
+ * Una reservación fue cancelada; sus tareas abiertas dejan de ejecutarse.
+ */
+public record ReservationCancelled(UUID reservationId, UUID cancelledBy) implements DomainEvent {
+
+    @Override
+    public UUID aggregateId() {
+        return reservationId;
+    }
+}
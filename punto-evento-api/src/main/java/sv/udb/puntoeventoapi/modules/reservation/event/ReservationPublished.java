@@ -0,0 +1,16 @@
+package sv.udb.puntoeventoapi.modules.reservation.event;
+
+import sv.udb.puntoeventoapi.modules.outbox.service.DomainEvent;
+
+import java.util.UUID;
+
+/**
+ * Una reservación pasó de EN_PLANEACION a PROGRAMADA y sus tareas quedan visibles para los empleados.
+ */
+public record ReservationPublished(UUID reservationId) implements DomainEvent {
+
+    @Override
+    public UUID aggregateId() {
+        return reservationId;
+    }
+}
@@ -1,6 +1,7 @@
 package sv.udb.puntoeventoapi.modules.reservation.repository;
 
 import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
 import sv.udb.puntoeventoapi.modules.commons.enums.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -26,4 +27,19 @@ public interface ReservationRepository extends JpaRepository<Reservation, UUID>
     
     @Query("SELECT AVG(r.progressPercentage) FROM Reservation r WHERE r.status = :status")
     Double getAverageProgressByStatus(@Param("status") Status status);
+
+    interface CalendarRow {
+        UUID getId();
+        String getEventName();
+        String getScheduledFor();
+        String getLocation();
+        ReservationStatus getStatus();
+        String getClientName();
+    }
+
+    // scheduledFor es texto que empieza con AAAA-MM-DD: el rango por prefijo usa idx_reservations_scheduled_for
+    @Query("SELECT r.id AS id, r.eventName AS eventName, r.scheduledFor AS scheduledFor, r.location AS location, " +
+           "r.status AS status, c.name AS clientName FROM Reservation r LEFT JOIN r.client c " +
+           "WHERE r.scheduledFor >= :from AND r.scheduledFor < :to ORDER BY r.scheduledFor")
+    List<CalendarRow> findCalendar(@Param("from") String from, @Param("to") String to);
 }
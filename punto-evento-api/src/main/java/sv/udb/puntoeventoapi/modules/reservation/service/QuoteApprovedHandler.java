@@ -0,0 +1,64 @@
+package sv.udb.puntoeventoapi.modules.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import sv.udb.puntoeventoapi.modules.commons.enums.QuoteStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
+import sv.udb.puntoeventoapi.modules.outbox.service.DomainEventHandler;
+import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
+import sv.udb.puntoeventoapi.modules.quote.event.QuoteApproved;
+import sv.udb.puntoeventoapi.modules.quote.repository.QuoteRepository;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.reservation.repository.ReservationRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Crea la reservación de una cotización aprobada. Si ya existe (evento repetido) no hace nada.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuoteApprovedHandler implements DomainEventHandler<QuoteApproved> {
+
+    private final QuoteRepository quoteRepository;
+    private final ReservationRepository reservationRepository;
+
+    @Override
+    public Class<QuoteApproved> eventType() {
+        return QuoteApproved.class;
+    }
+
+    @Override
+    public void handle(QuoteApproved event) {
+        if (reservationRepository.findByQuoteId(event.quoteId()).isPresent()) {
+            log.debug("La cotización {} ya tiene reservación", event.quoteId());
+            return;
+        }
+
+        Quote quote = quoteRepository.findById(event.quoteId())
+                .orElseThrow(() -> new RuntimeException("Cotización no encontrada"));
+        if (quote.getStatus() != QuoteStatus.Aprobada) {
+            log.warn("La cotización {} ya no está aprobada ({}), no se crea reservación", quote.getId(), quote.getStatus());
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .quote(quote)
+                .client(quote.getClient())
+                .eventName(quote.getEventName())
+                .status(ReservationStatus.EN_PLANEACION)
+                .scheduledFor(quote.getStartDate() != null ? quote.getStartDate().toString() : now.toString())
+                .location("Por definir")
+                .notes(event.notes())
+                .progressPercentage(BigDecimal.ZERO)
+                .createdBy(event.approvedBy())
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        log.info("Reservación auto-creada para cotización aprobada: {}", reservation.getId());
+    }
+}
@@ -0,0 +1,207 @@
+package sv.udb.puntoeventoapi.modules.reservation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sv.udb.puntoeventoapi.config.metrics.MetricNames;
+import sv.udb.puntoeventoapi.modules.reservation.dto.ReservationDetailResponse;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caché local de {@link ReservationDetailResponse} ya armados, por id de reservación.
+ *
+ * <p>Cada entrada es un {@link CompletableFuture}: el primer pedido sin caché la registra y arma el
+ * detalle en su propia transacción de solo lectura; los pedidos simultáneos esperan ese mismo resultado
+ * en lugar de repetir las consultas. Los errores no se guardan. El mismo objeto se entrega a todos los
+ * pedidos, así que no debe modificarse.
+ *
+ * <p>Los servicios que modifican reservaciones, tareas, asignaciones o cotizaciones invalidan la entrada
+ * al confirmar su transacción. Como la entrada se registra antes de leer la base de datos, un armado que
+ * empezó antes de una modificación siempre queda borrado por su invalidación. Los cambios que no pasan por
+ * esos servicios (datos del cliente, nombre de un empleado) o hechos en otra instancia se ven al vencer
+ * {@code app.reservations.detail-cache.ttl-seconds}.
+ */
+@Slf4j
+@Component
+public class ReservationDetailCache {
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    // Cotización → reservación de los detalles guardados, para invalidar desde QuoteService sin consultar
+    private final Map<UUID, UUID> reservationByQuote = new ConcurrentHashMap<>();
+    private final TransactionTemplate readOnlyTransaction;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ReservationDetailCache(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.reservations.detail-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${app.reservations.detail-cache.max-entries:2000}") int maxEntries
+    ) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ttlNanos = Duration.ofSeconds(Math.max(0, ttlSeconds)).toNanos();
+        this.maxEntries = Math.max(0, maxEntries);
+        this.hits = meterRegistry.counter(MetricNames.RESERVATION_DETAIL_CACHE_HITS);
+        this.misses = meterRegistry.counter(MetricNames.RESERVATION_DETAIL_CACHE_MISSES);
+        meterRegistry.gauge(MetricNames.RESERVATION_DETAIL_CACHE_SIZE, entries, Map::size);
+    }
+
+    /**
+     * Devuelve el detalle guardado o lo arma con {@code loader}. Con la caché desactivada
+     * ({@code max-entries=0} o {@code ttl-seconds=0}) siempre lo arma.
+     */
+    public ReservationDetailResponse get(UUID reservationId, Function<UUID, ReservationDetailResponse> loader) {
+        if (maxEntries == 0 || ttlNanos == 0) {
+            return load(reservationId, loader);
+        }
+        while (true) {
+            Entry entry = entries.get(reservationId);
+            if (entry != null && entry.expired(ttlNanos)) {
+                entries.remove(reservationId, entry);
+                entry = null;
+            }
+            if (entry != null) {
+                hits.increment();
+                return await(entry.future());
+            }
+
+            Entry created = new Entry(new CompletableFuture<>(), System.nanoTime());
+            if (entries.putIfAbsent(reservationId, created) != null) {
+                // Otro hilo registró la entrada primero; se espera la suya
+                continue;
+            }
+            misses.increment();
+            evictIfFull();
+            try {
+                ReservationDetailResponse detail = load(reservationId, loader);
+                reservationByQuote.put(detail.getQuote().getId(), reservationId);
+                created.future().complete(detail);
+                return detail;
+            } catch (RuntimeException e) {
+                entries.remove(reservationId, created);
+                created.future().completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Invalida al confirmar la transacción actual, o de inmediato si no hay una.
+     */
+    public void invalidateAfterCommit(UUID reservationId) {
+        if (reservationId != null) {
+            invalidateAfterCommit(List.of(reservationId));
+        }
+    }
+
+    public void invalidateAfterCommit(Collection<UUID> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(reservationIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(ReservationDetailCache.this::invalidate);
+                }
+            });
+        } else {
+            ids.forEach(this::invalidate);
+        }
+    }
+
+    /**
+     * Invalida la reservación de una cotización si su detalle está en caché.
+     */
+    public void invalidateQuoteAfterCommit(UUID quoteId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateQuote(quoteId);
+                }
+            });
+        } else {
+            invalidateQuote(quoteId);
+        }
+    }
+
+    public void invalidate(UUID reservationId) {
+        Entry removed = entries.remove(reservationId);
+        if (removed != null) {
+            log.debug("Detalle de reservación {} invalidado", reservationId);
+        }
+    }
+
+    private void invalidateQuote(UUID quoteId) {
+        UUID reservationId = reservationByQuote.remove(quoteId);
+        if (reservationId != null) {
+            invalidate(reservationId);
+        }
+        // Un armado en curso todavía no registró su cotización y pudo leer la versión anterior
+        entries.values().removeIf(entry -> !entry.future().isDone());
+    }
+
+    public void clear() {
+        entries.clear();
+        reservationByQuote.clear();
+    }
+
+    private ReservationDetailResponse load(UUID reservationId, Function<UUID, ReservationDetailResponse> loader) {
+        return readOnlyTransaction.execute(status -> loader.apply(reservationId));
+    }
+
+    private void evictIfFull() {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.expired(ttlNanos));
+        // Sin vencidas se descartan entradas cualquiera; es solo un tope de memoria
+        Iterator<UUID> keys = entries.keySet().iterator();
+        while (entries.size() > maxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+        if (reservationByQuote.size() > maxEntries) {
+            reservationByQuote.values().removeIf(reservationId -> !entries.containsKey(reservationId));
+        }
+    }
+
+    private static ReservationDetailResponse await(CompletableFuture<ReservationDetailResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry(CompletableFuture<ReservationDetailResponse> future, long loadedAt) {
+
+        boolean expired(long ttlNanos) {
+            return System.nanoTime() - loadedAt > ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package sv.udb.puntoeventoapi.modules.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+import sv.udb.puntoeventoapi.modules.outbox.service.DomainEventHandler;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.reservation.repository.ReservationRepository;
+import sv.udb.puntoeventoapi.modules.task.entity.Task;
+import sv.udb.puntoeventoapi.modules.task.event.ReservationTasksChanged;
+import sv.udb.puntoeventoapi.modules.task.event.TaskStatusChanged;
+import sv.udb.puntoeventoapi.modules.task.event.TaskStatusesChanged;
+import sv.udb.puntoeventoapi.modules.task.repository.TaskRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Actualiza el estado de la reservación basado en el estado de las tareas
+ * - Primera tarea EN_PROCESO → Reservación EN_CURSO
+ * - Todas las tareas COMPLETADA → Reservación FINALIZADA
+ * El avance se recalcula desde las tareas guardadas, así que repetir el evento no cambia el resultado.
+ * Los cambios masivos llegan como un {@link TaskStatusesChanged} por reservación y se recalculan una vez;
+ * crear o eliminar tareas llega como {@link ReservationTasksChanged}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationProgressHandler implements DomainEventHandler<TaskStatusChanged> {
+
+    private final ReservationRepository reservationRepository;
+    private final TaskRepository taskRepository;
+    private final ReservationDetailCache detailCache;
+
+    @Override
+    public Class<TaskStatusChanged> eventType() {
+        return TaskStatusChanged.class;
+    }
+
+    @Override
+    public void handle(TaskStatusChanged event) {
+        recalculate(event.reservationId(), event.started());
+    }
+
+    void recalculate(UUID reservationId, boolean started) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new RuntimeException("Reservación no encontrada"));
+
+        // Obtener todas las tareas de la reservación
+        List<Task> allTasks = taskRepository.findByReservationId(reservationId);
+
+        // Sin tareas (se eliminó la última) no hay avance que reportar
+        if (allTasks.isEmpty()) {
+            reservation.setProgressPercentage(BigDecimal.ZERO);
+            reservation.setUpdatedAt(LocalDateTime.now());
+            reservationRepository.save(reservation);
+            detailCache.invalidateAfterCommit(reservation.getId());
+            return;
+        }
+
+        // Si una tarea pasa de PENDIENTE a EN_PROCESO y la reservación está en PROGRAMADA
+        if (started && reservation.getStatus() == ReservationStatus.PROGRAMADA) {
+            reservation.setStatus(ReservationStatus.ENCURSO);
+        }
+
+        long completedTasks = allTasks.stream()
+                .filter(t -> t.getStatus() == TaskStatus.COMPLETADA)
+                .count();
+
+        // Si todas las tareas están COMPLETADA, marcar reservación como FINALIZADA
+        // Una reservación cancelada no se reabre como FINALIZADA al eliminar sus tareas abiertas
+        if (completedTasks == allTasks.size() && reservation.getStatus() != ReservationStatus.CANCELADA) {
+            reservation.setStatus(ReservationStatus.FINALIZADA);
+            reservation.setProgressPercentage(new BigDecimal("100"));
+        } else {
+            // Actualizar el porcentaje de progreso
+            double progress = ((double) completedTasks / allTasks.size()) * 100;
+            reservation.setProgressPercentage(new BigDecimal(progress));
+        }
+        reservation.setUpdatedAt(LocalDateTime.now());
+        reservationRepository.save(reservation);
+        detailCache.invalidateAfterCommit(reservation.getId());
+    }
+
+    @Component
+    @RequiredArgsConstructor
+    static class BatchProgressHandler implements DomainEventHandler<TaskStatusesChanged> {
+
+        private final ReservationProgressHandler progressHandler;
+
+        @Override
+        public Class<TaskStatusesChanged> eventType() {
+            return TaskStatusesChanged.class;
+        }
+
+        @Override
+        public void handle(TaskStatusesChanged event) {
+            progressHandler.recalculate(event.reservationId(), event.started());
+        }
+    }
+
+    @Component
+    @RequiredArgsConstructor
+    static class TaskSetProgressHandler implements DomainEventHandler<ReservationTasksChanged> {
+
+        private final ReservationProgressHandler progressHandler;
+
+        @Override
+        public Class<ReservationTasksChanged> eventType() {
+            return ReservationTasksChanged.class;
+        }
+
+        @Override
+        public void handle(ReservationTasksChanged event) {
+            progressHandler.recalculate(event.reservationId(), false);
+        }
+    }
+}
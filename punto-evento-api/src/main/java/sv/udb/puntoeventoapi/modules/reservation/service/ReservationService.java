@@ -3,11 +3,15 @@ package sv.udb.puntoeventoapi.modules.reservation.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import sv.udb.puntoeventoapi.config.jfr.ReservationDetailEvent;
 import sv.udb.puntoeventoapi.modules.reservation.dto.ReservationDto;
 import sv.udb.puntoeventoapi.modules.reservation.dto.ReservationResponse;
 import sv.udb.puntoeventoapi.modules.reservation.dto.ReservationDetailResponse;
 import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.reservation.event.ReservationCancelled;
+import sv.udb.puntoeventoapi.modules.reservation.event.ReservationPublished;
 import sv.udb.puntoeventoapi.modules.reservation.repository.ReservationRepository;
 import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
 import sv.udb.puntoeventoapi.modules.quote.entity.QuoteItem;
@@ -20,6 +24,7 @@ import sv.udb.puntoeventoapi.modules.client.entity.Client;
 import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
 import sv.udb.puntoeventoapi.modules.commons.enums.UserType;
 import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
+import sv.udb.puntoeventoapi.modules.outbox.service.OutboxPublisher;
 import sv.udb.puntoeventoapi.modules.user.entity.User;
 import sv.udb.puntoeventoapi.modules.user.repository.UserRepository;
 
@@ -41,6 +46,8 @@ public class ReservationService {
     private final QuoteRepository quoteRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final ReservationDetailCache detailCache;
     
     public ApiResponse<ReservationResponse> createReservation(ReservationDto reservationDto, UUID createdBy) {
         try {
@@ -122,9 +129,9 @@ public class ReservationService {
             Optional<String> dateFrom,
             Optional<String> dateTo) {
         try {
-            log.info("Filtrando reservas para cliente: {}", clientId);
+            log.debug("Filtrando reservas para cliente: {}", clientId);
             List<Reservation> reservations = reservationRepository.findByClientId(clientId);
-            log.info("Reservas encontradas: {}", reservations.size());
+            log.debug("Reservas encontradas: {}", reservations.size());
 
             LocalDate from = dateFrom.map(LocalDate::parse).orElse(null);
             LocalDate to = dateTo.map(LocalDate::parse).orElse(null);
@@ -156,7 +163,7 @@ public class ReservationService {
                     .map(this::toDetailResponse)
                     .collect(Collectors.toList());
 
-            log.info("Reservas filtradas: {}", responses.size());
+            log.debug("Reservas filtradas: {}", responses.size());
             return ApiResponse.success(responses, "Reservas filtradas exitosamente");
         } catch (Exception e) {
             log.error("Error al filtrar reservas para cliente {}: {}", clientId, e.getMessage(), e);
@@ -164,13 +171,18 @@ public class ReservationService {
         }
     }
     
-    @Transactional(readOnly = true)
+    /**
+     * Detalle desde {@link ReservationDetailCache}. Sin transacción propia: un acierto no toca la base de
+     * datos y quien espera el armado de otro hilo no retiene una conexión.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ApiResponse<ReservationDetailResponse> getReservationById(UUID id) {
         try {
-            Reservation reservation = reservationRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Reserva no encontrada"));
+            ReservationDetailResponse detail = detailCache.get(id, reservationId -> toDetailResponse(
+                    reservationRepository.findById(reservationId)
+                            .orElseThrow(() -> new RuntimeException("Reserva no encontrada"))));
             
-            return ApiResponse.success(toDetailResponse(reservation), "Reserva obtenida exitosamente");
+            return ApiResponse.success(detail, "Reserva obtenida exitosamente");
         } catch (Exception e) {
             log.error("Error al obtener reserva: {}", e.getMessage());
             return ApiResponse.error("Error al obtener reserva: " + e.getMessage());
@@ -191,6 +203,7 @@ public class ReservationService {
             }
             
             Reservation savedReservation = reservationRepository.save(reservation);
+            detailCache.invalidateAfterCommit(id);
             log.info("Progreso de reserva actualizado: {} -> {}", id, progressPercentage);
             
             return ApiResponse.success(toResponse(savedReservation), "Progreso actualizado exitosamente");
@@ -209,6 +222,7 @@ public class ReservationService {
             reservation.setUpdatedAt(LocalDateTime.now());
             
             Reservation savedReservation = reservationRepository.save(reservation);
+            detailCache.invalidateAfterCommit(id);
             log.info("Estado de reserva actualizado: {} -> {}", id, status);
             
             return ApiResponse.success(toResponse(savedReservation), "Estado actualizado exitosamente");
@@ -239,6 +253,8 @@ public class ReservationService {
             reservation.setUpdatedAt(LocalDateTime.now());
             
             Reservation savedReservation = reservationRepository.save(reservation);
+            outboxPublisher.publish(new ReservationPublished(savedReservation.getId()));
+            detailCache.invalidateAfterCommit(id);
             log.info("Reservación publicada: {} -> PROGRAMADA", id);
             
             return ApiResponse.success(toDetailResponse(savedReservation), "Reservación publicada exitosamente");
@@ -268,13 +284,8 @@ public class ReservationService {
                     .setScale(2, java.math.RoundingMode.HALF_UP);
         }
         
-        // Si el progreso en la BD es null o diferente al calculado, actualizarlo
-        if (reservation.getProgressPercentage() == null || 
-            reservation.getProgressPercentage().compareTo(calculatedProgress) != 0) {
-            reservation.setProgressPercentage(calculatedProgress);
-            reservation.setUpdatedAt(LocalDateTime.now());
-            reservationRepository.save(reservation);
-        }
+        // Solo para la respuesta: el avance guardado lo mantiene ReservationProgressHandler, y esta
+        // lectura corre sin transacción de escritura (el detalle además se guarda en caché)
         
         return ReservationResponse.builder()
                 .id(reservation.getId())
@@ -324,6 +335,9 @@ public class ReservationService {
     }
     
     private ReservationDetailResponse toDetailResponse(Reservation reservation) {
+        ReservationDetailEvent event = new ReservationDetailEvent();
+        event.begin();
+
         // Información del cliente
         Client client = reservation.getClient();
         ReservationDetailResponse.ClientInfo clientInfo = ReservationDetailResponse.ClientInfo.builder()
@@ -408,12 +422,18 @@ public class ReservationService {
                     .setScale(2, java.math.RoundingMode.HALF_UP);
         }
         
-        // Si el progreso en la BD es null o diferente al calculado, actualizarlo
-        if (reservation.getProgressPercentage() == null || 
-            reservation.getProgressPercentage().compareTo(calculatedProgress) != 0) {
-            reservation.setProgressPercentage(calculatedProgress);
-            reservation.setUpdatedAt(LocalDateTime.now());
-            reservationRepository.save(reservation);
+        // Solo para la respuesta: el avance guardado lo mantiene ReservationProgressHandler, y esta
+        // lectura corre sin transacción de escritura (el detalle además se guarda en caché)
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.reservationId = String.valueOf(reservation.getId());
+            event.itemCount = services.size();
+            event.taskCount = tasks.size();
+            event.assignmentCount = tasks.stream()
+                    .mapToInt(task -> task.getAssignments() != null ? task.getAssignments().size() : 0)
+                    .sum();
+            event.commit();
         }
         
         return ReservationDetailResponse.builder()
@@ -469,6 +489,8 @@ public class ReservationService {
             reservation.setUpdatedAt(LocalDateTime.now());
             
             Reservation savedReservation = reservationRepository.save(reservation);
+            outboxPublisher.publish(new ReservationCancelled(savedReservation.getId(), userId));
+            detailCache.invalidateAfterCommit(id);
             log.info("Reservación {} cancelada por usuario {} ({})", id, userId, user.getUserType());
             
             return ApiResponse.success(toDetailResponse(savedReservation), "Reservación cancelada exitosamente");
@@ -501,6 +523,7 @@ public class ReservationService {
             
             reservation.setUpdatedAt(LocalDateTime.now());
             reservationRepository.save(reservation);
+            detailCache.invalidateAfterCommit(reservationId);
         } catch (Exception e) {
             log.error("Error al actualizar progreso de reservación: {}", e.getMessage());
         }
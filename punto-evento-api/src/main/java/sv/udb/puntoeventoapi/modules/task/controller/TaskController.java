@@ -2,17 +2,21 @@ package sv.udb.puntoeventoapi.modules.task.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
 import sv.udb.puntoeventoapi.modules.task.dto.TaskDto;
 import sv.udb.puntoeventoapi.modules.task.dto.TaskResponse;
+import sv.udb.puntoeventoapi.modules.task.dto.TaskStatusBatchDto;
+import sv.udb.puntoeventoapi.modules.task.dto.TaskStatusResult;
 import sv.udb.puntoeventoapi.modules.task.service.TaskService;
 import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
 import sv.udb.puntoeventoapi.modules.user.entity.User;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -38,11 +42,19 @@ public class TaskController {
     }
 
     @GetMapping("/my-tasks")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getMyTasks(
-            Authentication authentication
+    public ResponseEntity<ApiResponse<Page<TaskResponse>>> getMyTasks(
+            Authentication authentication,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + TaskService.DEFAULT_BOARD_PAGE_SIZE) int size
     ) {
         User user = (User) authentication.getPrincipal();
-        return ResponseEntity.ok(taskService.getMyTasks(user.getId()));
+        return ResponseEntity.ok(taskService.getMyTasks(user.getId(), page, size));
+    }
+
+    @GetMapping("/my-tasks/summary")
+    public ResponseEntity<ApiResponse<Map<TaskStatus, Long>>> getMyTaskSummary(Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(taskService.getMyTaskSummary(user.getId()));
     }
 
     @GetMapping("/reservation/{reservationId}")
@@ -51,8 +63,12 @@ public class TaskController {
     }
 
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getByEmployee(@PathVariable String employeeId) {
-        return ResponseEntity.ok(taskService.getByEmployee(UUID.fromString(employeeId)));
+    public ResponseEntity<ApiResponse<Page<TaskResponse>>> getByEmployee(
+            @PathVariable String employeeId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + TaskService.DEFAULT_BOARD_PAGE_SIZE) int size
+    ) {
+        return ResponseEntity.ok(taskService.getByEmployee(UUID.fromString(employeeId), page, size));
     }
 
     @GetMapping("/status/{status}")
@@ -81,6 +97,13 @@ public class TaskController {
         return ResponseEntity.ok(taskService.updateStatus(UUID.fromString(id), status));
     }
 
+    @PatchMapping("/status")
+    public ResponseEntity<ApiResponse<List<TaskStatusResult>>> updateStatusBatch(
+            @RequestBody @Valid TaskStatusBatchDto dto
+    ) {
+        return ResponseEntity.ok(taskService.updateStatusBatch(dto));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> delete(@PathVariable String id) {
         return ResponseEntity.ok(taskService.delete(UUID.fromString(id)));
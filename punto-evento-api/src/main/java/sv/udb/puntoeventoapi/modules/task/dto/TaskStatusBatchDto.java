@@ -0,0 +1,25 @@
+package sv.udb.puntoeventoapi.modules.task.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+public record TaskStatusBatchDto(
+
+        @NotEmpty(message = "Debe incluir al menos un cambio de estado.")
+        @Size(max = 200, message = "No se pueden actualizar más de 200 tareas a la vez.")
+        @Valid
+        List<Change> changes
+
+) {
+    public record Change(
+            @NotNull(message = "El ID de la tarea es obligatorio.")
+            UUID taskId,
+
+            @NotNull(message = "El estado es obligatorio.")
+            TaskStatus status
+    ) {}
+}
@@ -0,0 +1,15 @@
+package sv.udb.puntoeventoapi.modules.task.dto;
+
+import lombok.Builder;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+
+import java.util.UUID;
+
+@Builder
+public record TaskStatusResult(
+        UUID taskId,
+        boolean success,
+        TaskStatus previousStatus,
+        TaskStatus status,
+        String message
+) {}
@@ -0,0 +1,17 @@
+package sv.udb.puntoeventoapi.modules.task.event;
+
+import sv.udb.puntoeventoapi.modules.outbox.service.DomainEvent;
+
+import java.util.UUID;
+
+/**
+ * Se agregó o eliminó una tarea de la reservación; el avance cambia aunque ninguna tarea
+ * haya cambiado de estado, así que la reservación se recalcula.
+ */
+public record ReservationTasksChanged(UUID reservationId, UUID taskId) implements DomainEvent {
+
+    @Override
+    public UUID aggregateId() {
+        return reservationId;
+    }
+}
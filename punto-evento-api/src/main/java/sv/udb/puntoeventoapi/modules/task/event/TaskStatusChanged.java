@@ -0,0 +1,25 @@
+package sv.udb.puntoeventoapi.modules.task.event;
+
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+import sv.udb.puntoeventoapi.modules.outbox.service.DomainEvent;
+
+import java.util.UUID;
+
+/**
+ * Una tarea cambió de estado; su reservación debe recalcular avance y estado.
+ */
+public record TaskStatusChanged(UUID taskId, UUID reservationId, TaskStatus previousStatus, TaskStatus status)
+        implements DomainEvent {
+
+    @Override
+    public UUID aggregateId() {
+        return taskId;
+    }
+
+    /**
+     * La tarea pasó de PENDIENTE a EN_PROCESO.
+     */
+    public boolean started() {
+        return previousStatus == TaskStatus.PENDIENTE && status == TaskStatus.EN_PROCESO;
+    }
+}
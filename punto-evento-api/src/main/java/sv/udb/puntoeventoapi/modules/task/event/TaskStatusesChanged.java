@@ -0,0 +1,19 @@
+package sv.udb.puntoeventoapi.modules.task.event;
+
+import sv.udb.puntoeventoapi.modules.outbox.service.DomainEvent;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Varias tareas de una misma reservación cambiaron de estado en un lote; la reservación se
+ * recalcula una sola vez. {@code started} indica que al menos una pasó de PENDIENTE a EN_PROCESO.
+ */
+public record TaskStatusesChanged(UUID reservationId, List<UUID> taskIds, boolean started)
+        implements DomainEvent {
+
+    @Override
+    public UUID aggregateId() {
+        return reservationId;
+    }
+}
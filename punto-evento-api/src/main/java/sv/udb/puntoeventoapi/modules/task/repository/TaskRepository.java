@@ -1,9 +1,16 @@
 package sv.udb.puntoeventoapi.modules.task.repository;
 
 import sv.udb.puntoeventoapi.modules.task.entity.Task;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
 import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,4 +18,71 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
     List<Task> findByReservationId(UUID reservationId);
     List<Task> findByStatus(TaskStatus status);
     List<Task> findByReservationIdAndStatus(UUID reservationId, TaskStatus status);
+
+    // Candidatas de la asignación automática: sin asignaciones y no cerradas, filtradas en la misma consulta
+    @Query("SELECT t FROM Task t WHERE t.reservation.id = :reservationId AND t.status NOT IN :closed " +
+           "AND NOT EXISTS (SELECT 1 FROM Assignment a WHERE a.task = t)")
+    List<Task> findUnassignedByReservationId(
+            @Param("reservationId") UUID reservationId,
+            @Param("closed") Collection<TaskStatus> closed);
+
+    // Tablero del empleado: filtra por estado de la reservación en SQL y trae reservación y cliente en la misma consulta.
+    // Las tareas abiertas van primero; el id desempata para que las páginas no repitan ni salten filas
+    @Query(value = "SELECT t FROM Task t JOIN FETCH t.reservation r JOIN FETCH r.client " +
+                   "WHERE r.status IN :statuses " +
+                   "AND EXISTS (SELECT 1 FROM Assignment a WHERE a.task = t AND a.employee.id = :employeeId) " +
+                   "ORDER BY CASE WHEN t.status IN :closed THEN 1 ELSE 0 END, t.startDatetime, t.id",
+           countQuery = "SELECT COUNT(t) FROM Task t JOIN t.reservation r " +
+                        "WHERE r.status IN :statuses " +
+                        "AND EXISTS (SELECT 1 FROM Assignment a WHERE a.task = t AND a.employee.id = :employeeId)")
+    Page<Task> findBoardByEmployee(
+            @Param("employeeId") UUID employeeId,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("closed") Collection<TaskStatus> closed,
+            Pageable pageable);
+
+    interface StatusCount {
+        TaskStatus getStatus();
+        long getTotal();
+    }
+
+    // Totales del tablero por estado, sin traer las tareas
+    @Query("SELECT t.status AS status, COUNT(t) AS total FROM Task t JOIN t.reservation r " +
+           "WHERE r.status IN :statuses " +
+           "AND EXISTS (SELECT 1 FROM Assignment a WHERE a.task = t AND a.employee.id = :employeeId) " +
+           "GROUP BY t.status")
+    List<StatusCount> countBoardByEmployee(
+            @Param("employeeId") UUID employeeId,
+            @Param("statuses") Collection<ReservationStatus> statuses);
+
+    interface CalendarRow {
+        UUID getId();
+        String getTitle();
+        String getDescription();
+        LocalDateTime getStartDatetime();
+        LocalDateTime getEndDatetime();
+        TaskStatus getStatus();
+        LocalDateTime getUpdatedAt();
+        UUID getReservationId();
+        String getEventName();
+        String getLocation();
+    }
+
+    // Tareas que se cruzan con [from, to); el índice por fin limita la búsqueda a las que no han terminado
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description, t.startDatetime AS startDatetime, " +
+           "t.endDatetime AS endDatetime, t.status AS status, t.updatedAt AS updatedAt, r.id AS reservationId, " +
+           "r.eventName AS eventName, r.location AS location FROM Task t JOIN t.reservation r " +
+           "WHERE t.endDatetime > :from AND t.startDatetime < :to ORDER BY t.startDatetime")
+    List<CalendarRow> findCalendar(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description, t.startDatetime AS startDatetime, " +
+           "t.endDatetime AS endDatetime, t.status AS status, t.updatedAt AS updatedAt, r.id AS reservationId, " +
+           "r.eventName AS eventName, r.location AS location FROM Task t JOIN t.reservation r " +
+           "WHERE t.endDatetime > :from AND t.startDatetime < :to " +
+           "AND EXISTS (SELECT 1 FROM Assignment a WHERE a.task = t AND a.employee.id = :employeeId) " +
+           "ORDER BY t.startDatetime")
+    List<CalendarRow> findCalendarByEmployee(
+            @Param("employeeId") UUID employeeId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 }
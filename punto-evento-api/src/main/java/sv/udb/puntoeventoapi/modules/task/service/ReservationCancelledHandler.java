@@ -0,0 +1,51 @@
+package sv.udb.puntoeventoapi.modules.task.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+import sv.udb.puntoeventoapi.modules.outbox.service.DomainEventHandler;
+import sv.udb.puntoeventoapi.modules.reservation.event.ReservationCancelled;
+import sv.udb.puntoeventoapi.modules.reservation.service.ReservationDetailCache;
+import sv.udb.puntoeventoapi.modules.task.entity.Task;
+import sv.udb.puntoeventoapi.modules.task.repository.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Cancela las tareas abiertas (PENDIENTE o EN_PROCESO) de una reservación cancelada.
+ * El detalle en caché incluye las tareas, así que se invalida al confirmar.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationCancelledHandler implements DomainEventHandler<ReservationCancelled> {
+
+    private final TaskRepository taskRepository;
+    private final ReservationDetailCache detailCache;
+
+    @Override
+    public Class<ReservationCancelled> eventType() {
+        return ReservationCancelled.class;
+    }
+
+    @Override
+    public void handle(ReservationCancelled event) {
+        List<Task> open = taskRepository.findByReservationId(event.reservationId()).stream()
+                .filter(t -> t.getStatus() == TaskStatus.PENDIENTE || t.getStatus() == TaskStatus.EN_PROCESO)
+                .toList();
+        if (open.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        open.forEach(task -> {
+            task.setStatus(TaskStatus.CANCELADA);
+            task.setUpdatedAt(now);
+        });
+        taskRepository.saveAll(open);
+        detailCache.invalidateAfterCommit(event.reservationId());
+        log.info("Reservación {} cancelada: {} tareas abiertas canceladas", event.reservationId(), open.size());
+    }
+}
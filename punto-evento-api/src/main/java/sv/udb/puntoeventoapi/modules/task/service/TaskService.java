@@ -2,23 +2,44 @@ package sv.udb.puntoeventoapi.modules.task.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sv.udb.puntoeventoapi.config.jfr.TaskStatusTransitionEvent;
 import sv.udb.puntoeventoapi.modules.task.entity.Task;
 import sv.udb.puntoeventoapi.modules.task.repository.TaskRepository;
 import sv.udb.puntoeventoapi.modules.task.dto.TaskDto;
 import sv.udb.puntoeventoapi.modules.task.dto.TaskResponse;
+import sv.udb.puntoeventoapi.modules.task.dto.TaskStatusBatchDto;
+import sv.udb.puntoeventoapi.modules.task.dto.TaskStatusResult;
+import sv.udb.puntoeventoapi.modules.task.event.ReservationTasksChanged;
+import sv.udb.puntoeventoapi.modules.task.event.TaskStatusChanged;
+import sv.udb.puntoeventoapi.modules.task.event.TaskStatusesChanged;
 import sv.udb.puntoeventoapi.modules.reservation.repository.ReservationRepository;
+import sv.udb.puntoeventoapi.modules.reservation.service.ReservationDetailCache;
 import sv.udb.puntoeventoapi.modules.assignment.repository.AssignmentRepository;
 import sv.udb.puntoeventoapi.modules.assignment.entity.Assignment;
 import sv.udb.puntoeventoapi.modules.employee.repository.EmployeeRepository;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
 import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
 import sv.udb.puntoeventoapi.modules.commons.enums.Status;
 import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
+import sv.udb.puntoeventoapi.modules.commons.common.OptimisticRetry;
+import sv.udb.puntoeventoapi.modules.outbox.service.OutboxPublisher;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,7 +51,21 @@ public class TaskService {
     private final ReservationRepository reservationRepository;
     private final AssignmentRepository assignmentRepository;
     private final EmployeeRepository employeeRepository;
+    private final OptimisticRetry optimisticRetry;
+    private final OutboxPublisher outboxPublisher;
+    private final ReservationDetailCache reservationDetailCache;
 
+    public static final int DEFAULT_BOARD_PAGE_SIZE = 50;
+    private static final int MAX_BOARD_PAGE_SIZE = 200;
+    private static final Set<ReservationStatus> BOARD_RESERVATION_STATUSES =
+            EnumSet.of(ReservationStatus.PROGRAMADA, ReservationStatus.ENCURSO, ReservationStatus.FINALIZADA);
+    private static final Set<TaskStatus> CLOSED_TASK_STATUSES = EnumSet.of(TaskStatus.COMPLETADA, TaskStatus.CANCELADA);
+
+    /**
+     * Crea la tarea (y su asignación, si viene empleado) y deja un {@link ReservationTasksChanged}
+     * en el outbox: una tarea nueva baja el avance de la reservación.
+     */
+    @Transactional
     public ApiResponse<TaskResponse> create(TaskDto dto, UUID createdBy) {
         try {
             // Verificar que la reserva existe
@@ -110,6 +145,8 @@ public class TaskService {
                 assignmentRepository.save(assignment);
                 log.info("Tarea {} asignada al empleado {}", savedTask.getId(), employee.getName());
             }
+            outboxPublisher.publish(new ReservationTasksChanged(reservation.getId(), savedTask.getId()));
+            reservationDetailCache.invalidateAfterCommit(reservation.getId());
 
             return ApiResponse.success(toResponse(savedTask), "Tarea creada exitosamente");
         } catch (Exception e) {
@@ -126,56 +163,61 @@ public class TaskService {
         return ApiResponse.success(responses, "Tareas obtenidas exitosamente");
     }
 
-    public ApiResponse<List<TaskResponse>> getByEmployee(UUID employeeId) {
-        // Obtener todas las asignaciones del empleado
-        var assignments = assignmentRepository.findByEmployeeId(employeeId);
-        
-        // Obtener las tareas de esas asignaciones
-        List<Task> tasks = assignments.stream()
-                .map(assignment -> assignment.getTask())
-                .distinct()
-                .collect(Collectors.toList());
-        
-        // Filtrar solo las tareas cuya reservación esté en estado PROGRAMADA, ENCURSO o FINALIZADA
-        // (NO mostrar tareas de reservaciones EN_PLANEACION o CANCELADA)
-        List<Task> filteredTasks = tasks.stream()
-                .filter(task -> {
-                    var reservationStatus = task.getReservation().getStatus();
-                    return reservationStatus == sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus.PROGRAMADA ||
-                           reservationStatus == sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus.ENCURSO ||
-                           reservationStatus == sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus.FINALIZADA;
-                })
-                .collect(Collectors.toList());
-        
-        List<TaskResponse> responses = filteredTasks.stream()
-                .map(this::toResponse)
-                .toList();
-        
-        log.info("Tareas filtradas para empleado {}: {} de {} totales", employeeId, filteredTasks.size(), tasks.size());
-        return ApiResponse.success(responses, "Tareas del empleado obtenidas exitosamente");
+    /**
+     * Tablero de tareas del empleado, paginado: primero las abiertas y luego las cerradas,
+     * cada grupo por fecha de inicio.
+     * Solo incluye tareas de reservaciones PROGRAMADA, ENCURSO o FINALIZADA
+     * (NO se muestran tareas de reservaciones EN_PLANEACION o CANCELADA).
+     */
+    @Transactional(readOnly = true)
+    public ApiResponse<Page<TaskResponse>> getByEmployee(UUID employeeId, int page, int size) {
+        Page<TaskResponse> board = taskRepository.findBoardByEmployee(
+                employeeId, BOARD_RESERVATION_STATUSES, CLOSED_TASK_STATUSES, boardPage(page, size))
+                .map(this::toResponse);
+
+        log.debug("Tareas del empleado {}: página {} con {} de {} totales",
+                employeeId, board.getNumber(), board.getNumberOfElements(), board.getTotalElements());
+        return ApiResponse.success(board, "Tareas del empleado obtenidas exitosamente");
     }
 
-    public ApiResponse<List<TaskResponse>> getMyTasks(UUID userId) {
+    @Transactional(readOnly = true)
+    public ApiResponse<Page<TaskResponse>> getMyTasks(UUID userId, int page, int size) {
         try {
             // Buscar el empleado asociado al usuario
             var employeeOpt = employeeRepository.findByUserId(userId);
             
             if (employeeOpt.isEmpty()) {
                 log.warn("No se encontró empleado asociado al usuario: {}", userId);
-                return ApiResponse.success(List.of(), "No hay empleado asociado a este usuario");
+                return ApiResponse.success(Page.empty(boardPage(page, size)), "No hay empleado asociado a este usuario");
             }
             
             var employee = employeeOpt.get();
-            log.info("Obteniendo tareas para empleado: {} (userId: {})", employee.getId(), userId);
+            log.debug("Obteniendo tareas para empleado: {} (userId: {})", employee.getId(), userId);
             
             // Obtener las tareas del empleado
-            return getByEmployee(employee.getId());
+            return getByEmployee(employee.getId(), page, size);
         } catch (Exception e) {
             log.error("Error al obtener tareas del usuario {}: {}", userId, e.getMessage(), e);
             return ApiResponse.error("Error al obtener tareas: " + e.getMessage());
         }
     }
 
+    /**
+     * Totales por estado del tablero del usuario, para el resumen del panel sin paginar tareas.
+     * Todos los estados aparecen, con cero si no hay tareas.
+     */
+    @Transactional(readOnly = true)
+    public ApiResponse<Map<TaskStatus, Long>> getMyTaskSummary(UUID userId) {
+        Map<TaskStatus, Long> summary = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            summary.put(status, 0L);
+        }
+        employeeRepository.findByUserId(userId).ifPresent(employee ->
+                taskRepository.countBoardByEmployee(employee.getId(), BOARD_RESERVATION_STATUSES)
+                        .forEach(row -> summary.put(row.getStatus(), row.getTotal())));
+        return ApiResponse.success(summary, "Resumen de tareas obtenido exitosamente");
+    }
+
     public ApiResponse<List<TaskResponse>> getByStatus(TaskStatus status) {
         List<Task> tasks = taskRepository.findByStatus(status);
         List<TaskResponse> responses = tasks.stream()
@@ -190,12 +232,14 @@ public class TaskService {
         return ApiResponse.success(toResponse(task), "Tarea obtenida exitosamente");
     }
 
+    @Transactional
     public ApiResponse<TaskResponse> update(UUID id, TaskDto dto) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Tarea no encontrada"));
 
         // Verificar que la reserva existe si se está cambiando
-        if (!task.getReservation().getId().equals(dto.reservationId())) {
+        UUID previousReservationId = task.getReservation().getId();
+        if (!previousReservationId.equals(dto.reservationId())) {
             var reservation = reservationRepository.findById(dto.reservationId())
                     .orElseThrow(() -> new RuntimeException("Reserva no encontrada"));
             task.setReservation(reservation);
@@ -207,79 +251,152 @@ public class TaskService {
         task.setUpdatedAt(LocalDateTime.now());
 
         Task savedTask = taskRepository.save(task);
+        // Mover la tarea cambia el avance de ambas reservaciones
+        if (!previousReservationId.equals(savedTask.getReservation().getId())) {
+            outboxPublisher.publish(new ReservationTasksChanged(previousReservationId, savedTask.getId()));
+            outboxPublisher.publish(new ReservationTasksChanged(savedTask.getReservation().getId(), savedTask.getId()));
+        }
+        reservationDetailCache.invalidateAfterCommit(List.of(previousReservationId, savedTask.getReservation().getId()));
         return ApiResponse.success(toResponse(savedTask), "Tarea actualizada exitosamente");
     }
 
+    /**
+     * Cambia el estado de una tarea y deja un evento {@link TaskStatusChanged} en el outbox;
+     * la reservación se recalcula en segundo plano. La tarea lleva versión optimista: si otro
+     * usuario la actualizó en paralelo, la operación se repite con datos frescos.
+     */
     public ApiResponse<TaskResponse> updateStatus(UUID id, TaskStatus status) {
+        return optimisticRetry.execute("updateStatus", () -> doUpdateStatus(id, status));
+    }
+
+    private ApiResponse<TaskResponse> doUpdateStatus(UUID id, TaskStatus status) {
+        TaskStatusTransitionEvent event = new TaskStatusTransitionEvent();
+        event.begin();
+
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Tarea no encontrada"));
 
-        TaskStatus previousStatus = task.getStatus();
-        task.setStatus(status);
-        if (status == TaskStatus.COMPLETADA) {
-            task.setCompletedAt(LocalDateTime.now());
-            task.setEndDatetime(LocalDateTime.now());
-        }
-        task.setUpdatedAt(LocalDateTime.now());
+        TaskStatus previousStatus = applyStatus(task, status);
 
         Task savedTask = taskRepository.save(task);
-        
-        // Actualizar estado de la reservación automáticamente
-        updateReservationStatusBasedOnTasks(savedTask.getReservation().getId(), previousStatus, status);
-        
+        publishStatusChanged(savedTask, previousStatus);
+        reservationDetailCache.invalidateAfterCommit(savedTask.getReservation().getId());
+
+        commitTransition(event, savedTask, previousStatus, 1);
         return ApiResponse.success(toResponse(savedTask), "Estado de tarea actualizado exitosamente");
     }
-    
+
     /**
-     * Actualiza el estado de la reservación basado en el estado de las tareas
-     * - Primera tarea EN_PROCESO → Reservación EN_CURSO
-     * - Todas las tareas COMPLETADA → Reservación FINALIZADA
+     * Aplica varios cambios de estado en una sola transacción.
+     * Deja un evento {@link TaskStatusesChanged} por reservación afectada, así cada una se recalcula
+     * una sola vez en segundo plano aunque el lote traiga muchas de sus tareas.
      */
-    private void updateReservationStatusBasedOnTasks(UUID reservationId, TaskStatus previousStatus, TaskStatus newStatus) {
-        var reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new RuntimeException("Reservación no encontrada"));
-        
-        // Obtener todas las tareas de la reservación
-        List<Task> allTasks = taskRepository.findByReservationId(reservationId);
-        
-        if (allTasks.isEmpty()) {
-            return;
-        }
-        
-        // Si una tarea pasa de PENDIENTE a EN_PROCESO y la reservación está en PROGRAMADA
-        if (previousStatus == TaskStatus.PENDIENTE && newStatus == TaskStatus.EN_PROCESO) {
-            if (reservation.getStatus() == sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus.PROGRAMADA) {
-                reservation.setStatus(sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus.ENCURSO);
-                reservation.setUpdatedAt(LocalDateTime.now());
-                reservationRepository.save(reservation);
+    public ApiResponse<List<TaskStatusResult>> updateStatusBatch(TaskStatusBatchDto dto) {
+        return optimisticRetry.execute("updateStatusBatch", () -> doUpdateStatusBatch(dto));
+    }
+
+    private ApiResponse<List<TaskStatusResult>> doUpdateStatusBatch(TaskStatusBatchDto dto) {
+        Map<UUID, Task> tasksById = taskRepository.findAllById(
+                        dto.changes().stream().map(TaskStatusBatchDto.Change::taskId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskStatusResult> results = new ArrayList<>(dto.changes().size());
+        // Un evento por tarea; su duración llega hasta que el lote queda guardado y recalculado
+        List<PendingTransition> transitions = new ArrayList<>(dto.changes().size());
+        Set<UUID> affectedReservations = new LinkedHashSet<>();
+
+        for (TaskStatusBatchDto.Change change : dto.changes()) {
+            Task task = tasksById.get(change.taskId());
+            if (task == null) {
+                results.add(TaskStatusResult.builder()
+                        .taskId(change.taskId())
+                        .success(false)
+                        .status(change.status())
+                        .message("Tarea no encontrada")
+                        .build());
+                continue;
             }
+
+            TaskStatusTransitionEvent event = new TaskStatusTransitionEvent();
+            event.begin();
+            TaskStatus previousStatus = applyStatus(task, change.status());
+            transitions.add(new PendingTransition(event, task, previousStatus));
+            affectedReservations.add(task.getReservation().getId());
+
+            results.add(TaskStatusResult.builder()
+                    .taskId(task.getId())
+                    .success(true)
+                    .previousStatus(previousStatus)
+                    .status(task.getStatus())
+                    .message("Estado actualizado")
+                    .build());
         }
-        
-        // Si todas las tareas están COMPLETADA, marcar reservación como FINALIZADA
-        boolean allTasksCompleted = allTasks.stream()
-                .allMatch(t -> t.getStatus() == TaskStatus.COMPLETADA);
-        
-        if (allTasksCompleted && allTasks.size() > 0) {
-            reservation.setStatus(sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus.FINALIZADA);
-            reservation.setProgressPercentage(new java.math.BigDecimal("100"));
-            reservation.setUpdatedAt(LocalDateTime.now());
-            reservationRepository.save(reservation);
-        } else {
-            // Actualizar el porcentaje de progreso
-            long completedTasks = allTasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.COMPLETADA)
-                    .count();
-            double progress = ((double) completedTasks / allTasks.size()) * 100;
-            reservation.setProgressPercentage(new java.math.BigDecimal(progress));
-            reservation.setUpdatedAt(LocalDateTime.now());
-            reservationRepository.save(reservation);
+
+        taskRepository.saveAll(tasksById.values());
+        transitions.stream()
+                .collect(Collectors.groupingBy(t -> t.task().getReservation().getId(),
+                        LinkedHashMap::new, Collectors.toList()))
+                .forEach((reservationId, changes) -> outboxPublisher.publish(new TaskStatusesChanged(
+                        reservationId,
+                        changes.stream().map(t -> t.task().getId()).distinct().toList(),
+                        changes.stream().anyMatch(t -> t.previousStatus() == TaskStatus.PENDIENTE
+                                && t.task().getStatus() == TaskStatus.EN_PROCESO))));
+        reservationDetailCache.invalidateAfterCommit(affectedReservations);
+        transitions.forEach(t -> commitTransition(t.event(), t.task(), t.previousStatus(), dto.changes().size()));
+
+        long updated = results.stream().filter(TaskStatusResult::success).count();
+        log.info("Actualización masiva de estados: {} de {} tareas, {} reservaciones por recalcular",
+                updated, results.size(), affectedReservations.size());
+        return ApiResponse.success(results, "Estados de tareas actualizados: " + updated + " de " + results.size());
+    }
+
+    private PageRequest boardPage(int page, int size) {
+        int boundedSize = size <= 0 ? DEFAULT_BOARD_PAGE_SIZE : Math.min(size, MAX_BOARD_PAGE_SIZE);
+        return PageRequest.of(Math.max(page, 0), boundedSize);
+    }
+
+    private TaskStatus applyStatus(Task task, TaskStatus status) {
+        TaskStatus previousStatus = task.getStatus();
+        task.setStatus(status);
+        if (status == TaskStatus.COMPLETADA) {
+            task.setCompletedAt(LocalDateTime.now());
+            task.setEndDatetime(LocalDateTime.now());
+        }
+        task.setUpdatedAt(LocalDateTime.now());
+        return previousStatus;
+    }
+
+    private record PendingTransition(TaskStatusTransitionEvent event, Task task, TaskStatus previousStatus) {}
+
+    private void commitTransition(TaskStatusTransitionEvent event, Task task, TaskStatus previousStatus, int batchSize) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.taskId = String.valueOf(task.getId());
+            event.reservationId = String.valueOf(task.getReservation().getId());
+            event.fromStatus = String.valueOf(previousStatus);
+            event.toStatus = String.valueOf(task.getStatus());
+            event.batchSize = batchSize;
+            event.commit();
         }
     }
 
+    private void publishStatusChanged(Task task, TaskStatus previousStatus) {
+        outboxPublisher.publish(new TaskStatusChanged(
+                task.getId(), task.getReservation().getId(), previousStatus, task.getStatus()));
+    }
+
+    /**
+     * Elimina la tarea y deja un {@link ReservationTasksChanged} para recalcular la reservación:
+     * si quedaban solo tareas completadas, esta pasa a FINALIZADA.
+     */
+    @Transactional
     public ApiResponse<Void> delete(UUID id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Tarea no encontrada"));
         taskRepository.delete(task);
+        outboxPublisher.publish(new ReservationTasksChanged(task.getReservation().getId(), task.getId()));
+        reservationDetailCache.invalidateAfterCommit(task.getReservation().getId());
         return ApiResponse.success(null, "Tarea eliminada exitosamente");
     }
 
@@ -0,0 +1,139 @@
+-- ============================================================================
+--  PUNTO EVENTO • Esquema base
+--  Derivado de sql/dump.sql y ajustado a las entidades JPA (enums como texto
+--  con los nombres de Java, fechas como timestamp y columnas de versión).
+--  En bases creadas antes de Flyway este script se omite (baseline-on-migrate).
+-- ============================================================================
+
+CREATE TABLE users (
+    id         UUID PRIMARY KEY,
+    name       VARCHAR(255),
+    email      VARCHAR(255) NOT NULL UNIQUE,
+    password   VARCHAR(255) NOT NULL,
+    user_type  VARCHAR(32)  NOT NULL,
+    active     BOOLEAN      NOT NULL DEFAULT TRUE,
+    created_at VARCHAR(255),
+    updated_at VARCHAR(255)
+);
+
+CREATE TABLE clients (
+    id             UUID PRIMARY KEY,
+    name           VARCHAR(255),
+    document       VARCHAR(255) NOT NULL UNIQUE,
+    person_type    VARCHAR(32),
+    phone          VARCHAR(255),
+    email          VARCHAR(255),
+    address        VARCHAR(255),
+    status         VARCHAR(32),
+    user_id        UUID REFERENCES users(id),
+    created_by     UUID,
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    deactivated_at TIMESTAMP(6)
+);
+
+CREATE TABLE employees (
+    id             UUID PRIMARY KEY,
+    name           VARCHAR(255),
+    document       VARCHAR(255) NOT NULL UNIQUE,
+    person_type    VARCHAR(32),
+    contract_type  VARCHAR(32),
+    phone          VARCHAR(255),
+    email          VARCHAR(255),
+    address        VARCHAR(255),
+    status         VARCHAR(32),
+    user_id        UUID REFERENCES users(id),
+    created_by     UUID,
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    deactivated_at TIMESTAMP(6)
+);
+
+CREATE TABLE requests (
+    id                 UUID PRIMARY KEY,
+    client_id          UUID NOT NULL REFERENCES clients(id),
+    event_name         VARCHAR(255) NOT NULL,
+    event_date         VARCHAR(255) NOT NULL,
+    location           VARCHAR(255) NOT NULL,
+    requested_services TEXT NOT NULL,
+    notes              VARCHAR(255),
+    status             VARCHAR(32),
+    created_by         UUID,
+    created_at         TIMESTAMP(6),
+    updated_at         TIMESTAMP(6)
+);
+
+CREATE TABLE quotes (
+    id               UUID PRIMARY KEY,
+    request_id       UUID REFERENCES requests(id),
+    client_id        UUID REFERENCES clients(id),
+    event_name       VARCHAR(255) NOT NULL,
+    estimated_hours  INTEGER,
+    start_date       TIMESTAMP(6),
+    end_date         TIMESTAMP(6),
+    subtotal         NUMERIC(38, 2),
+    tax_total        NUMERIC(38, 2),
+    additional_costs NUMERIC(38, 2),
+    total            NUMERIC(38, 2),
+    status           VARCHAR(32),
+    created_by       UUID,
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6),
+    version          BIGINT DEFAULT 0
+);
+
+CREATE TABLE quote_items (
+    id          UUID PRIMARY KEY,
+    quote_id    UUID NOT NULL REFERENCES quotes(id),
+    service_id  UUID,
+    description VARCHAR(255),
+    quantity    NUMERIC(12, 2) NOT NULL,
+    unit_price  NUMERIC(12, 2) NOT NULL,
+    tax_rate    NUMERIC(5, 2)  NOT NULL,
+    subtotal    NUMERIC(12, 2) NOT NULL,
+    total       NUMERIC(12, 2) NOT NULL,
+    created_at  TIMESTAMP(6)   NOT NULL,
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE TABLE reservations (
+    id                  UUID PRIMARY KEY,
+    quote_id            UUID NOT NULL UNIQUE REFERENCES quotes(id),
+    client_id           UUID NOT NULL REFERENCES clients(id),
+    event_name          VARCHAR(255) NOT NULL,
+    status              VARCHAR(32),
+    scheduled_for       VARCHAR(255),
+    location            VARCHAR(255),
+    notes               VARCHAR(255),
+    progress_percentage NUMERIC(5, 2),
+    created_by          UUID,
+    created_at          TIMESTAMP(6),
+    updated_at          TIMESTAMP(6),
+    version             BIGINT DEFAULT 0
+);
+
+CREATE TABLE tasks (
+    id             UUID PRIMARY KEY,
+    reservation_id UUID NOT NULL REFERENCES reservations(id),
+    service_id     UUID,
+    title          VARCHAR(255),
+    description    VARCHAR(255),
+    start_datetime TIMESTAMP(6),
+    end_datetime   TIMESTAMP(6),
+    status         VARCHAR(32),
+    created_by     UUID,
+    completed_at   TIMESTAMP(6),
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    version        BIGINT DEFAULT 0
+);
+
+CREATE TABLE assignments (
+    id          UUID PRIMARY KEY,
+    task_id     UUID NOT NULL REFERENCES tasks(id),
+    employee_id UUID NOT NULL REFERENCES employees(id),
+    assigned_by UUID,
+    assigned_at TIMESTAMP(6),
+    notes       VARCHAR(255),
+    UNIQUE (task_id, employee_id)
+);
@@ -0,0 +1,34 @@
+-- ============================================================================
+--  Índices para las consultas de los repositorios. IF NOT EXISTS porque en
+--  bases anteriores a Flyway (V1 omitido) algunos pueden existir ya.
+-- ============================================================================
+
+-- UserRepository.findByUserType
+CREATE INDEX IF NOT EXISTS idx_users_user_type ON users(user_type);
+
+-- ClientRepository.findByUser_Id, EmployeeRepository.findByUserId / findByStatus
+CREATE INDEX IF NOT EXISTS idx_clients_user ON clients(user_id);
+CREATE INDEX IF NOT EXISTS idx_employees_user ON employees(user_id);
+CREATE INDEX IF NOT EXISTS idx_employees_status ON employees(status);
+
+-- RequestRepository.findByClientId / findByStatus / countByStatus
+CREATE INDEX IF NOT EXISTS idx_requests_client ON requests(client_id);
+CREATE INDEX IF NOT EXISTS idx_requests_status ON requests(status);
+
+-- QuoteRepository.findByClientId / findByRequestId, QuoteItemRepository.findByQuoteId
+CREATE INDEX IF NOT EXISTS idx_quotes_client ON quotes(client_id);
+CREATE INDEX IF NOT EXISTS idx_quotes_request ON quotes(request_id);
+CREATE INDEX IF NOT EXISTS idx_quote_items_quote ON quote_items(quote_id);
+
+-- ReservationRepository.findByClientId / findByStatus / countByStatus
+CREATE INDEX IF NOT EXISTS idx_reservations_client ON reservations(client_id);
+CREATE INDEX IF NOT EXISTS idx_reservations_status ON reservations(status);
+
+-- TaskRepository.findByReservationId / findByReservationIdAndStatus
+CREATE INDEX IF NOT EXISTS idx_tasks_reservation_status ON tasks(reservation_id, status);
+-- TaskRepository.findByStatus y AssignmentRepository.findWorkloadInWindow (estado + ventana)
+CREATE INDEX IF NOT EXISTS idx_tasks_status_start ON tasks(status, start_datetime);
+
+-- AssignmentRepository.findByEmployeeId y tablero del empleado (EXISTS por employee_id);
+-- findByTaskId usa el índice de UNIQUE (task_id, employee_id)
+CREATE INDEX IF NOT EXISTS idx_assignments_employee ON assignments(employee_id, task_id);
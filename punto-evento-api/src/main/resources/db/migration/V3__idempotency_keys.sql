@@ -0,0 +1,13 @@
+-- Respuestas guardadas por Idempotency-Key (app.idempotency.store=jdbc).
+-- status_code NULL = la petición original sigue en curso.
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(160) PRIMARY KEY,
+    fingerprint     VARCHAR(64)  NOT NULL,
+    status_code     INTEGER,
+    content_type    VARCHAR(255),
+    body            BYTEA,
+    created_at      TIMESTAMP(6) NOT NULL,
+    expires_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires ON idempotency_keys(expires_at);
@@ -0,0 +1,18 @@
+-- Eventos de dominio escritos en la misma transacción que el cambio que los origina.
+-- OutboxDispatcher los toma con FOR UPDATE SKIP LOCKED; available_at sirve de concesión y de espera entre reintentos.
+CREATE TABLE outbox_events (
+    id             UUID PRIMARY KEY,
+    event_type     VARCHAR(100)  NOT NULL,
+    aggregate_id   UUID,
+    payload        VARCHAR(4000) NOT NULL,
+    status         VARCHAR(32)   NOT NULL,
+    attempts       INTEGER       NOT NULL DEFAULT 0,
+    available_at   TIMESTAMP(6)  NOT NULL,
+    last_error     VARCHAR(1000),
+    correlation_id VARCHAR(64),
+    created_at     TIMESTAMP(6)  NOT NULL,
+    processed_at   TIMESTAMP(6)
+);
+
+CREATE INDEX idx_outbox_events_pending ON outbox_events(available_at, created_at) WHERE status = 'PENDIENTE';
+CREATE INDEX idx_outbox_events_processed ON outbox_events(processed_at) WHERE status = 'PROCESADO';
@@ -0,0 +1,52 @@
+-- Resúmenes mensuales para reportes (ReportRefresher). Cada mes se recalcula completo desde las
+-- tablas de origen, así que un refresco repetido o concurrente con lecturas no deja datos a medias.
+-- period_start es el primer día del mes (no se usa "month": es palabra reservada en H2).
+
+-- Ingresos por estado: source QUOTE agrupa cotizaciones por su mes de creación;
+-- RESERVATION agrupa reservaciones por el suyo con los montos de su cotización
+CREATE TABLE report_monthly_revenue (
+    period_start     DATE           NOT NULL,
+    source           VARCHAR(20)    NOT NULL,
+    status           VARCHAR(32)    NOT NULL,
+    item_count       BIGINT         NOT NULL,
+    subtotal         NUMERIC(38, 2) NOT NULL,
+    tax_total        NUMERIC(38, 2) NOT NULL,
+    additional_costs NUMERIC(38, 2) NOT NULL,
+    total            NUMERIC(38, 2) NOT NULL,
+    refreshed_at     TIMESTAMP(6)   NOT NULL,
+    PRIMARY KEY (period_start, source, status)
+);
+
+-- Embudo por cohorte: solicitudes creadas en el mes y cuántas llegaron a cotización y a reservación
+CREATE TABLE report_monthly_funnel (
+    period_start      DATE         PRIMARY KEY,
+    requests          BIGINT       NOT NULL,
+    quoted_requests   BIGINT       NOT NULL,
+    reserved_requests BIGINT       NOT NULL,
+    refreshed_at      TIMESTAMP(6) NOT NULL
+);
+
+-- Reservaciones no canceladas y su monto por cliente, para el ticket promedio
+CREATE TABLE report_monthly_client (
+    period_start      DATE           NOT NULL,
+    client_id         UUID           NOT NULL,
+    reservation_count BIGINT         NOT NULL,
+    revenue           NUMERIC(38, 2) NOT NULL,
+    refreshed_at      TIMESTAMP(6)   NOT NULL,
+    PRIMARY KEY (period_start, client_id)
+);
+
+-- Marca de agua del refresco incremental y concesión para que solo una instancia lo ejecute
+CREATE TABLE report_refresh_state (
+    name         VARCHAR(50)  PRIMARY KEY,
+    watermark    TIMESTAMP(6),
+    locked_until TIMESTAMP(6)
+);
+
+-- Detección de meses modificados (created_at / updated_at posteriores a la marca) y recálculo por rango
+CREATE INDEX IF NOT EXISTS idx_requests_created_at ON requests(created_at);
+CREATE INDEX IF NOT EXISTS idx_requests_updated_at ON requests(updated_at);
+CREATE INDEX IF NOT EXISTS idx_quotes_created_at ON quotes(created_at);
+CREATE INDEX IF NOT EXISTS idx_quotes_updated_at ON quotes(updated_at);
+CREATE INDEX IF NOT EXISTS idx_reservations_created_at ON reservations(created_at);
+CREATE INDEX IF NOT EXISTS idx_reservations_updated_at ON reservations(updated_at);
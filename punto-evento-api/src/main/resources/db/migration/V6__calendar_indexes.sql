@@ -0,0 +1,6 @@
+-- Vista de calendario (CalendarService).
+-- scheduled_for es texto con prefijo AAAA-MM-DD, así que un rango de cadenas equivale a un rango de fechas
+CREATE INDEX IF NOT EXISTS idx_reservations_scheduled_for ON reservations(scheduled_for);
+-- Tareas que se cruzan con un rango: se recorre por fin (solo las que terminan después del inicio)
+-- y el inicio se filtra desde el mismo índice
+CREATE INDEX IF NOT EXISTS idx_tasks_end_start ON tasks(end_datetime, start_datetime);
@@ -0,0 +1,27 @@
+-- Reglas de precio de las cotizaciones (PricingEngine). Las columnas usadas dependen de rule_type:
+--   TAX_RATE           percentage (IVA del servicio o general si service_id es NULL)
+--   VOLUME_DISCOUNT    percentage y min_quantity (se aplica el tramo con mayor mínimo alcanzado)
+--   SEASONAL_SURCHARGE percentage, valid_from y valid_to (fecha del evento dentro del rango)
+--   ROUNDING           rounding_scale y rounding_mode (montos de cada ítem)
+-- Las reglas se desactivan en lugar de borrarse; updated_at permite detectar cambios desde otras instancias.
+CREATE TABLE pricing_rules (
+    id             UUID PRIMARY KEY,
+    name           VARCHAR(120)  NOT NULL,
+    rule_type      VARCHAR(32)   NOT NULL,
+    service_id     UUID,
+    percentage     NUMERIC(7, 4),
+    min_quantity   NUMERIC(12, 2),
+    valid_from     DATE,
+    valid_to       DATE,
+    rounding_scale INTEGER,
+    rounding_mode  VARCHAR(16),
+    priority       INTEGER       NOT NULL DEFAULT 0,
+    active         BOOLEAN       NOT NULL DEFAULT TRUE,
+    created_by     UUID,
+    created_at     TIMESTAMP(6)  NOT NULL,
+    updated_at     TIMESTAMP(6)  NOT NULL
+);
+
+CREATE INDEX idx_pricing_rules_active ON pricing_rules(active, rule_type);
+-- QuoteRepricingJob recorre las cotizaciones pendientes por id
+CREATE INDEX IF NOT EXISTS idx_quotes_status_id ON quotes(status, id);
@@ -0,0 +1,47 @@
+-- Historial de revisiones de cotizaciones (QuoteRevisionService). quotes y quote_items siguen guardando
+-- la revisión vigente; estas tablas solo crecen con cada cambio.
+CREATE TABLE quote_revisions (
+    quote_id         UUID           NOT NULL REFERENCES quotes(id),
+    revision_number  INTEGER        NOT NULL,
+    subtotal         NUMERIC(38, 2),
+    tax_total        NUMERIC(38, 2),
+    additional_costs NUMERIC(38, 2),
+    total            NUMERIC(38, 2),
+    changed_items    INTEGER        NOT NULL,
+    note             VARCHAR(255),
+    created_by       UUID,
+    created_at       TIMESTAMP(6)   NOT NULL,
+    PRIMARY KEY (quote_id, revision_number)
+);
+
+-- Cada revisión guarda solo los ítems que cambiaron; los demás se toman de la revisión anterior que
+-- los tenga. item_key es el id del ítem en quote_items y removed marca un ítem eliminado.
+-- La llave primaria sirve para buscar la última versión de cada ítem hasta una revisión dada.
+CREATE TABLE quote_revision_items (
+    quote_id        UUID           NOT NULL REFERENCES quotes(id),
+    item_key        UUID           NOT NULL,
+    revision_number INTEGER        NOT NULL,
+    service_id      UUID,
+    description     VARCHAR(255),
+    quantity        NUMERIC(12, 2),
+    unit_price      NUMERIC(12, 2),
+    tax_rate        NUMERIC(5, 2),
+    subtotal        NUMERIC(12, 2),
+    total           NUMERIC(12, 2),
+    removed         BOOLEAN        NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (quote_id, item_key, revision_number)
+);
+
+-- Las cotizaciones existentes parten de una revisión 1 con su estado actual
+INSERT INTO quote_revisions (quote_id, revision_number, subtotal, tax_total, additional_costs, total,
+                             changed_items, note, created_by, created_at)
+SELECT q.id, 1, q.subtotal, q.tax_total, q.additional_costs, q.total,
+       (SELECT COUNT(*) FROM quote_items qi WHERE qi.quote_id = q.id), 'Versión inicial', q.created_by,
+       COALESCE(q.updated_at, q.created_at, CURRENT_TIMESTAMP)
+FROM quotes q;
+
+INSERT INTO quote_revision_items (quote_id, item_key, revision_number, service_id, description, quantity,
+                                  unit_price, tax_rate, subtotal, total, removed)
+SELECT qi.quote_id, qi.id, 1, qi.service_id, qi.description, qi.quantity, qi.unit_price, qi.tax_rate,
+       qi.subtotal, qi.total, FALSE
+FROM quote_items qi;
@@ -0,0 +1,324 @@
+package sv.udb.puntoeventoapi.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import sv.udb.puntoeventoapi.modules.assignment.entity.Assignment;
+import sv.udb.puntoeventoapi.modules.assignment.repository.AssignmentRepository;
+import sv.udb.puntoeventoapi.modules.client.entity.Client;
+import sv.udb.puntoeventoapi.modules.client.repository.ClientRepository;
+import sv.udb.puntoeventoapi.modules.commons.enums.ContractType;
+import sv.udb.puntoeventoapi.modules.commons.enums.PersonType;
+import sv.udb.puntoeventoapi.modules.commons.enums.QuoteStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.Status;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+import sv.udb.puntoeventoapi.modules.employee.entity.Employee;
+import sv.udb.puntoeventoapi.modules.employee.repository.EmployeeRepository;
+import sv.udb.puntoeventoapi.modules.pricing.repository.PricingRuleRepository;
+import sv.udb.puntoeventoapi.modules.pricing.service.PricingEngine;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteDto;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteItemDto;
+import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
+import sv.udb.puntoeventoapi.modules.quote.entity.QuoteItem;
+import sv.udb.puntoeventoapi.modules.quote.repository.QuoteItemRepository;
+import sv.udb.puntoeventoapi.modules.quote.repository.QuoteRepository;
+import sv.udb.puntoeventoapi.modules.quote.service.QuoteRevisionService;
+import sv.udb.puntoeventoapi.modules.quote.service.QuoteService;
+import sv.udb.puntoeventoapi.modules.request.entity.Request;
+import sv.udb.puntoeventoapi.modules.request.repository.RequestRepository;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.reservation.repository.ReservationRepository;
+import sv.udb.puntoeventoapi.modules.reservation.service.ReservationDetailCache;
+import sv.udb.puntoeventoapi.modules.reservation.service.ReservationService;
+import sv.udb.puntoeventoapi.modules.task.entity.Task;
+import sv.udb.puntoeventoapi.modules.task.repository.TaskRepository;
+import sv.udb.puntoeventoapi.modules.task.service.TaskService;
+import sv.udb.puntoeventoapi.modules.user.repository.UserRepository;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Grafos de entidades en memoria, repositorios simulados y servicios armados para los benchmarks.
+ * Los datos se generan con semilla fija para que cada corrida mida lo mismo.
+ * Vive en {@code src/test/java} (no en {@code src/jmh/java}) para que el build normal compile las llamadas
+ * a los constructores de los servicios: si uno cambia, {@code mvn test} falla en el mismo commit.
+ */
+final class Fixtures {
+
+    private static final String[] SERVICES = {
+            "Sonido profesional", "Iluminación escénica", "Decoración floral", "Mobiliario",
+            "Catering por persona", "Fotografía", "Animación", "Seguridad"
+    };
+
+    private Fixtures() {
+    }
+
+    /**
+     * Silencia los logs INFO de los servicios; de lo contrario el benchmark mediría la consola.
+     */
+    static void quietLogs() {
+        ((Logger) LoggerFactory.getLogger("sv.udb.puntoeventoapi")).setLevel(Level.WARN);
+    }
+
+    /**
+     * Implementa un repositorio con un {@link Proxy} que responde solo los métodos indicados.
+     * Es más liviano que un mock de Mockito, así el costo medido es el del servicio.
+     */
+    @SuppressWarnings("unchecked")
+    static <R> R repository(Class<R> type, Map<String, Function<Object[], Object>> answers) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            return switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> type.getSimpleName() + "Stub";
+                default -> throw new UnsupportedOperationException(
+                        type.getSimpleName() + "." + method.getName() + " no está simulado");
+            };
+        });
+    }
+
+    /**
+     * QuoteService con repositorios en memoria. El historial se copia con SQL en la base de datos;
+     * aquí solo se mide el cálculo, así que la revisión no hace nada.
+     */
+    static QuoteService quoteService(Client client, Request request, Quote quote) {
+        return new QuoteService(
+                repository(QuoteRepository.class, Map.of(
+                        "findById", args -> Optional.of(quote),
+                        "save", args -> args[0],
+                        "saveAndFlush", args -> args[0])),
+                repository(RequestRepository.class, Map.of("findById", args -> Optional.of(request))),
+                repository(ClientRepository.class, Map.of("findById", args -> Optional.of(client))),
+                repository(QuoteItemRepository.class, Map.of()),
+                null,
+                new PricingEngine(repository(PricingRuleRepository.class, Map.of()), new BigDecimal("13.00")),
+                new QuoteRevisionService(null, null, null) {
+                    @Override
+                    public int record(Change change, String note, UUID createdBy) {
+                        return 1;
+                    }
+                },
+                null
+        );
+    }
+
+    /**
+     * ReservationService de lectura; {@code cacheEntries = 0} desactiva la caché del detalle.
+     */
+    static ReservationService reservationService(Reservation reservation, List<Task> tasks, int cacheEntries) {
+        return new ReservationService(
+                repository(ReservationRepository.class, Map.of("findById", args -> Optional.of(reservation))),
+                repository(QuoteRepository.class, Map.of()),
+                repository(TaskRepository.class, Map.of("findByReservationId", args -> tasks)),
+                repository(UserRepository.class, Map.of()),
+                null,
+                new ReservationDetailCache(
+                        repository(PlatformTransactionManager.class, Map.of(
+                                "getTransaction", args -> new SimpleTransactionStatus(),
+                                "commit", args -> null)),
+                        new SimpleMeterRegistry(), 3600, cacheEntries)
+        );
+    }
+
+    static TaskService taskService(Task task) {
+        return new TaskService(
+                repository(TaskRepository.class, Map.of("findById", args -> Optional.of(task))),
+                repository(ReservationRepository.class, Map.of()),
+                repository(AssignmentRepository.class, Map.of()),
+                repository(EmployeeRepository.class, Map.of()),
+                null,
+                null,
+                null
+        );
+    }
+
+    static Client client(SplittableRandom random) {
+        return Client.builder()
+                .id(uuid(random))
+                .name("Cliente Benchmark")
+                .document("01234567-8")
+                .personType(PersonType.Natural)
+                .phone("+503 7000-0000")
+                .email("cliente@benchmark.test")
+                .address("San Salvador, El Salvador")
+                .status(Status.Activo)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    static Request request(SplittableRandom random, Client client) {
+        return Request.builder()
+                .id(uuid(random))
+                .eventName("Boda en la playa")
+                .eventDate(LocalDate.now().plusMonths(2).toString())
+                .location("Costa del Sol")
+                .requestedServices(String.join(",", SERVICES))
+                .notes("Invitados: 150")
+                .status(Status.Activo)
+                .client(client)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    static List<Employee> employees(SplittableRandom random, int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(Employee.builder()
+                    .id(uuid(random))
+                    .name("Empleado " + (i + 1))
+                    .personType(PersonType.Natural)
+                    .contractType(ContractType.Permanente)
+                    .status(Status.Activo)
+                    .build());
+        }
+        return employees;
+    }
+
+    /**
+     * Cotización aprobada con {@code items} servicios y totales calculados como en QuoteService.
+     */
+    static Quote quote(SplittableRandom random, Client client, Request request, int items) {
+        Quote quote = Quote.builder()
+                .id(uuid(random))
+                .request(request)
+                .client(client)
+                .eventName(request.getEventName())
+                .estimatedHours(12)
+                .startDate(LocalDateTime.now().plusMonths(2))
+                .endDate(LocalDateTime.now().plusMonths(2).plusHours(12))
+                .additionalCosts(new BigDecimal("150.00"))
+                .status(QuoteStatus.Aprobada)
+                .createdAt(LocalDateTime.now())
+                .items(new ArrayList<>())
+                .build();
+
+        BigDecimal subtotal = BigDecimal.ZERO;
+        BigDecimal tax = BigDecimal.ZERO;
+        for (QuoteItemDto dto : itemDtos(random, items)) {
+            BigDecimal quantity = BigDecimal.valueOf(dto.quantity());
+            BigDecimal unitPrice = BigDecimal.valueOf(dto.unitPrice());
+            BigDecimal itemSubtotal = quantity.multiply(unitPrice);
+            BigDecimal itemTax = itemSubtotal.multiply(new BigDecimal("0.13"));
+            quote.addItem(QuoteItem.builder()
+                    .id(uuid(random))
+                    .description(dto.description())
+                    .quantity(quantity)
+                    .unitPrice(unitPrice)
+                    .taxRate(new BigDecimal("13.00"))
+                    .subtotal(itemSubtotal)
+                    .total(itemSubtotal.add(itemTax))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            subtotal = subtotal.add(itemSubtotal);
+            tax = tax.add(itemTax);
+        }
+        quote.setSubtotal(subtotal);
+        quote.setTaxTotal(tax);
+        quote.setTotal(subtotal.add(tax).add(quote.getAdditionalCosts()));
+        return quote;
+    }
+
+    static QuoteDto quoteDto(SplittableRandom random, Client client, Request request, int items) {
+        return new QuoteDto(
+                request.getId(),
+                client.getId(),
+                request.getEventName(),
+                12,
+                LocalDate.now().plusMonths(2),
+                LocalDate.now().plusMonths(2),
+                150.0,
+                itemDtos(random, items),
+                null
+        );
+    }
+
+    static List<QuoteItemDto> itemDtos(SplittableRandom random, int count) {
+        List<QuoteItemDto> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double quantity = 1 + random.nextInt(200);
+            // Precios con centavos, como los captura el administrador
+            double unitPrice = BigDecimal.valueOf(5 + random.nextDouble() * 495)
+                    .setScale(2, RoundingMode.HALF_UP).doubleValue();
+            items.add(new QuoteItemDto(null, SERVICES[i % SERVICES.length] + " #" + (i + 1), quantity, unitPrice));
+        }
+        return items;
+    }
+
+    static Reservation reservation(SplittableRandom random, Quote quote) {
+        return Reservation.builder()
+                .id(uuid(random))
+                .quote(quote)
+                .client(quote.getClient())
+                .eventName(quote.getEventName())
+                .status(ReservationStatus.ENCURSO)
+                .scheduledFor(quote.getStartDate().toString())
+                .location("Costa del Sol")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Tareas de la reservación, la mitad completadas, con {@code assignmentsPerTask} empleados
+     * cada una. Deja el progreso guardado de la reservación igual al que calcula el detalle.
+     */
+    static List<Task> tasks(SplittableRandom random, Reservation reservation, List<Employee> employees,
+                            int count, int assignmentsPerTask) {
+        List<Task> tasks = new ArrayList<>(count);
+        LocalDateTime start = LocalDateTime.now().plusMonths(2).withHour(6).withMinute(0).withSecond(0).withNano(0);
+        int completed = 0;
+        for (int i = 0; i < count; i++) {
+            boolean done = i % 2 == 0;
+            Task task = Task.builder()
+                    .id(uuid(random))
+                    .reservation(reservation)
+                    .title("Tarea " + (i + 1))
+                    .description("Preparación del servicio " + SERVICES[i % SERVICES.length])
+                    .startDatetime(start.plusMinutes(30L * i))
+                    .endDatetime(start.plusMinutes(30L * i + 90))
+                    .status(done ? TaskStatus.COMPLETADA : TaskStatus.EN_PROCESO)
+                    .completedAt(done ? start.plusMinutes(30L * i + 90) : null)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            List<Assignment> assignments = new ArrayList<>(assignmentsPerTask);
+            for (int a = 0; a < assignmentsPerTask; a++) {
+                assignments.add(Assignment.builder()
+                        .id(uuid(random))
+                        .task(task)
+                        .employee(employees.get((i + a) % employees.size()))
+                        .assignedAt(LocalDateTime.now())
+                        .build());
+            }
+            task.setAssignments(assignments);
+            tasks.add(task);
+            if (done) {
+                completed++;
+            }
+        }
+        reservation.setProgressPercentage(count == 0 ? BigDecimal.ZERO
+                : BigDecimal.valueOf((completed * 100.0) / count).setScale(2, RoundingMode.HALF_UP));
+        return tasks;
+    }
+
+    private static UUID uuid(SplittableRandom random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
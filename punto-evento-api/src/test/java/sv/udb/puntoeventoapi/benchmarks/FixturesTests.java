@@ -0,0 +1,53 @@
+package sv.udb.puntoeventoapi.benchmarks;
+
+import org.junit.jupiter.api.Test;
+import sv.udb.puntoeventoapi.modules.client.entity.Client;
+import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
+import sv.udb.puntoeventoapi.modules.request.entity.Request;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.task.entity.Task;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ejecuta una vez cada operación medida por los benchmarks JMH, sin el perfil {@code benchmarks}:
+ * un colaborador nuevo que los servicios armados en {@link Fixtures} no simulan falla aquí y no
+ * recién al correr {@code -Pbenchmarks}.
+ */
+class FixturesTests {
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final Client client = Fixtures.client(random);
+    private final Request request = Fixtures.request(random, client);
+    private final Quote quote = Fixtures.quote(random, client, request, 5);
+
+    @Test
+    void quoteServiceCreatesAndReadsQuote() {
+        var service = Fixtures.quoteService(client, request, quote);
+
+        assertThat(service.create(Fixtures.quoteDto(random, client, request, 5)).items()).hasSize(5);
+        assertThat(service.getById(quote.getId()).id()).isEqualTo(quote.getId());
+    }
+
+    @Test
+    void reservationServiceBuildsDetailWithAndWithoutCache() {
+        Reservation reservation = Fixtures.reservation(random, quote);
+        List<Task> tasks = Fixtures.tasks(random, reservation, Fixtures.employees(random, 3), 4, 2);
+
+        for (int cacheEntries : new int[]{0, 10}) {
+            var service = Fixtures.reservationService(reservation, tasks, cacheEntries);
+            assertThat(service.getReservationById(reservation.getId()).isSuccess()).isTrue();
+        }
+    }
+
+    @Test
+    void taskServiceReadsTask() {
+        Reservation reservation = Fixtures.reservation(random, quote);
+        Task task = Fixtures.tasks(random, reservation, Fixtures.employees(random, 3), 1, 2).get(0);
+
+        assertThat(Fixtures.taskService(task).getById(task.getId()).isSuccess()).isTrue();
+    }
+}
@@ -0,0 +1,49 @@
+package sv.udb.puntoeventoapi.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * El scrape de Prometheus no es público: requiere el token de scrape (o un JWT de ADMIN).
+ */
+@SpringBootTest(properties = "app.metrics.scrape-token=scrape-de-prueba")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsEndpointSecurityTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusRejectsAnonymousRequests() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void prometheusRejectsWrongToken() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer otro-token"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void prometheusAcceptsScrapeToken() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer scrape-de-prueba"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void healthStaysPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
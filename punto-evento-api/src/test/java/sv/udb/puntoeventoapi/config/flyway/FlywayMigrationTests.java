@@ -0,0 +1,147 @@
+package sv.udb.puntoeventoapi.config.flyway;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.ResourceProvider;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Aplica todas las migraciones sobre una base vacía y arranca Hibernate con {@code ddl-auto=validate}:
+ * si una entidad deja de coincidir con las migraciones, el contexto no levanta.
+ * H2 no admite índices parciales, así que sus condiciones {@code WHERE} se quitan al leer los scripts.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:punto_evento_flyway;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+class FlywayMigrationTests {
+
+    private static final Pattern PARTIAL_INDEX = Pattern.compile("(CREATE INDEX[^;]*?)\\s+WHERE[^;]*;",
+            Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void migrationsMatchEntities() {
+        // El contexto ya levantó con validate; además todas las migraciones quedaron aplicadas
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).hasSameSizeAs(flyway.info().all());
+    }
+
+    @Test
+    void refusesSchemaWithoutHistory() throws Exception {
+        String url = "jdbc:h2:mem:punto_evento_dump;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            connection.createStatement().execute("CREATE TABLE users (id UUID PRIMARY KEY)");
+
+            Flyway legacy = Flyway.configure().dataSource(url, "sa", "").load();
+
+            assertThatThrownBy(() -> FlywayConfig.rejectUnversionedSchema(legacy))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("users")
+                    .hasMessageContaining("historial de Flyway");
+        }
+    }
+
+    @TestConfiguration
+    static class H2Migrations {
+
+        @Bean
+        FlywayConfigurationCustomizer h2ResourceProvider() {
+            return configuration -> configuration.resourceProvider(new PartialIndexStrippingProvider());
+        }
+    }
+
+    /**
+     * Lee los scripts de {@code db/migration} y quita la condición de los índices parciales.
+     */
+    static class PartialIndexStrippingProvider implements ResourceProvider {
+
+        private final List<LoadableResource> scripts;
+
+        PartialIndexStrippingProvider() {
+            try {
+                Resource[] resources = new PathMatchingResourcePatternResolver()
+                        .getResources("classpath:db/migration/*.sql");
+                scripts = Arrays.stream(resources).map(PartialIndexStrippingProvider::strip).toList();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public LoadableResource getResource(String name) {
+            return scripts.stream().filter(s -> s.getFilename().equals(name)).findFirst().orElse(null);
+        }
+
+        @Override
+        public Collection<LoadableResource> getResources(String prefix, String[] suffixes) {
+            return scripts.stream()
+                    .filter(s -> s.getFilename().startsWith(prefix))
+                    .filter(s -> Arrays.stream(suffixes).anyMatch(s.getFilename()::endsWith))
+                    .toList();
+        }
+
+        private static LoadableResource strip(Resource resource) {
+            try {
+                String sql = PARTIAL_INDEX.matcher(resource.getContentAsString(StandardCharsets.UTF_8))
+                        .replaceAll("$1;");
+                String filename = resource.getFilename();
+                return new LoadableResource() {
+                    @Override
+                    public Reader read() {
+                        return new StringReader(sql);
+                    }
+
+                    @Override
+                    public String getAbsolutePath() {
+                        return "db/migration/" + filename;
+                    }
+
+                    @Override
+                    public String getAbsolutePathOnDisk() {
+                        return getAbsolutePath();
+                    }
+
+                    @Override
+                    public String getFilename() {
+                        return filename;
+                    }
+
+                    @Override
+                    public String getRelativePath() {
+                        return filename;
+                    }
+                };
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
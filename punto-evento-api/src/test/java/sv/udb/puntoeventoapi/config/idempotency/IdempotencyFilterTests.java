@@ -0,0 +1,126 @@
+package sv.udb.puntoeventoapi.config.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import sv.udb.puntoeventoapi.modules.user.entity.User;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repetición, clave reutilizada, petición en curso y errores con estado 200 a nivel del filtro.
+ */
+class IdempotencyFilterTests {
+
+    private static final String KEY = "clave-de-prueba-1";
+
+    private final IdempotencyFilter filter = new IdempotencyFilter(
+            new InMemoryIdempotencyStore(100), new ObjectMapper(), 24, 300, 65536);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void authenticate() {
+        User user = User.builder().id(UUID.randomUUID()).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void replaysFirstSuccessfulResponseWithoutExecutingAgain() throws Exception {
+        FilterChain chain = respond(201, "{\"success\":true,\"data\":\"creada\"}");
+
+        MockHttpServletResponse first = perform("{\"a\":1}", chain);
+        MockHttpServletResponse second = perform("{\"a\":1}", chain);
+
+        assertThat(executions).hasValue(1);
+        assertThat(second.getStatus()).isEqualTo(201);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void rejectsSameKeyWithDifferentBody() throws Exception {
+        FilterChain chain = respond(200, "{\"success\":true}");
+
+        perform("{\"a\":1}", chain);
+        MockHttpServletResponse mismatch = perform("{\"a\":2}", chain);
+
+        assertThat(mismatch.getStatus()).isEqualTo(422);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void rejectsRetryWhileFirstRequestIsRunning() throws Exception {
+        MockHttpServletResponse[] concurrent = new MockHttpServletResponse[1];
+        // El reintento llega mientras la primera petición sigue dentro del controlador
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            concurrent[0] = perform("{\"a\":1}", respond(200, "{\"success\":true}"));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"success\":true}");
+        };
+
+        MockHttpServletResponse first = perform("{\"a\":1}", chain);
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(concurrent[0].getStatus()).isEqualTo(409);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void errorInBodyWithOkStatusReleasesKey() throws Exception {
+        perform("{\"a\":1}", respond(200, "{\"success\":false,\"message\":\"Conflicto de versión\"}"));
+        MockHttpServletResponse retry = perform("{\"a\":1}", respond(200, "{\"success\":true}"));
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(retry.getContentAsString()).isEqualTo("{\"success\":true}");
+    }
+
+    @Test
+    void errorStatusReleasesKey() throws Exception {
+        perform("{\"a\":1}", respond(500, "{\"success\":false}"));
+        perform("{\"a\":1}", respond(200, "{\"success\":true}"));
+
+        assertThat(executions).hasValue(2);
+    }
+
+    private FilterChain respond(int status, String body) {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(status);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(body);
+        };
+    }
+
+    private MockHttpServletResponse perform(String body, FilterChain chain) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/quotes");
+        request.addHeader(IdempotencyFilter.HEADER, KEY);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,57 @@
+package sv.udb.puntoeventoapi.config.idempotency;
+
+import org.junit.jupiter.api.Test;
+import sv.udb.puntoeventoapi.config.idempotency.IdempotencyStore.Outcome;
+import sv.udb.puntoeventoapi.config.idempotency.IdempotencyStore.StoredResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryIdempotencyStoreTests {
+
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(100);
+
+    @Test
+    void replaysStoredResponseForSameRequest() {
+        assertThat(store.claim("u1:key", "hash-a", TTL).outcome()).isEqualTo(Outcome.ACQUIRED);
+        assertThat(store.claim("u1:key", "hash-a", TTL).outcome()).isEqualTo(Outcome.IN_FLIGHT);
+
+        byte[] body = "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+        store.complete("u1:key", new StoredResponse(200, "application/json", body), TTL);
+
+        IdempotencyStore.Claim replay = store.claim("u1:key", "hash-a", TTL);
+        assertThat(replay.outcome()).isEqualTo(Outcome.REPLAY);
+        assertThat(replay.response().body()).isEqualTo(body);
+        assertThat(store.claim("u1:key", "hash-b", TTL).outcome()).isEqualTo(Outcome.MISMATCH);
+        assertThat(store.claim("u2:key", "hash-a", TTL).outcome()).isEqualTo(Outcome.ACQUIRED);
+    }
+
+    @Test
+    void releasedKeyCanBeRetried() {
+        store.claim("u1:retry", "hash-a", TTL);
+        store.release("u1:retry");
+
+        assertThat(store.claim("u1:retry", "hash-a", TTL).outcome()).isEqualTo(Outcome.ACQUIRED);
+    }
+
+    @Test
+    void inFlightLeaseExpiresButCompletedKeyLastsTtl() {
+        store.claim("u1:crashed", "hash-a", Duration.ofMillis(-1));
+        assertThat(store.claim("u1:crashed", "hash-a", TTL).outcome()).isEqualTo(Outcome.ACQUIRED);
+
+        store.claim("u1:done", "hash-a", Duration.ofMillis(-1));
+        store.complete("u1:done", new StoredResponse(201, "application/json", new byte[0]), TTL);
+        assertThat(store.claim("u1:done", "hash-a", TTL).outcome()).isEqualTo(Outcome.REPLAY);
+    }
+
+    @Test
+    void expiredKeyIsClaimedAgain() {
+        store.claim("u1:old", "hash-a", Duration.ofMillis(-1));
+
+        assertThat(store.claim("u1:old", "hash-b", TTL).outcome()).isEqualTo(Outcome.ACQUIRED);
+    }
+}
@@ -0,0 +1,68 @@
+package sv.udb.puntoeventoapi.config.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import sv.udb.puntoeventoapi.config.idempotency.IdempotencyStore.Outcome;
+import sv.udb.puntoeventoapi.config.idempotency.IdempotencyStore.StoredResponse;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * La reserva en curso vence con la concesión corta; solo la respuesta guardada dura el TTL.
+ * Usa H2 con la tabla de la migración V3.
+ */
+class JdbcIdempotencyStoreTests {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration TTL = Duration.ofHours(24);
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:idempotency_store;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+    private final JdbcIdempotencyStore store = new JdbcIdempotencyStore(jdbcTemplate);
+
+    @BeforeEach
+    void createTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS idempotency_keys");
+        jdbcTemplate.execute("""
+                CREATE TABLE idempotency_keys (
+                    idempotency_key VARCHAR(160) PRIMARY KEY,
+                    fingerprint     VARCHAR(64)  NOT NULL,
+                    status_code     INTEGER,
+                    content_type    VARCHAR(255),
+                    body            BYTEA,
+                    created_at      TIMESTAMP(6) NOT NULL,
+                    expires_at      TIMESTAMP(6) NOT NULL
+                )""");
+    }
+
+    @Test
+    void inFlightClaimUsesLeaseAndCompleteExtendsToTtl() {
+        assertThat(store.claim("u1:key", "hash-a", LEASE).outcome()).isEqualTo(Outcome.ACQUIRED);
+        assertThat(expiresIn("u1:key")).isBetween(LEASE.minusSeconds(5), LEASE);
+        assertThat(store.claim("u1:key", "hash-a", LEASE).outcome()).isEqualTo(Outcome.IN_FLIGHT);
+
+        store.complete("u1:key", new StoredResponse(201, "application/json", new byte[]{1}), TTL);
+
+        assertThat(expiresIn("u1:key")).isBetween(TTL.minusSeconds(5), TTL);
+        assertThat(store.claim("u1:key", "hash-a", LEASE).outcome()).isEqualTo(Outcome.REPLAY);
+    }
+
+    @Test
+    void expiredLeaseCanBeClaimedAgain() {
+        store.claim("u1:crashed", "hash-a", Duration.ofMillis(-1));
+
+        assertThat(store.claim("u1:crashed", "hash-a", LEASE).outcome()).isEqualTo(Outcome.ACQUIRED);
+    }
+
+    private Duration expiresIn(String key) {
+        Timestamp expiresAt = jdbcTemplate.queryForObject(
+                "SELECT expires_at FROM idempotency_keys WHERE idempotency_key = ?", Timestamp.class, key);
+        return Duration.between(Instant.now(), expiresAt.toInstant());
+    }
+}
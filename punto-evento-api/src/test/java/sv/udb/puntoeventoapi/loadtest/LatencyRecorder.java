@@ -0,0 +1,98 @@
+package sv.udb.puntoeventoapi.loadtest;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Acumula las latencias de cada endpoint (agrupadas por método y ruta plantilla)
+ * y calcula percentiles y rendimiento al final de la corrida.
+ */
+class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        samples.computeIfAbsent(endpoint, k -> new Samples()).add(elapsedNanos, success);
+    }
+
+    void reset() {
+        samples.clear();
+    }
+
+    List<EndpointSummary> summarize(long windowNanos) {
+        double seconds = Math.max(1, windowNanos) / 1_000_000_000.0;
+        return samples.entrySet().stream()
+                .map(e -> e.getValue().summarize(e.getKey(), seconds))
+                .sorted(Comparator.comparing(EndpointSummary::endpoint))
+                .toList();
+    }
+
+    record EndpointSummary(
+            String endpoint,
+            int requests,
+            int errors,
+            double throughputPerSecond,
+            double meanMs,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs
+    ) {}
+
+    private static final class Samples {
+        private long[] values = new long[256];
+        private int size;
+        private int errors;
+
+        synchronized void add(long nanos, boolean success) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized EndpointSummary summarize(String endpoint, double seconds) {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            long total = 0;
+            for (long v : sorted) {
+                total += v;
+            }
+            return new EndpointSummary(
+                    endpoint,
+                    size,
+                    errors,
+                    round(size / seconds),
+                    size == 0 ? 0 : toMillis(total / size),
+                    toMillis(percentile(sorted, 50)),
+                    toMillis(percentile(sorted, 95)),
+                    toMillis(percentile(sorted, 99)),
+                    size == 0 ? 0 : toMillis(sorted[size - 1])
+            );
+        }
+
+        // Percentil por rango más cercano
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+            return sorted[Math.min(sorted.length, Math.max(1, rank)) - 1];
+        }
+
+        private static double toMillis(long nanos) {
+            return round(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package sv.udb.puntoeventoapi.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Cliente HTTP de la prueba de carga. Cada llamada se registra en el {@link LatencyRecorder}
+ * bajo una etiqueta estable (método + ruta plantilla) y devuelve el campo {@code data}
+ * del ApiResponse. Una respuesta no 2xx o con {@code success=false} cuenta como error.
+ */
+class LoadTestClient {
+
+    private final HttpClient http;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+    private final Duration timeout;
+
+    LoadTestClient(URI baseUri, ObjectMapper objectMapper, LatencyRecorder recorder, Duration timeout) {
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+        this.timeout = timeout;
+    }
+
+    String login(String email, String password) {
+        JsonNode data = post("POST /auth/login", "/auth/login", null,
+                Map.of("email", email, "password", password));
+        return data.path("token").asText();
+    }
+
+    JsonNode get(String endpoint, String path, String token) {
+        return send(endpoint, "GET", path, token, null);
+    }
+
+    JsonNode post(String endpoint, String path, String token, Object body) {
+        return send(endpoint, "POST", path, token, body);
+    }
+
+    JsonNode patch(String endpoint, String path, String token, Object body) {
+        return send(endpoint, "PATCH", path, token, body);
+    }
+
+    private JsonNode send(String endpoint, String method, String path, String token, Object body) {
+        HttpRequest request = buildRequest(method, path, token, body);
+        HttpResponse<byte[]> response;
+        long start = System.nanoTime();
+        try {
+            response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            throw new IllegalStateException(endpoint + " falló: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(endpoint + " interrumpido", e);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        JsonNode json = readBody(response.body());
+        boolean ok = response.statusCode() / 100 == 2 && json.path("success").asBoolean(true);
+        recorder.record(endpoint, elapsed, ok);
+        if (!ok) {
+            throw new IllegalStateException(endpoint + " respondió " + response.statusCode()
+                    + ": " + json.path("message").asText());
+        }
+        return json.path("data");
+    }
+
+    private HttpRequest buildRequest(String method, String path, String token, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(timeout)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        try {
+            return builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("No se pudo serializar el cuerpo de " + method + " " + path, e);
+        }
+    }
+
+    private JsonNode readBody(byte[] body) {
+        if (body.length == 0) {
+            return objectMapper.createObjectNode();
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            // Respuestas que no son JSON (p. ej. páginas de error) se tratan como cuerpo vacío
+            return objectMapper.createObjectNode();
+        }
+    }
+}
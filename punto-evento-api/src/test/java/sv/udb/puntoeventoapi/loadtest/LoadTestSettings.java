@@ -0,0 +1,29 @@
+package sv.udb.puntoeventoapi.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Parámetros de la prueba de carga, leídos de propiedades del sistema
+ * (por ejemplo {@code -Dloadtest.concurrency=16}).
+ */
+record LoadTestSettings(
+        int concurrency,
+        int iterations,
+        int warmupIterations,
+        int tasksPerReservation,
+        Duration requestTimeout,
+        Path outputDir
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Math.max(1, Integer.getInteger("loadtest.concurrency", 8)),
+                Math.max(1, Integer.getInteger("loadtest.iterations", 10)),
+                Math.max(0, Integer.getInteger("loadtest.warmup", 2)),
+                Math.max(1, Integer.getInteger("loadtest.tasks", 2)),
+                Duration.ofMillis(Long.getLong("loadtest.timeout-ms", 30_000)),
+                Path.of(System.getProperty("loadtest.output", "target/load-test"))
+        );
+    }
+}
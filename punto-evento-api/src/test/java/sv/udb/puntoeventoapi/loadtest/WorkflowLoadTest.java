@@ -0,0 +1,279 @@
+package sv.udb.puntoeventoapi.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ActiveProfilesResolver;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Prueba de carga fuera de línea: levanta la aplicación sobre H2 y reproduce el flujo completo
+ * cliente → administrador → empleado a través de los controladores reales, con la concurrencia
+ * configurada en {@link LoadTestSettings}. Escribe un reporte JSON por corrida en
+ * {@code target/load-test/} con rendimiento y percentiles por endpoint.
+ *
+ * <p>Excluida de {@code mvn test}; se ejecuta con {@code mvn test -Pload-test}. Con
+ * {@code -Dloadtest.profiles=prod-logging} se agregan perfiles al de pruebas para comparar configuraciones.
+ */
+@Slf4j
+@Tag("load")
+@ActiveProfiles(resolver = WorkflowLoadTest.Profiles.class)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"app.seeder.enabled=true", "app.outbox.poll-ms=50"}
+)
+class WorkflowLoadTest {
+
+    private static final String ADMIN_EMAIL = "admin@puntoevento.com";
+    private static final String ADMIN_PASSWORD = "admin123";
+    private static final String EMPLOYEE_EMAIL = "empleado@puntoevento.com";
+    private static final String EMPLOYEE_PASSWORD = "empleado123";
+    private static final String CLIENT_PASSWORD = "Carga12345";
+    private static final long SETTLE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final long POLL_MILLIS = 50;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+
+    @Test
+    void replayWorkflows() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LatencyRecorder recorder = new LatencyRecorder();
+        LoadTestClient client = new LoadTestClient(
+                URI.create("http://localhost:" + port), objectMapper, recorder, settings.requestTimeout());
+
+        String adminToken = client.login(ADMIN_EMAIL, ADMIN_PASSWORD);
+        String employeeToken = client.login(EMPLOYEE_EMAIL, EMPLOYEE_PASSWORD);
+        UUID employeeId = findEmployeeId(client, adminToken);
+        Actors actors = new Actors(adminToken, employeeToken, employeeId);
+
+        // Calentamiento (JIT, pool de conexiones, cachés de Hibernate); no entra en el reporte
+        run(client, actors, settings, settings.warmupIterations(), "w");
+        recorder.reset();
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        RunResult result = run(client, actors, settings, settings.iterations(), "m");
+        long elapsed = System.nanoTime() - start;
+
+        List<LatencyRecorder.EndpointSummary> endpoints = recorder.summarize(elapsed);
+        int totalRequests = endpoints.stream().mapToInt(LatencyRecorder.EndpointSummary::requests).sum();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        report.put("concurrency", settings.concurrency());
+        report.put("iterationsPerWorker", settings.iterations());
+        report.put("tasksPerReservation", settings.tasksPerReservation());
+        report.put("profiles", Profiles.active());
+        report.put("threads", System.getProperty("spring.threads.virtual.enabled", "false").equals("true")
+                ? "virtual" : "platform");
+        report.put("durationMillis", elapsed / 1_000_000);
+        report.put("workflowsCompleted", result.completed());
+        report.put("workflowsFailed", result.failed());
+        report.put("totalRequests", totalRequests);
+        report.put("throughputPerSecond", Math.round(totalRequests / (elapsed / 1e9) * 100) / 100.0);
+        report.put("endpoints", endpoints);
+
+        Path file = writeReport(settings.outputDir(), startedAt, report);
+        log.info("Prueba de carga: {} flujos, {} peticiones en {} ms. Reporte: {}",
+                result.completed(), totalRequests, elapsed / 1_000_000, file.toAbsolutePath());
+
+        assertThat(result.failed()).as("flujos con error").isZero();
+    }
+
+    private RunResult run(LoadTestClient client, Actors actors, LoadTestSettings settings,
+                          int iterations, String phase) throws Exception {
+        if (iterations == 0) {
+            return new RunResult(0, 0);
+        }
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(settings.concurrency());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < settings.concurrency(); w++) {
+                int worker = w;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < iterations; i++) {
+                        try {
+                            workflow(client, actors, settings, phase + worker + "-" + i);
+                            completed.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            failed.incrementAndGet();
+                            log.warn("Flujo {}{}-{} falló: {}", phase, worker, i, e.getMessage());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return new RunResult(completed.get(), failed.get());
+    }
+
+    /**
+     * Un ciclo completo: registro y solicitud del cliente, cotización del administrador,
+     * aprobación del cliente, planificación y publicación, y ejecución de tareas del empleado.
+     */
+    private void workflow(LoadTestClient client, Actors actors, LoadTestSettings settings, String key) {
+        // Cliente
+        String email = "carga-" + runId + "-" + key + "@puntoevento.test";
+        client.post("POST /auth/register", "/auth/register", null,
+                Map.of("name", "Cliente " + key, "email", email, "password", CLIENT_PASSWORD));
+        String clientToken = client.login(email, CLIENT_PASSWORD);
+
+        JsonNode request = client.post("POST /api/requests", "/api/requests", clientToken, Map.of(
+                "eventName", "Evento " + key,
+                "eventDate", LocalDate.now().plusDays(30).toString(),
+                "location", "San Salvador",
+                "requestedServices", List.of("Sonido", "Decoración"),
+                "notes", "Generado por la prueba de carga"));
+        String requestId = request.path("id").asText();
+        client.get("GET /api/requests/my-requests", "/api/requests/my-requests", clientToken);
+
+        // Administrador cotiza
+        JsonNode quote = client.post("POST /api/requests/{id}/create-quote",
+                "/api/requests/" + requestId + "/create-quote", actors.adminToken(), null);
+        String quoteId = quote.path("id").asText();
+
+        // Cliente revisa y aprueba; el outbox crea la reservación en segundo plano
+        client.get("GET /api/quotes/my-quotes", "/api/quotes/my-quotes", clientToken);
+        client.post("POST /api/quotes/{id}/action", "/api/quotes/" + quoteId + "/action", clientToken,
+                Map.of("action", "APROBAR", "notes", "Aprobada en prueba de carga"));
+        String reservationId = findReservationId(client, clientToken, quoteId);
+
+        // Administrador planifica tareas y publica
+        LocalDateTime slot = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        List<String> taskIds = new ArrayList<>();
+        for (int t = 0; t < settings.tasksPerReservation(); t++) {
+            JsonNode task = client.post("POST /tasks", "/tasks", actors.adminToken(), Map.of(
+                    "reservationId", reservationId,
+                    "title", "Montaje " + (t + 1),
+                    "description", "Tarea de la prueba de carga",
+                    "employeeId", actors.employeeId().toString(),
+                    "startDatetime", slot.plusHours(t).toString(),
+                    "endDatetime", slot.plusHours(t + 1).toString()));
+            taskIds.add(task.path("id").asText());
+        }
+        client.post("POST /api/reservations/{id}/publish",
+                "/api/reservations/" + reservationId + "/publish", actors.adminToken(), null);
+
+        // Empleado consulta su tablero y ejecuta las tareas
+        client.get("GET /tasks/my-tasks", "/tasks/my-tasks?page=0&size=20", actors.employeeToken());
+        for (String status : List.of("EN_PROCESO", "COMPLETADA")) {
+            for (String taskId : taskIds) {
+                client.patch("PATCH /tasks/{id}/status",
+                        "/tasks/" + taskId + "/status?status=" + status, actors.employeeToken(), null);
+            }
+        }
+
+        // Cliente consulta el avance final (el recálculo de la reservación también es asíncrono)
+        String status = null;
+        for (long deadline = System.nanoTime() + SETTLE_TIMEOUT_NANOS; System.nanoTime() < deadline; pause()) {
+            JsonNode detail = client.get("GET /api/reservations/{id}",
+                    "/api/reservations/" + reservationId, clientToken);
+            status = detail.path("status").asText();
+            if ("FINALIZADA".equals(status)) {
+                return;
+            }
+        }
+        throw new IllegalStateException("La reservación " + reservationId + " terminó en " + status);
+    }
+
+    private static String findReservationId(LoadTestClient client, String clientToken, String quoteId) {
+        for (long deadline = System.nanoTime() + SETTLE_TIMEOUT_NANOS; System.nanoTime() < deadline; pause()) {
+            JsonNode reservations = client.get("GET /api/reservations/my-reservations",
+                    "/api/reservations/my-reservations", clientToken);
+            for (JsonNode reservation : reservations) {
+                if (quoteId.equals(reservation.path("quote").path("id").asText())) {
+                    return reservation.path("id").asText();
+                }
+            }
+        }
+        throw new IllegalStateException("No se encontró la reservación de la cotización " + quoteId);
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(POLL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Espera interrumpida", e);
+        }
+    }
+
+    private static UUID findEmployeeId(LoadTestClient client, String adminToken) {
+        for (JsonNode employee : client.get("GET /employees", "/employees", adminToken)) {
+            if (EMPLOYEE_EMAIL.equals(employee.path("email").asText())) {
+                return UUID.fromString(employee.path("id").asText());
+            }
+        }
+        throw new IllegalStateException("El seeder no creó el empleado " + EMPLOYEE_EMAIL);
+    }
+
+    private Path writeReport(Path dir, LocalDateTime startedAt, Map<String, Object> report) throws Exception {
+        Files.createDirectories(dir);
+        Path file = dir.resolve("load-test-" + startedAt.format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+        Files.copy(file, dir.resolve("latest.json"), StandardCopyOption.REPLACE_EXISTING);
+        return file;
+    }
+
+    /**
+     * Perfil {@code test} más los indicados en {@code loadtest.profiles} (separados por coma).
+     */
+    static class Profiles implements ActiveProfilesResolver {
+
+        static List<String> active() {
+            List<String> profiles = new ArrayList<>(List.of("test"));
+            Arrays.stream(System.getProperty("loadtest.profiles", "").split(","))
+                    .map(String::trim)
+                    .filter(profile -> !profile.isEmpty())
+                    .forEach(profiles::add);
+            return profiles;
+        }
+
+        @Override
+        public String[] resolve(Class<?> testClass) {
+            return active().toArray(String[]::new);
+        }
+    }
+
+    private record Actors(String adminToken, String employeeToken, UUID employeeId) {}
+
+    private record RunResult(int completed, int failed) {}
+}
@@ -0,0 +1,121 @@
+package sv.udb.puntoeventoapi.modules.assignment.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import sv.udb.puntoeventoapi.modules.assignment.service.StaffingSolver.Candidate;
+import sv.udb.puntoeventoapi.modules.assignment.service.StaffingSolver.Interval;
+import sv.udb.puntoeventoapi.modules.assignment.service.StaffingSolver.Solution;
+import sv.udb.puntoeventoapi.modules.assignment.service.StaffingSolver.TaskSlot;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Heurística de asignación automática; no necesita contexto de Spring ni base de datos.
+ */
+class StaffingSolverTests {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 15, 0, 0);
+
+    private final List<StaffingSolver> solvers = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        solvers.forEach(StaffingSolver::shutdown);
+    }
+
+    @Test
+    void assignmentsNeverOverlapForAnEmployee() {
+        List<TaskSlot> tasks = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            // Tareas de dos horas que se enciman de a tres
+            tasks.add(slot(8 + i / 3 * 2, 10 + i / 3 * 2));
+        }
+        Candidate busy = candidate(interval(8, 10));
+        List<Candidate> candidates = List.of(candidate(), candidate(), candidate(), busy);
+
+        Solution solution = solver(500, 64).solve(tasks, candidates);
+
+        assertThat(solution.unassignedTaskIds()).isEmpty();
+        Map<UUID, Interval> byTask = new HashMap<>();
+        tasks.forEach(t -> byTask.put(t.taskId(), t.interval()));
+        for (Candidate candidate : candidates) {
+            List<Interval> taken = new ArrayList<>(candidate.busy());
+            solution.assignments().forEach((taskId, employeeId) -> {
+                if (employeeId.equals(candidate.employeeId())) {
+                    taken.add(byTask.get(taskId));
+                }
+            });
+            for (int i = 0; i < taken.size(); i++) {
+                for (int j = i + 1; j < taken.size(); j++) {
+                    assertThat(taken.get(i).overlaps(taken.get(j))).isFalse();
+                }
+            }
+        }
+    }
+
+    @Test
+    void keepsBestOrderingFound() {
+        Scenario scenario = new Scenario();
+
+        Solution solution = solver(5_000, 64).solve(scenario.tasks, scenario.candidates);
+
+        // El orden cronológico deja sin asignar la tarea larga; otro orden asigna ambas
+        assertThat(solution.unassignedTaskIds()).isEmpty();
+        assertThat(solution.assignments()).containsEntry(scenario.shortTask.taskId(), scenario.busy.employeeId())
+                .containsEntry(scenario.longTask.taskId(), scenario.free.employeeId());
+    }
+
+    @Test
+    void exhaustedBudgetFallsBackToChronologicalAttempt() {
+        Scenario scenario = new Scenario();
+
+        Solution solution = solver(0, 64).solve(scenario.tasks, scenario.candidates);
+
+        assertThat(solution.assignments()).containsOnly(Map.entry(scenario.shortTask.taskId(), scenario.free.employeeId()));
+        assertThat(solution.unassignedTaskIds()).containsExactly(scenario.longTask.taskId());
+        // Solo el intento cronológico evaluó candidatos
+        assertThat(solution.evaluations()).isEqualTo((long) scenario.tasks.size() * scenario.candidates.size());
+    }
+
+    /**
+     * Dos empleados y dos tareas: la corta (10:00-11:00) cabe con cualquiera, la larga (10:30-14:30) solo con el
+     * libre porque el otro está ocupado de 14:00 a 15:00. El voraz cronológico da la corta al libre (menor carga).
+     */
+    private static class Scenario {
+        final TaskSlot shortTask = new TaskSlot(UUID.randomUUID(),
+                new Interval(DAY.withHour(10), DAY.withHour(11)));
+        final TaskSlot longTask = new TaskSlot(UUID.randomUUID(),
+                new Interval(DAY.withHour(10).withMinute(30), DAY.withHour(14).withMinute(30)));
+        final Candidate free = candidate();
+        final Candidate busy = candidate(interval(14, 15));
+        final List<TaskSlot> tasks = List.of(shortTask, longTask);
+        final List<Candidate> candidates = List.of(free, busy);
+    }
+
+    private StaffingSolver solver(long budgetMillis, int attempts) {
+        StaffingSolver solver = new StaffingSolver(2, budgetMillis, attempts);
+        solvers.add(solver);
+        return solver;
+    }
+
+    private static TaskSlot slot(int fromHour, int toHour) {
+        return new TaskSlot(UUID.randomUUID(), interval(fromHour, toHour));
+    }
+
+    private static Interval interval(int fromHour, int toHour) {
+        return new Interval(DAY.plusHours(fromHour), DAY.plusHours(toHour));
+    }
+
+    private static Candidate candidate(Interval... busy) {
+        List<Interval> intervals = List.of(busy);
+        return new Candidate(UUID.randomUUID(), intervals,
+                intervals.stream().mapToLong(Interval::minutes).sum());
+    }
+}
@@ -0,0 +1,118 @@
+package sv.udb.puntoeventoapi.modules.calendar.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sv.udb.puntoeventoapi.modules.calendar.dto.CalendarEntryResponse;
+import sv.udb.puntoeventoapi.modules.commons.enums.QuoteStatus;
+import sv.udb.puntoeventoapi.modules.employee.entity.Employee;
+import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.task.entity.Task;
+import sv.udb.puntoeventoapi.modules.task.repository.TaskRepository;
+import sv.udb.puntoeventoapi.support.TestData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Feed iCal del empleado: token, ETag estable mientras no haya cambios y contenido RFC 5545.
+ * Por HTTP se sirve sin JWT (solo con el token de la URL) y responde 304 a un {@code If-None-Match} vigente.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestData.class)
+class CalendarFeedTests {
+
+    @Autowired
+    private CalendarService calendarService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TestData data;
+
+    @Test
+    void feedIsSignedCacheableAndWellFormed() throws IOException {
+        LocalDateTime now = LocalDateTime.now();
+        Employee employee = data.employee("Empleada Calendario");
+        Task task = createAssignedTask(employee, now);
+
+        assertThat(calendarService.openFeed(employee.getId(), "no-es-un-token")).isEmpty();
+
+        String token = calendarService.feedToken(employee.getId());
+        CalendarService.Feed feed = calendarService.openFeed(employee.getId(), token).orElseThrow();
+        assertThat(calendarService.openFeed(employee.getId(), token).orElseThrow().etag()).isEqualTo(feed.etag());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        calendarService.writeFeed(feed, out);
+        String ics = out.toString(StandardCharsets.UTF_8);
+        assertThat(ics).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n");
+        assertThat(ics).contains("UID:" + task.getId() + "@puntoevento\r\n");
+        assertThat(ics).contains("SUMMARY:Montaje\\, sonido y luces (Evento calendario)");
+        assertThat(Arrays.stream(ics.split("\r\n")))
+                .allMatch(line -> line.getBytes(StandardCharsets.UTF_8).length <= 75);
+
+        // Se edita la tarea cargada de nuevo: guardar la instancia suelta, con sus asignaciones vacías,
+        // borraría la asignación (orphanRemoval) y el rango ya no la incluiría
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Task managed = taskRepository.findById(task.getId()).orElseThrow();
+            managed.setTitle("Montaje final");
+            managed.setUpdatedAt(LocalDateTime.now().plusSeconds(1));
+        });
+        assertThat(calendarService.openFeed(employee.getId(), token).orElseThrow().etag()).isNotEqualTo(feed.etag());
+
+        assertThat(calendarService.range(now.toLocalDate().toString(), now.plusDays(7).toLocalDate().toString(),
+                "tasks", employee.getId()).entries())
+                .extracting(CalendarEntryResponse::id)
+                .containsExactly(task.getId());
+    }
+
+    @Test
+    void feedIsServedWithoutJwtAndHonorsIfNoneMatch() throws Exception {
+        Employee employee = data.employee("Empleado Feed");
+        createAssignedTask(employee, LocalDateTime.now());
+        String url = "/api/calendar/feeds/" + employee.getId() + ".ics";
+        String token = calendarService.feedToken(employee.getId());
+
+        String etag = mockMvc.perform(get(url).param("token", token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(url).param("token", token).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(url).param("token", "no-es-un-token"))
+                .andExpect(status().isNotFound());
+    }
+
+    private Task createAssignedTask(Employee employee, LocalDateTime now) {
+        Quote quote = data.quote(data.client("Cliente Calendario"), "Evento calendario", QuoteStatus.Aprobada);
+        // Ubicación larga para forzar el plegado de líneas del feed
+        Reservation reservation = data.reservation(quote, r -> r
+                .scheduledFor(now.plusDays(3).toString())
+                .location("Centro de convenciones, salón 2; San Salvador, con una descripción larga que obliga a plegar la línea"));
+        Task task = data.task(reservation, "Montaje, sonido y luces", now.plusDays(2), now.plusDays(2).plusHours(4),
+                t -> t.description("Llegar 1 hora antes\ncon el equipo"));
+        data.assign(task, employee);
+        return task;
+    }
+}
@@ -0,0 +1,135 @@
+package sv.udb.puntoeventoapi.modules.export.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Una exportación grande no debe crecer la memoria con el número de filas: se mide el heap
+ * ocupado (después de GC) mientras se escribe y se compara con el de antes de empezar.
+ * H2 recibe un {@code MAX_MEMORY_ROWS} bajo para que tampoco materialice el resultado en memoria.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:export_heap;MODE=PostgreSQL;"
+        + "DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;MAX_MEMORY_ROWS=5000")
+@ActiveProfiles("test")
+class ExportServiceHeapTests {
+
+    private static final int ROWS = 150_000;
+    private static final long MAX_GROWTH_BYTES = 32L * 1024 * 1024;
+
+    @Autowired
+    private ExportService exportService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM quotes", Integer.class);
+        if (existing != null && existing >= ROWS) {
+            return;
+        }
+        UUID clientId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO clients (id, name, document, person_type, status, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                clientId, "Cliente exportación", "EXP-" + clientId.toString().substring(0, 8), "Natural", "Activo",
+                Timestamp.valueOf(LocalDateTime.now()));
+
+        LocalDateTime base = LocalDateTime.now().minusDays(30);
+        List<Object[]> batch = new ArrayList<>(5_000);
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[]{UUID.randomUUID(), clientId, "Evento exportado " + i, "Pendiente",
+                    100 + i % 900, Timestamp.valueOf(base.plusSeconds(i))});
+            if (batch.size() == 5_000) {
+                insertQuotes(batch);
+                batch.clear();
+            }
+        }
+        insertQuotes(batch);
+    }
+
+    @Test
+    void csvExportKeepsHeapBounded() throws IOException {
+        assertHeapBounded("csv");
+    }
+
+    @Test
+    void xlsxExportKeepsHeapBounded() throws IOException {
+        assertHeapBounded("xlsx");
+    }
+
+    private void assertHeapBounded(String format) throws IOException {
+        ExportService.ExportRequest request = exportService.prepare("quotes", format, null, null, null);
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+
+        long rows = exportService.write(request, out);
+
+        assertThat(rows).isEqualTo(ROWS);
+        assertThat(out.samples).as("muestras de heap").isGreaterThan(3);
+        assertThat(out.peakGrowth())
+                .as("crecimiento del heap durante la exportación %s", format)
+                .isLessThan(MAX_GROWTH_BYTES);
+    }
+
+    private void insertQuotes(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO quotes (id, client_id, event_name, status, subtotal, tax_total, "
+                + "additional_costs, total, created_at, version) VALUES (?, ?, ?, ?, ?, 0, 0, ?, ?, 0)",
+                batch.stream().map(row -> new Object[]{row[0], row[1], row[2], row[3], row[4], row[4], row[5]}).toList());
+    }
+
+    /**
+     * Descarta los bytes y cada 512 KB fuerza un GC para registrar el heap realmente retenido.
+     */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private static final long SAMPLE_EVERY_BYTES = 512L * 1024;
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final long baseline = retainedHeap();
+        private long written;
+        private long nextSample = SAMPLE_EVERY_BYTES;
+        private long peak = baseline;
+        private int samples;
+
+        @Override
+        public void write(int b) {
+            count(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count(len);
+        }
+
+        private void count(int len) {
+            written += len;
+            if (written >= nextSample) {
+                nextSample = written + SAMPLE_EVERY_BYTES;
+                peak = Math.max(peak, retainedHeap());
+                samples++;
+            }
+        }
+
+        long peakGrowth() {
+            return peak - baseline;
+        }
+
+        private long retainedHeap() {
+            System.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
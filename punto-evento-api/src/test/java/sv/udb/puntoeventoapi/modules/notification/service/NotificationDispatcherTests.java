@@ -0,0 +1,104 @@
+package sv.udb.puntoeventoapi.modules.notification.service;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import sv.udb.puntoeventoapi.modules.commons.enums.QuoteStatus;
+import sv.udb.puntoeventoapi.modules.outbox.service.OutboxDispatcher;
+import sv.udb.puntoeventoapi.modules.quote.dto.ApproveRejectQuoteDto;
+import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
+import sv.udb.puntoeventoapi.modules.quote.service.QuoteService;
+import sv.udb.puntoeventoapi.support.TestData;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Envío de avisos contra un servidor SMTP embebido (GreenMail), sin red.
+ */
+@SpringBootTest(properties = {
+        "app.notifications.enabled=true",
+        "app.notifications.digest-window-ms=300",
+        "app.outbox.poll-ms=3600000",
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025"
+})
+@ActiveProfiles("test")
+@Import(TestData.class)
+class NotificationDispatcherTests {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+    @Autowired
+    private QuoteService quoteService;
+    @Autowired
+    private TestData data;
+
+    @Test
+    void coalescesNotificationsPerRecipientIntoDigest() throws Exception {
+        dispatcher.enqueue(notification("ana@puntoevento.test", "reservation-published"));
+        dispatcher.enqueue(notification("ana@puntoevento.test", "reservation-cancelled"));
+        dispatcher.enqueue(notification("luis@puntoevento.test", "reservation-cancelled"));
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 2)).isTrue();
+        MimeMessage[] messages = greenMail.getReceivedMessages();
+        assertThat(messages).hasSize(2);
+
+        MimeMessage digest = null;
+        for (MimeMessage message : messages) {
+            if (GreenMailUtil.getAddressList(message.getAllRecipients()).contains("ana@puntoevento.test")) {
+                digest = message;
+            }
+        }
+        assertThat(digest).isNotNull();
+        assertThat(digest.getSubject()).isEqualTo("Tienes 2 novedades en Punto Evento");
+        assertThat((String) digest.getContent())
+                .contains("Reservación programada: Boda")
+                .contains("Reservación cancelada: Boda");
+    }
+
+    @Test
+    void quoteApprovalEmailsClientAfterEventIsDelivered() throws Exception {
+        Quote quote = createPendingQuote("cliente-" + UUID.randomUUID().toString().substring(0, 8) + "@puntoevento.test");
+        ApproveRejectQuoteDto dto = new ApproveRejectQuoteDto();
+        dto.setAction("APROBAR");
+
+        assertThat(quoteService.approveOrRejectQuote(quote.getId(), dto, UUID.randomUUID()).isSuccess()).isTrue();
+        assertThat(outboxDispatcher.drain(Duration.ofSeconds(10))).isTrue();
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+        MimeMessage message = greenMail.getReceivedMessages()[0];
+        assertThat(message.getSubject()).isEqualTo("Cotización aprobada: Evento notificado");
+        assertThat((String) message.getContent()).contains("Cliente Notificado").contains("$226.00");
+    }
+
+    private static Notification notification(String recipient, String template) {
+        return new Notification(recipient, "Cliente", template, Map.of(
+                "eventName", "Boda", "scheduledFor", "2030-01-01 18:00:00", "location", "San Salvador"));
+    }
+
+    private Quote createPendingQuote(String email) {
+        return data.quote(data.client("Cliente Notificado", c -> c.email(email)), "Evento notificado", QuoteStatus.Pendiente,
+                q -> q.subtotal(new BigDecimal("200.00"))
+                        .taxTotal(new BigDecimal("26.00"))
+                        .total(new BigDecimal("226.00")));
+    }
+}
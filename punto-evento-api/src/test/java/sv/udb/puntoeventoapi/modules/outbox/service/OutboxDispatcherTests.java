@@ -0,0 +1,107 @@
+package sv.udb.puntoeventoapi.modules.outbox.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import sv.udb.puntoeventoapi.modules.commons.enums.QuoteStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+import sv.udb.puntoeventoapi.modules.quote.dto.ApproveRejectQuoteDto;
+import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
+import sv.udb.puntoeventoapi.modules.quote.service.QuoteService;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.reservation.repository.ReservationRepository;
+import sv.udb.puntoeventoapi.modules.task.dto.TaskStatusBatchDto;
+import sv.udb.puntoeventoapi.modules.task.entity.Task;
+import sv.udb.puntoeventoapi.modules.task.service.TaskService;
+import sv.udb.puntoeventoapi.support.TestData;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * La aprobación solo cambia la cotización; la reservación aparece al entregar el evento
+ * y una entrega repetida no la duplica. Un cambio masivo de tareas deja un solo evento por reservación.
+ * El despachador programado queda fuera (intervalo de una hora).
+ */
+@SpringBootTest(properties = "app.outbox.poll-ms=3600000")
+@ActiveProfiles("test")
+@Import(TestData.class)
+class OutboxDispatcherTests {
+
+    @Autowired
+    private QuoteService quoteService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TestData data;
+
+    @Test
+    void approvalCreatesReservationOnceWhenEventIsDelivered() {
+        Quote quote = data.quote(data.client("Cliente Outbox"), "Evento outbox", QuoteStatus.Pendiente);
+        ApproveRejectQuoteDto dto = new ApproveRejectQuoteDto();
+        dto.setAction("APROBAR");
+        dto.setNotes("Aprobada en prueba");
+
+        assertThat(quoteService.approveOrRejectQuote(quote.getId(), dto, UUID.randomUUID()).isSuccess()).isTrue();
+        assertThat(reservationRepository.findByQuoteId(quote.getId())).isEmpty();
+
+        assertThat(outboxDispatcher.drain(Duration.ofSeconds(10))).isTrue();
+        Reservation reservation = reservationRepository.findByQuoteId(quote.getId()).orElseThrow();
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.EN_PLANEACION);
+        assertThat(reservation.getNotes()).isEqualTo("Aprobada en prueba");
+
+        // Simula una segunda entrega (p. ej. caída antes de confirmar)
+        jdbcTemplate.update("UPDATE outbox_events SET status = 'PENDIENTE', available_at = ? WHERE aggregate_id = ?",
+                LocalDateTime.now().minusSeconds(1), quote.getId());
+        assertThat(outboxDispatcher.drain(Duration.ofSeconds(10))).isTrue();
+        assertThat(reservationRepository.findAll())
+                .filteredOn(r -> r.getQuote().getId().equals(quote.getId()))
+                .hasSize(1);
+    }
+
+    @Test
+    void batchStatusChangePublishesOneEventPerReservation() {
+        Reservation inProgress = data.approvedReservation("Evento lote");
+        Reservation finished = data.approvedReservation("Evento lote terminado");
+        List<Task> inProgressTasks = data.tasks(inProgress, 4);
+
+        List<TaskStatusBatchDto.Change> changes = new ArrayList<>();
+        changes.add(new TaskStatusBatchDto.Change(inProgressTasks.get(0).getId(), TaskStatus.COMPLETADA));
+        changes.add(new TaskStatusBatchDto.Change(inProgressTasks.get(1).getId(), TaskStatus.COMPLETADA));
+        changes.add(new TaskStatusBatchDto.Change(inProgressTasks.get(2).getId(), TaskStatus.EN_PROCESO));
+        data.tasks(finished, 2).forEach(task -> changes.add(
+                new TaskStatusBatchDto.Change(task.getId(), TaskStatus.COMPLETADA)));
+
+        assertThat(taskService.updateStatusBatch(new TaskStatusBatchDto(changes)).isSuccess()).isTrue();
+        assertThat(eventsFor(inProgress)).isEqualTo(1);
+        assertThat(eventsFor(finished)).isEqualTo(1);
+
+        assertThat(outboxDispatcher.drain(Duration.ofSeconds(10))).isTrue();
+        Reservation reloaded = reservationRepository.findById(inProgress.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(ReservationStatus.ENCURSO);
+        assertThat(reloaded.getProgressPercentage()).isEqualByComparingTo("50");
+        assertThat(reservationRepository.findById(finished.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.FINALIZADA);
+    }
+
+    private Integer eventsFor(Reservation reservation) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE event_type = 'TaskStatusesChanged' AND aggregate_id = ?",
+                Integer.class, reservation.getId());
+    }
+}
@@ -0,0 +1,100 @@
+package sv.udb.puntoeventoapi.modules.pricing.service;
+
+import org.junit.jupiter.api.Test;
+import sv.udb.puntoeventoapi.modules.commons.enums.PricingRuleType;
+import sv.udb.puntoeventoapi.modules.pricing.entity.PricingRule;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Valoración de ítems con las reglas compiladas; no necesita contexto de Spring ni base de datos.
+ */
+class PricingRulesTests {
+
+    private static final BigDecimal DEFAULT_TAX = new BigDecimal("13.00");
+    private static final UUID SERVICE = UUID.randomUUID();
+
+    @Test
+    void withoutRulesAppliesDefaultTax() {
+        PricingRules rules = PricingRules.compile(List.of(), DEFAULT_TAX, "");
+
+        PricingRules.PricedItem priced = rules.price(null, new BigDecimal("2"), new BigDecimal("50.00"), null);
+
+        assertThat(priced.subtotal()).isEqualByComparingTo("100.00");
+        assertThat(priced.tax()).isEqualByComparingTo("13.00");
+        assertThat(priced.total()).isEqualByComparingTo("113.00");
+    }
+
+    @Test
+    void serviceTaxOverridesGeneralTax() {
+        PricingRules rules = PricingRules.compile(List.of(
+                rule(PricingRuleType.TAX_RATE, null).percentage(new BigDecimal("15")).build(),
+                rule(PricingRuleType.TAX_RATE, SERVICE).percentage(BigDecimal.ZERO).build()
+        ), DEFAULT_TAX, "");
+
+        assertThat(rules.price(null, BigDecimal.ONE, new BigDecimal("100"), null).tax()).isEqualByComparingTo("15.00");
+        assertThat(rules.price(UUID.randomUUID(), BigDecimal.ONE, new BigDecimal("100"), null).tax()).isEqualByComparingTo("15.00");
+        assertThat(rules.price(SERVICE, BigDecimal.ONE, new BigDecimal("100"), null).tax()).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    void onlyHighestReachedVolumeTierApplies() {
+        PricingRules rules = PricingRules.compile(List.of(
+                rule(PricingRuleType.VOLUME_DISCOUNT, null).minQuantity(new BigDecimal("10")).percentage(new BigDecimal("5")).build(),
+                rule(PricingRuleType.VOLUME_DISCOUNT, null).minQuantity(new BigDecimal("50")).percentage(new BigDecimal("10")).build(),
+                rule(PricingRuleType.VOLUME_DISCOUNT, SERVICE).minQuantity(new BigDecimal("50")).percentage(new BigDecimal("15")).build()
+        ), DEFAULT_TAX, "");
+
+        BigDecimal price = new BigDecimal("10.00");
+        assertThat(rules.price(null, new BigDecimal("5"), price, null).subtotal()).isEqualByComparingTo("50.00");
+        assertThat(rules.price(null, new BigDecimal("20"), price, null).subtotal()).isEqualByComparingTo("190.00");
+        assertThat(rules.price(null, new BigDecimal("60"), price, null).subtotal()).isEqualByComparingTo("540.00");
+        // Al mismo mínimo gana el tramo propio del servicio; por debajo sigue el general
+        assertThat(rules.price(SERVICE, new BigDecimal("60"), price, null).subtotal()).isEqualByComparingTo("510.00");
+        assertThat(rules.price(SERVICE, new BigDecimal("20"), price, null).subtotal()).isEqualByComparingTo("190.00");
+    }
+
+    @Test
+    void seasonalSurchargesStackWithinTheirDates() {
+        PricingRules rules = PricingRules.compile(List.of(
+                rule(PricingRuleType.SEASONAL_SURCHARGE, null).percentage(new BigDecimal("10"))
+                        .validFrom(LocalDate.of(2026, 12, 1)).validTo(LocalDate.of(2026, 12, 31)).build(),
+                rule(PricingRuleType.SEASONAL_SURCHARGE, SERVICE).percentage(new BigDecimal("20"))
+                        .validFrom(LocalDate.of(2026, 12, 20)).validTo(LocalDate.of(2026, 12, 26)).build()
+        ), DEFAULT_TAX, "");
+
+        BigDecimal hundred = new BigDecimal("100");
+        assertThat(rules.price(SERVICE, BigDecimal.ONE, hundred, LocalDate.of(2026, 12, 24)).subtotal()).isEqualByComparingTo("132.00");
+        assertThat(rules.price(SERVICE, BigDecimal.ONE, hundred, LocalDate.of(2026, 12, 5)).subtotal()).isEqualByComparingTo("110.00");
+        assertThat(rules.price(null, BigDecimal.ONE, hundred, LocalDate.of(2026, 12, 24)).subtotal()).isEqualByComparingTo("110.00");
+        assertThat(rules.price(SERVICE, BigDecimal.ONE, hundred, LocalDate.of(2027, 1, 1)).subtotal()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    void roundingRuleAndInactiveRules() {
+        PricingRules rules = PricingRules.compile(List.of(
+                rule(PricingRuleType.ROUNDING, null).roundingScale(0).roundingMode("HALF_UP").build(),
+                rule(PricingRuleType.TAX_RATE, null).percentage(new BigDecimal("50")).active(false).build()
+        ), DEFAULT_TAX, "");
+
+        PricingRules.PricedItem priced = rules.price(null, BigDecimal.ONE, new BigDecimal("10.40"), null);
+
+        assertThat(priced.taxRate()).isEqualByComparingTo(DEFAULT_TAX);
+        assertThat(priced.subtotal()).isEqualByComparingTo("10");
+        assertThat(priced.tax()).isEqualByComparingTo("1");
+        assertThat(priced.total()).isEqualByComparingTo("11");
+    }
+
+    private static PricingRule.PricingRuleBuilder rule(PricingRuleType type, UUID serviceId) {
+        return PricingRule.builder()
+                .name(type.name())
+                .ruleType(type)
+                .serviceId(serviceId)
+                .active(true);
+    }
+}
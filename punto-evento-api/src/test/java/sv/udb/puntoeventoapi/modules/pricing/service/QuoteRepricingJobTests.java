@@ -0,0 +1,147 @@
+package sv.udb.puntoeventoapi.modules.pricing.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import sv.udb.puntoeventoapi.modules.client.entity.Client;
+import sv.udb.puntoeventoapi.modules.commons.enums.PricingRuleType;
+import sv.udb.puntoeventoapi.modules.commons.enums.QuoteStatus;
+import sv.udb.puntoeventoapi.modules.pricing.entity.PricingRule;
+import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
+import sv.udb.puntoeventoapi.modules.quote.entity.QuoteItem;
+import sv.udb.puntoeventoapi.modules.quote.repository.QuoteRepository;
+import sv.udb.puntoeventoapi.modules.quote.service.QuoteRevisionService;
+import sv.udb.puntoeventoapi.support.TestData;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Un lote de la revaloración contra la base: solo se reescriben los ítems cuyo monto cambia, la cotización
+ * sube de versión y recibe una revisión, y una cotización aprobada antes de la escritura queda intacta
+ * gracias al {@code WHERE status = ?} del UPDATE.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class QuoteRepricingJobTests {
+
+    private static final UUID SERVICE = UUID.randomUUID();
+    // Solo los ítems de SERVICE cambian: pasan del 13% al 15% de IVA
+    private static final PricingRules RULES = PricingRules.compile(List.of(PricingRule.builder()
+            .name("IVA del servicio")
+            .ruleType(PricingRuleType.TAX_RATE)
+            .serviceId(SERVICE)
+            .percentage(new BigDecimal("15"))
+            .active(true)
+            .build()), new BigDecimal("13.00"), "prueba");
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private PricingEngine pricingEngine;
+    @Autowired
+    private QuoteRevisionService revisionService;
+    @Autowired
+    private QuoteRepository quoteRepository;
+    @Autowired
+    private TestData data;
+
+    @Test
+    void repricesChangedItemsOfQuotesStillPending() {
+        Client client = data.client("Cliente revaloración");
+        Quote mixed = quote(client, QuoteStatus.Pendiente, null, SERVICE);
+        Quote unchanged = quote(client, QuoteStatus.Pendiente, null, null);
+        Quote approved = quote(client, QuoteStatus.Aprobada, SERVICE);
+        Quote approvedMidRun = quote(client, QuoteStatus.Pendiente, SERVICE);
+        List<UUID> ids = List.of(mixed.getId(), unchanged.getId(), approved.getId(), approvedMidRun.getId());
+        ids.forEach(id -> assertThat(revisions(id)).isZero());
+        long mixedVersion = version(mixed.getId());
+        long midRunVersion = version(approvedMidRun.getId());
+
+        // El cliente aprueba approvedMidRun después de que el lote leyó sus ítems y antes de la escritura
+        JdbcTemplate racing = new JdbcTemplate(dataSource) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                if (sql.startsWith("UPDATE quotes")) {
+                    update("UPDATE quotes SET status = ? WHERE id = ?", QuoteStatus.Aprobada.name(), approvedMidRun.getId());
+                }
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        QuoteRepricingJob job = new QuoteRepricingJob(racing, transactionManager, pricingEngine, revisionService, 500, 1);
+
+        long[] counts = job.repriceChunk(ids, RULES);
+
+        assertThat(counts).containsExactly(1, 1);
+
+        // Ítem general sin cambio: no se reescribe; el del servicio sí
+        assertThat(jdbcTemplate.queryForObject("SELECT total FROM quotes WHERE id = ?", BigDecimal.class, mixed.getId()))
+                .isEqualByComparingTo("22.80");
+        assertThat(version(mixed.getId())).isEqualTo(mixedVersion + 1);
+        assertThat(rewrittenItems(mixed.getId())).isEqualTo(1);
+        assertThat(revisions(mixed.getId())).isEqualTo(1);
+
+        assertThat(rewrittenItems(unchanged.getId())).isZero();
+        assertThat(revisions(unchanged.getId())).isZero();
+
+        assertThat(rewrittenItems(approved.getId())).isZero();
+        assertThat(revisions(approved.getId())).isZero();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT total FROM quotes WHERE id = ?", BigDecimal.class, approvedMidRun.getId()))
+                .isEqualByComparingTo("11.30");
+        assertThat(version(approvedMidRun.getId())).isEqualTo(midRunVersion);
+        assertThat(rewrittenItems(approvedMidRun.getId())).isZero();
+        assertThat(revisions(approvedMidRun.getId())).isZero();
+    }
+
+    /**
+     * Cotización con un ítem de $10 + 13% por cada servicio indicado ({@code null} = sin servicio).
+     */
+    private Quote quote(Client client, QuoteStatus status, UUID... services) {
+        Quote quote = data.quote(client, "Evento " + status, status);
+        BigDecimal total = BigDecimal.ZERO;
+        for (UUID service : services) {
+            quote.addItem(QuoteItem.builder()
+                    .serviceId(service)
+                    .description("Servicio")
+                    .quantity(BigDecimal.ONE)
+                    .unitPrice(BigDecimal.TEN)
+                    .taxRate(new BigDecimal("13.00"))
+                    .subtotal(BigDecimal.TEN)
+                    .total(new BigDecimal("11.30"))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            total = total.add(new BigDecimal("11.30"));
+        }
+        quote.setTotal(total);
+        return quoteRepository.save(quote);
+    }
+
+    private long version(UUID quoteId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM quotes WHERE id = ?", Long.class, quoteId);
+    }
+
+    // TestData no llena updated_at en los ítems: solo lo tienen los que reescribió el lote
+    private int rewrittenItems(UUID quoteId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM quote_items WHERE quote_id = ? AND updated_at IS NOT NULL", Integer.class, quoteId);
+    }
+
+    private int revisions(UUID quoteId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM quote_revisions WHERE quote_id = ?", Integer.class, quoteId);
+    }
+}
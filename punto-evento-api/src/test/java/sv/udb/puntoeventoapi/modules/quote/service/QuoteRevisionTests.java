@@ -0,0 +1,101 @@
+package sv.udb.puntoeventoapi.modules.quote.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import sv.udb.puntoeventoapi.modules.commons.enums.ItemChangeType;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteDto;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteItemDto;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteItemResponse;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteResponse;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteRevisionDiffResponse;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteRevisionDto;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteRevisionItemDto;
+import sv.udb.puntoeventoapi.modules.quote.dto.QuoteRevisionResponse;
+import sv.udb.puntoeventoapi.support.TestData;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Revisiones de cotización: cada una guarda solo los ítems que cambiaron y las anteriores se pueden
+ * reconstruir y comparar.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class QuoteRevisionTests {
+
+    @Autowired
+    private QuoteService quoteService;
+    @Autowired
+    private QuoteRevisionService revisionService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TestData data;
+
+    @Test
+    void revisionStoresOnlyChangedItemsAndDiffsAgainstPrevious() {
+        QuoteResponse quote = quoteService.create(new QuoteDto(null, data.client("Cliente Revisiones").getId(), "Boda revisada", 6,
+                LocalDate.now().plusMonths(2), LocalDate.now().plusMonths(2), 0.0, List.of(
+                        new QuoteItemDto(null, "Sonido", 1.0, 300.0),
+                        new QuoteItemDto(null, "Iluminación", 1.0, 200.0),
+                        new QuoteItemDto(null, "Decoración", 2.0, 100.0)), null));
+        UUID sound = itemId(quote, "Sonido");
+        UUID lights = itemId(quote, "Iluminación");
+        UUID decoration = itemId(quote, "Decoración");
+
+        // Se conserva Sonido, cambia Iluminación, se quita Decoración y se agrega Catering
+        QuoteRevisionResponse revision = quoteService.revise(quote.id(), new QuoteRevisionDto(List.of(
+                new QuoteRevisionItemDto(sound, null, "Sonido", 1.0, 300.0),
+                new QuoteRevisionItemDto(lights, null, "Iluminación", 2.0, 200.0),
+                new QuoteRevisionItemDto(null, null, "Catering", 50.0, 10.0)), 25.0, "Ajuste con el cliente"),
+                UUID.randomUUID());
+
+        assertThat(revision.revision()).isEqualTo(2);
+        assertThat(revision.changedItems()).isEqualTo(3);
+        assertThat(revision.items()).extracting(QuoteItemResponse::description)
+                .containsExactlyInAnyOrder("Sonido", "Iluminación", "Catering");
+        assertThat(revision.total()).isEqualByComparingTo("1381.00");
+
+        // Revisión 1 completa (3 filas) + Iluminación, Catering y la baja de Decoración
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM quote_revision_items WHERE quote_id = ?", Integer.class, quote.id());
+        assertThat(rows).isEqualTo(6);
+
+        assertThat(revisionService.get(quote.id(), 1).items()).extracting(QuoteItemResponse::description)
+                .containsExactlyInAnyOrder("Sonido", "Iluminación", "Decoración");
+
+        QuoteRevisionDiffResponse diff = revisionService.diff(quote.id(), null, null);
+        assertThat(diff.fromRevision()).isEqualTo(1);
+        assertThat(diff.toRevision()).isEqualTo(2);
+        assertThat(diff.totalBefore()).isEqualByComparingTo("791.00");
+        assertThat(diff.changes()).extracting(QuoteRevisionDiffResponse.ItemChange::change)
+                .containsExactlyInAnyOrder(ItemChangeType.CHANGED, ItemChangeType.ADDED, ItemChangeType.REMOVED);
+        assertThat(diff.changes()).filteredOn(change -> change.change() == ItemChangeType.CHANGED)
+                .singleElement()
+                .satisfies(change -> {
+                    assertThat(change.itemKey()).isEqualTo(lights);
+                    assertThat(change.before().quantity()).isEqualByComparingTo("1");
+                    assertThat(change.after().quantity()).isEqualByComparingTo("2");
+                });
+        assertThat(diff.changes()).filteredOn(change -> change.change() == ItemChangeType.REMOVED)
+                .singleElement()
+                .satisfies(change -> assertThat(change.itemKey()).isEqualTo(decoration));
+    }
+
+    private static UUID itemId(QuoteResponse quote, String description) {
+        return quote.items().stream()
+                .filter(item -> item.description().equals(description))
+                .findFirst()
+                .orElseThrow()
+                .id();
+    }
+}
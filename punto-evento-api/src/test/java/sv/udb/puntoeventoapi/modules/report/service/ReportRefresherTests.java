@@ -0,0 +1,118 @@
+package sv.udb.puntoeventoapi.modules.report.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import sv.udb.puntoeventoapi.modules.client.entity.Client;
+import sv.udb.puntoeventoapi.modules.commons.enums.QuoteStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReportSource;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
+import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
+import sv.udb.puntoeventoapi.modules.report.dto.ConversionReportResponse;
+import sv.udb.puntoeventoapi.modules.report.dto.MonthlyRevenueResponse;
+import sv.udb.puntoeventoapi.modules.report.dto.ReportRefreshResponse;
+import sv.udb.puntoeventoapi.modules.request.entity.Request;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.reservation.repository.ReservationRepository;
+import sv.udb.puntoeventoapi.support.TestData;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Los resúmenes de un mes coinciden con las tablas de origen y el refresco incremental recoge
+ * un cambio de estado posterior. Se usan meses de 2001 para no mezclarse con datos de otras pruebas.
+ */
+@SpringBootTest(properties = "app.reports.refresh-ms=3600000")
+@ActiveProfiles("test")
+@Import(TestData.class)
+class ReportRefresherTests {
+
+    private static final YearMonth JANUARY = YearMonth.of(2001, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2001, 2);
+
+    @Autowired
+    private ReportRefresher refresher;
+    @Autowired
+    private ReportService reportService;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private TestData data;
+
+    @Test
+    void summariesMatchSourceRowsAndFollowChanges() {
+        LocalDateTime january = JANUARY.atDay(10).atTime(10, 0);
+        Client client = data.client("Cliente Reportes", c -> c.createdAt(january));
+
+        Request reserved = request(client, january);
+        Request quoted = request(client, january);
+        request(client, january);
+        Quote approved = quote(client, reserved, QuoteStatus.Aprobada, "100.00", january);
+        quote(client, quoted, QuoteStatus.Pendiente, "50.00", january);
+        Reservation reservation = data.reservation(approved, r -> r
+                .status(ReservationStatus.EN_PLANEACION)
+                .createdAt(FEBRUARY.atDay(3).atTime(9, 0)));
+
+        ReportRefreshResponse result = refresher.recomputeRange(JANUARY, FEBRUARY).orElseThrow();
+        assertThat(result.months()).isEqualTo(2);
+        assertThat(result.failedMonths()).isEmpty();
+
+        List<MonthlyRevenueResponse> revenue = reportService.revenue("QUOTE", "2001-01", "2001-01");
+        assertThat(revenue)
+                .extracting(MonthlyRevenueResponse::status, MonthlyRevenueResponse::count)
+                .containsExactly(tuple("Aprobada", 1L), tuple("Pendiente", 1L));
+        // Por valor, sin importar la escala con que vuelva de la base
+        assertThat(revenue)
+                .extracting(MonthlyRevenueResponse::total)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("100"), new BigDecimal("50"));
+
+        ConversionReportResponse conversion = reportService.conversion("2001-01", "2001-02");
+        assertThat(conversion.requests()).isEqualTo(3);
+        assertThat(conversion.quotedRequests()).isEqualTo(2);
+        assertThat(conversion.reservedRequests()).isEqualTo(1);
+        assertThat(conversion.quoteRate()).isEqualByComparingTo("66.67");
+
+        assertThat(reportService.averageTicket("2001-01", "2001-02", 10))
+                .filteredOn(t -> t.clientId().equals(client.getId()))
+                .singleElement()
+                .satisfies(t -> {
+                    assertThat(t.reservations()).isEqualTo(1);
+                    assertThat(t.averageTicket()).isEqualByComparingTo("100.00");
+                });
+
+        // Cancelar la reservación: el refresco incremental rehace febrero sin pedirlo explícitamente
+        reservation.setStatus(ReservationStatus.CANCELADA);
+        reservation.setUpdatedAt(LocalDateTime.now());
+        reservationRepository.save(reservation);
+
+        assertThat(refresher.refreshChanged()).isPresent();
+        List<MonthlyRevenueResponse> reservations = reportService.revenue("RESERVATION", "2001-02", "2001-02");
+        assertThat(reservations).extracting(MonthlyRevenueResponse::source).containsOnly(ReportSource.RESERVATION);
+        assertThat(reservations).extracting(MonthlyRevenueResponse::status).containsExactly("CANCELADA");
+        assertThat(reportService.averageTicket("2001-01", "2001-02", 10))
+                .noneMatch(t -> t.clientId().equals(client.getId()));
+    }
+
+    private Request request(Client client, LocalDateTime createdAt) {
+        return data.request(client, r -> r.eventDate("2001-03-01").createdAt(createdAt));
+    }
+
+    private Quote quote(Client client, Request request, QuoteStatus status, String total, LocalDateTime createdAt) {
+        BigDecimal amount = new BigDecimal(total);
+        return data.quote(client, "Evento reporte", status, q -> q
+                .request(request)
+                .subtotal(amount)
+                .total(amount)
+                .createdAt(createdAt)
+                .updatedAt(LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,120 @@
+package sv.udb.puntoeventoapi.modules.reservation.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import sv.udb.puntoeventoapi.config.metrics.MetricNames;
+import sv.udb.puntoeventoapi.modules.reservation.dto.ReservationDetailResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Carga única ante pedidos simultáneos e invalidación de la caché del detalle; sin base de datos.
+ */
+class ReservationDetailCacheTests {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReservationDetailCache cache = new ReservationDetailCache(
+            new NoOpTransactionManager(), meterRegistry, 60, 100);
+
+    @Test
+    void concurrentMissesBuildDetailOnce() throws Exception {
+        UUID reservationId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        Function<UUID, ReservationDetailResponse> loader = id -> {
+            loads.incrementAndGet();
+            // Se termina cuando todos los demás pedidos ya esperan esta misma carga
+            while (meterRegistry.counter(MetricNames.RESERVATION_DETAIL_CACHE_HITS).count() < CALLERS - 1) {
+                Thread.onSpinWait();
+            }
+            return detail(id, UUID.randomUUID());
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<ReservationDetailResponse>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> cache.get(reservationId, loader)));
+            }
+            ReservationDetailResponse first = results.get(0).get();
+            for (Future<ReservationDetailResponse> result : results) {
+                assertThat(result.get()).isSameAs(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidationByReservationOrQuoteForcesReload() {
+        UUID reservationId = UUID.randomUUID();
+        UUID quoteId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        Function<UUID, ReservationDetailResponse> loader = id -> {
+            loads.incrementAndGet();
+            return detail(id, quoteId);
+        };
+
+        cache.get(reservationId, loader);
+        cache.get(reservationId, loader);
+        assertThat(loads).hasValue(1);
+
+        cache.invalidateAfterCommit(reservationId);
+        cache.get(reservationId, loader);
+        assertThat(loads).hasValue(2);
+
+        cache.invalidateQuoteAfterCommit(quoteId);
+        cache.get(reservationId, loader);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        UUID reservationId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> cache.get(reservationId, id -> {
+            throw new RuntimeException("Reserva no encontrada");
+        })).hasMessage("Reserva no encontrada");
+
+        assertThat(cache.get(reservationId, id -> detail(id, UUID.randomUUID())).getId()).isEqualTo(reservationId);
+    }
+
+    private static ReservationDetailResponse detail(UUID reservationId, UUID quoteId) {
+        return ReservationDetailResponse.builder()
+                .id(reservationId)
+                .quote(ReservationDetailResponse.QuoteInfo.builder().id(quoteId).build())
+                .build();
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package sv.udb.puntoeventoapi.modules.reservation.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import sv.udb.puntoeventoapi.config.jdbc.QueryCountContext;
+import sv.udb.puntoeventoapi.config.jdbc.QueryCountContext.QueryStats;
+import sv.udb.puntoeventoapi.modules.commons.enums.QuoteStatus;
+import sv.udb.puntoeventoapi.modules.employee.entity.Employee;
+import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.task.entity.Task;
+import sv.udb.puntoeventoapi.support.TestData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * El detalle de una reservación no debe ejecutar una consulta por tarea ni por empleado:
+ * las colecciones perezosas se cargan por lotes y el número de sentencias no depende del tamaño.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class ReservationServiceQueryCountTests {
+
+    private static final int MAX_STATEMENTS = 10;
+
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private TestData data;
+
+    @Test
+    void reservationDetailRunsBoundedQueries() {
+        List<Employee> employees = createEmployees(4);
+        Reservation small = createReservation(2, employees);
+        Reservation large = createReservation(30, employees);
+
+        QueryStats smallStats = QueryCountContext.capture(() ->
+                assertThat(reservationService.getReservationById(small.getId()).isSuccess()).isTrue());
+        QueryStats largeStats = QueryCountContext.capture(() ->
+                assertThat(reservationService.getReservationById(large.getId()).isSuccess()).isTrue());
+
+        assertThat(largeStats.statements()).isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(largeStats.statements()).isEqualTo(smallStats.statements());
+        assertThat(largeStats.maxRepetitions()).isLessThan(3);
+    }
+
+    private List<Employee> createEmployees(int count) {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            employees.add(data.employee("Empleado " + i));
+        }
+        return employees;
+    }
+
+    private Reservation createReservation(int taskCount, List<Employee> employees) {
+        Quote quote = data.withItems(
+                data.quote(data.client("Cliente Consultas"), "Evento consultas", QuoteStatus.Aprobada), 3);
+        Reservation reservation = data.reservation(quote);
+        List<Task> tasks = data.tasks(reservation, taskCount);
+        for (int i = 0; i < tasks.size(); i++) {
+            data.assign(tasks.get(i), employees.get(i % employees.size()));
+        }
+        return reservation;
+    }
+}
@@ -0,0 +1,64 @@
+package sv.udb.puntoeventoapi.modules.task.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sv.udb.puntoeventoapi.modules.outbox.service.OutboxDispatcher;
+import sv.udb.puntoeventoapi.modules.outbox.service.OutboxPublisher;
+import sv.udb.puntoeventoapi.modules.reservation.dto.ReservationDetailResponse;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.reservation.event.ReservationCancelled;
+import sv.udb.puntoeventoapi.modules.reservation.service.ReservationService;
+import sv.udb.puntoeventoapi.support.TestData;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Al entregar {@link ReservationCancelled} las tareas abiertas pasan a CANCELADA y el detalle
+ * en caché deja de mostrarlas como pendientes. El despachador programado queda fuera.
+ */
+@SpringBootTest(properties = "app.outbox.poll-ms=3600000")
+@ActiveProfiles("test")
+@Import(TestData.class)
+class ReservationCancelledHandlerTests {
+
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TestData data;
+
+    @Test
+    void cancellingTasksInvalidatesCachedDetail() {
+        Reservation reservation = data.approvedReservation("Evento cancelado");
+        data.tasks(reservation, 3);
+
+        // Deja el detalle en caché con las tareas pendientes
+        assertThat(taskStatuses(reservation)).containsOnly("PENDIENTE");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                outboxPublisher.publish(new ReservationCancelled(reservation.getId(), UUID.randomUUID())));
+        assertThat(outboxDispatcher.drain(Duration.ofSeconds(10))).isTrue();
+
+        assertThat(taskStatuses(reservation)).hasSize(3).containsOnly("CANCELADA");
+    }
+
+    private List<String> taskStatuses(Reservation reservation) {
+        return reservationService.getReservationById(reservation.getId()).getData().getTasks().stream()
+                .map(ReservationDetailResponse.TaskInfo::getStatus)
+                .toList();
+    }
+}
@@ -0,0 +1,75 @@
+package sv.udb.puntoeventoapi.modules.task.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+import sv.udb.puntoeventoapi.modules.outbox.service.OutboxDispatcher;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.reservation.repository.ReservationRepository;
+import sv.udb.puntoeventoapi.modules.task.dto.TaskDto;
+import sv.udb.puntoeventoapi.modules.task.entity.Task;
+import sv.udb.puntoeventoapi.support.TestData;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Crear o eliminar tareas cambia el avance aunque ninguna cambie de estado; la reservación se
+ * recalcula al entregar {@code ReservationTasksChanged}. El despachador programado queda fuera.
+ */
+@SpringBootTest(properties = "app.outbox.poll-ms=3600000")
+@ActiveProfiles("test")
+@Import(TestData.class)
+class ReservationTasksChangedTests {
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+    @Autowired
+    private TestData data;
+
+    @Test
+    void creatingTaskLowersProgress() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Reservation reservation = data.approvedReservation("Evento con tarea nueva");
+        reservation.setStatus(ReservationStatus.EN_PLANEACION);
+        reservation.setProgressPercentage(new BigDecimal("100"));
+        reservationRepository.save(reservation);
+        data.task(reservation, "Completada", start, start.plusHours(1), t -> t.status(TaskStatus.COMPLETADA));
+
+        var created = taskService.create(new TaskDto(reservation.getId(), "Tarea nueva", null, null, null,
+                start.plusHours(1), start.plusHours(2)), UUID.randomUUID());
+        assertThat(created.isSuccess()).isTrue();
+        assertThat(outboxDispatcher.drain(Duration.ofSeconds(10))).isTrue();
+
+        Reservation reloaded = reservationRepository.findById(reservation.getId()).orElseThrow();
+        assertThat(reloaded.getProgressPercentage()).isEqualByComparingTo("50");
+        assertThat(reloaded.getStatus()).isEqualTo(ReservationStatus.EN_PLANEACION);
+    }
+
+    @Test
+    void deletingLastOpenTaskFinishesReservation() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Reservation reservation = data.approvedReservation("Evento con tarea eliminada");
+        data.task(reservation, "Completada", start, start.plusHours(1), t -> t.status(TaskStatus.COMPLETADA));
+        Task pending = data.task(reservation, "Pendiente", start.plusHours(1), start.plusHours(2));
+
+        taskService.delete(pending.getId());
+        assertThat(outboxDispatcher.drain(Duration.ofSeconds(10))).isTrue();
+
+        Reservation reloaded = reservationRepository.findById(reservation.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(ReservationStatus.FINALIZADA);
+        assertThat(reloaded.getProgressPercentage()).isEqualByComparingTo("100");
+    }
+}
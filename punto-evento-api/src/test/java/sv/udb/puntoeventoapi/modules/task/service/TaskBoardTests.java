@@ -0,0 +1,86 @@
+package sv.udb.puntoeventoapi.modules.task.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+import sv.udb.puntoeventoapi.modules.employee.entity.Employee;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.task.dto.TaskResponse;
+import sv.udb.puntoeventoapi.modules.task.entity.Task;
+import sv.udb.puntoeventoapi.modules.task.repository.TaskRepository;
+import sv.udb.puntoeventoapi.support.TestData;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tablero del empleado: las tareas abiertas van antes que las cerradas y las páginas
+ * no repiten filas aunque varias tareas empiecen a la misma hora.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class TaskBoardTests {
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TestData data;
+
+    @Test
+    void openTasksComeFirstAndPagesDoNotOverlap() {
+        Employee employee = data.employee("Empleado del tablero");
+        Reservation reservation = data.approvedReservation("Evento del tablero");
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+        // La tarea completada empieza antes que todas, pero debe ir al final
+        data.assign(data.task(reservation, "Completada", start.minusDays(2), start.minusDays(2).plusHours(1),
+                t -> t.status(TaskStatus.COMPLETADA)), employee);
+        for (int i = 0; i < 5; i++) {
+            data.assign(data.task(reservation, "Misma hora " + i, start, start.plusHours(1)), employee);
+        }
+
+        List<UUID> seen = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            taskService.getByEmployee(employee.getId(), page, 2).getData().getContent().stream()
+                    .map(TaskResponse::id)
+                    .forEach(seen::add);
+        }
+
+        assertThat(seen).hasSize(6).doesNotHaveDuplicates();
+        Task last = taskRepository.findById(seen.get(5)).orElseThrow();
+        assertThat(last.getStatus()).isEqualTo(TaskStatus.COMPLETADA);
+    }
+
+    @Test
+    void summaryCountsEveryBoardTask() {
+        Employee employee = data.employee("Empleado con resumen");
+        Reservation reservation = data.approvedReservation("Evento con resumen");
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < 3; i++) {
+            data.assign(data.task(reservation, "Pendiente " + i, start, start.plusHours(1)), employee);
+        }
+        data.assign(data.task(reservation, "En proceso", start, start.plusHours(1),
+                t -> t.status(TaskStatus.EN_PROCESO)), employee);
+
+        var counts = taskRepository.countBoardByEmployee(employee.getId(),
+                EnumSet.of(ReservationStatus.PROGRAMADA, ReservationStatus.ENCURSO, ReservationStatus.FINALIZADA));
+
+        assertThat(counts).extracting(TaskRepository.StatusCount::getStatus, TaskRepository.StatusCount::getTotal)
+                .containsExactlyInAnyOrder(
+                        tuple(TaskStatus.PENDIENTE, 3L),
+                        tuple(TaskStatus.EN_PROCESO, 1L));
+    }
+}
@@ -0,0 +1,133 @@
+package sv.udb.puntoeventoapi.modules.task.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import sv.udb.puntoeventoapi.modules.commons.common.ApiResponse;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+import sv.udb.puntoeventoapi.modules.outbox.service.OutboxDispatcher;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.reservation.repository.ReservationRepository;
+import sv.udb.puntoeventoapi.modules.task.entity.Task;
+import sv.udb.puntoeventoapi.modules.task.repository.TaskRepository;
+import sv.udb.puntoeventoapi.support.TestData;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Varios empleados cambian el estado de tareas de la misma reservación a la vez.
+ * Con versión optimista y reintentos no se debe perder ninguna actualización del progreso,
+ * que se recalcula al entregar los eventos del outbox.
+ */
+@SpringBootTest(properties = {
+        "app.concurrency.max-attempts=40",
+        "app.concurrency.backoff-ms=5"
+})
+@ActiveProfiles("test")
+@Import(TestData.class)
+class TaskServiceConcurrencyTests {
+
+    private static final int TASKS = 16;
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+    @Autowired
+    private TestData data;
+
+    @Test
+    void concurrentCompletionsFinishReservation() throws Exception {
+        Reservation reservation = createReservationWithTasks(TASKS);
+        List<UUID> taskIds = taskIdsOf(reservation);
+
+        runConcurrently(taskIds, id -> taskService.updateStatus(id, TaskStatus.COMPLETADA));
+        drainOutbox();
+
+        Reservation reloaded = reservationRepository.findById(reservation.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(ReservationStatus.FINALIZADA);
+        assertThat(reloaded.getProgressPercentage()).isEqualByComparingTo("100");
+        assertThat(taskRepository.findByReservationId(reservation.getId()))
+                .allMatch(t -> t.getStatus() == TaskStatus.COMPLETADA);
+    }
+
+    @Test
+    void concurrentPartialCompletionsKeepExactProgress() throws Exception {
+        Reservation reservation = createReservationWithTasks(TASKS);
+        List<UUID> half = taskIdsOf(reservation).subList(0, TASKS / 2);
+
+        runConcurrently(half, id -> taskService.updateStatus(id, TaskStatus.COMPLETADA));
+        drainOutbox();
+
+        Reservation reloaded = reservationRepository.findById(reservation.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(ReservationStatus.PROGRAMADA);
+        assertThat(reloaded.getProgressPercentage()).isEqualByComparingTo("50");
+    }
+
+    @Test
+    void concurrentStartsMoveReservationToEnCurso() throws Exception {
+        Reservation reservation = createReservationWithTasks(TASKS);
+
+        runConcurrently(taskIdsOf(reservation), id -> taskService.updateStatus(id, TaskStatus.EN_PROCESO));
+        drainOutbox();
+
+        Reservation reloaded = reservationRepository.findById(reservation.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(ReservationStatus.ENCURSO);
+        assertThat(taskRepository.findByReservationId(reservation.getId()))
+                .allMatch(t -> t.getStatus() == TaskStatus.EN_PROCESO);
+    }
+
+    private void drainOutbox() {
+        assertThat(outboxDispatcher.drain(Duration.ofSeconds(30))).as("outbox vacío").isTrue();
+    }
+
+    private void runConcurrently(List<UUID> taskIds, Function<UUID, ApiResponse<?>> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(taskIds.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ApiResponse<?>>> futures = new ArrayList<>();
+            for (UUID id : taskIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return action.apply(id);
+                }));
+            }
+            start.countDown();
+            for (Future<ApiResponse<?>> future : futures) {
+                assertThat(future.get(60, TimeUnit.SECONDS).isSuccess()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<UUID> taskIdsOf(Reservation reservation) {
+        return taskRepository.findByReservationId(reservation.getId()).stream()
+                .map(Task::getId)
+                .toList();
+    }
+
+    private Reservation createReservationWithTasks(int taskCount) {
+        Reservation reservation = data.approvedReservation("Evento concurrente");
+        data.tasks(reservation, taskCount);
+        return reservation;
+    }
+}
@@ -0,0 +1,141 @@
+package sv.udb.puntoeventoapi.nativeimage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Recorre autenticación, cotizaciones y reservaciones por HTTP. Con {@code -PnativeTest} corre
+ * dentro de la imagen nativa y detecta pistas de reflexión faltantes (JJWT, DTOs, entidades)
+ * que en la JVM no se notan.
+ */
+@Tag("native")
+@ActiveProfiles("test")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.seeder.enabled=true"
+)
+class NativeSmokeTests {
+
+    private static final String ADMIN_EMAIL = "admin@puntoevento.com";
+    private static final String ADMIN_PASSWORD = "admin123";
+    private static final String CLIENT_PASSWORD = "Nativo12345";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void quoteApprovalCreatesReservation() {
+        String email = "nativo-" + UUID.randomUUID().toString().substring(0, 8) + "@puntoevento.test";
+        call(HttpMethod.POST, "/auth/register", null,
+                Map.of("name", "Cliente Nativo", "email", email, "password", CLIENT_PASSWORD));
+        String clientToken = login(email, CLIENT_PASSWORD);
+        String adminToken = login(ADMIN_EMAIL, ADMIN_PASSWORD);
+
+        JsonNode request = call(HttpMethod.POST, "/api/requests", clientToken, Map.of(
+                "eventName", "Evento nativo",
+                "eventDate", LocalDate.now().plusDays(30).toString(),
+                "location", "San Salvador",
+                "requestedServices", List.of("Sonido"),
+                "notes", "Prueba de humo"));
+        JsonNode quote = call(HttpMethod.POST,
+                "/api/requests/" + request.path("id").asText() + "/create-quote", adminToken, null);
+        String quoteId = quote.path("id").asText();
+        // La cotización nace sin ítems; el administrador le agrega los servicios con una revisión
+        call(HttpMethod.PUT, "/api/quotes/" + quoteId + "/items", adminToken, Map.of(
+                "items", List.of(Map.of("description", "Sonido", "quantity", 1, "unitPrice", 150.0)),
+                "additionalCosts", 0,
+                "note", "Servicios solicitados"));
+        JsonNode priced = call(HttpMethod.GET, "/api/quotes/" + quoteId, adminToken, null);
+        assertThat(priced.path("items").size()).isPositive();
+
+        JsonNode myQuotes = call(HttpMethod.GET, "/api/quotes/my-quotes", clientToken, null);
+        assertThat(myQuotes.findValuesAsText("id")).contains(quoteId);
+
+        call(HttpMethod.POST, "/api/quotes/" + quoteId + "/action", clientToken,
+                Map.of("action", "APROBAR", "notes", "Aprobada en prueba nativa"));
+
+        // La reservación la crea el despachador del outbox poco después de la aprobación
+        String reservationId = awaitReservationId(clientToken, quoteId);
+        assertThat(reservationId).as("reservación de la cotización aprobada").isNotNull();
+
+        JsonNode detail = call(HttpMethod.GET, "/api/reservations/" + reservationId, adminToken, null);
+        assertThat(detail.path("quote").path("id").asText()).isEqualTo(quoteId);
+    }
+
+    @Test
+    void rejectsTamperedToken() {
+        String token = login(ADMIN_EMAIL, ADMIN_PASSWORD);
+        ResponseEntity<String> response = exchange(HttpMethod.GET, "/api/reservations", token + "x", null);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    private String awaitReservationId(String clientToken, String quoteId) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            for (JsonNode reservation : call(HttpMethod.GET, "/api/reservations/my-reservations", clientToken, null)) {
+                if (quoteId.equals(reservation.path("quote").path("id").asText())) {
+                    return reservation.path("id").asText();
+                }
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return null;
+    }
+
+    private String login(String email, String password) {
+        return call(HttpMethod.POST, "/auth/login", null, Map.of("email", email, "password", password))
+                .path("token").asText();
+    }
+
+    private JsonNode call(HttpMethod method, String path, String token, Object body) {
+        ResponseEntity<String> response = exchange(method, path, token, body);
+        assertThat(response.getStatusCode().is2xxSuccessful())
+                .as("%s %s respondió %s: %s", method, path, response.getStatusCode(), response.getBody())
+                .isTrue();
+        try {
+            JsonNode json = objectMapper.readTree(response.getBody());
+            assertThat(json.path("success").asBoolean()).as("%s %s", method, path).isTrue();
+            return json.path("data");
+        } catch (IOException e) {
+            throw new IllegalStateException("Respuesta no es JSON: " + response.getBody(), e);
+        }
+    }
+
+    private ResponseEntity<String> exchange(HttpMethod method, String path, String token, Object body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (token != null) {
+            headers.setBearerAuth(token);
+        }
+        return rest.exchange(path, method, new HttpEntity<>(body, headers), String.class);
+    }
+}
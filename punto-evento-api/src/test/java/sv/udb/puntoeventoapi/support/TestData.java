@@ -0,0 +1,209 @@
+package sv.udb.puntoeventoapi.support;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+import sv.udb.puntoeventoapi.modules.assignment.entity.Assignment;
+import sv.udb.puntoeventoapi.modules.assignment.repository.AssignmentRepository;
+import sv.udb.puntoeventoapi.modules.client.entity.Client;
+import sv.udb.puntoeventoapi.modules.client.repository.ClientRepository;
+import sv.udb.puntoeventoapi.modules.commons.enums.ContractType;
+import sv.udb.puntoeventoapi.modules.commons.enums.PersonType;
+import sv.udb.puntoeventoapi.modules.commons.enums.QuoteStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.ReservationStatus;
+import sv.udb.puntoeventoapi.modules.commons.enums.Status;
+import sv.udb.puntoeventoapi.modules.commons.enums.TaskStatus;
+import sv.udb.puntoeventoapi.modules.employee.entity.Employee;
+import sv.udb.puntoeventoapi.modules.employee.repository.EmployeeRepository;
+import sv.udb.puntoeventoapi.modules.quote.entity.Quote;
+import sv.udb.puntoeventoapi.modules.quote.entity.QuoteItem;
+import sv.udb.puntoeventoapi.modules.quote.repository.QuoteRepository;
+import sv.udb.puntoeventoapi.modules.request.entity.Request;
+import sv.udb.puntoeventoapi.modules.request.repository.RequestRepository;
+import sv.udb.puntoeventoapi.modules.reservation.entity.Reservation;
+import sv.udb.puntoeventoapi.modules.reservation.repository.ReservationRepository;
+import sv.udb.puntoeventoapi.modules.task.entity.Task;
+import sv.udb.puntoeventoapi.modules.task.repository.TaskRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Datos de prueba persistidos: Cliente → Solicitud → Cotización → Reservación → Tarea → Asignación.
+ * Cada método guarda una fila válida con valores por defecto (el cliente va sin correo para no disparar
+ * notificaciones); el {@code Consumer} opcional ajusta solo los campos que la prueba verifica.
+ * Se incorpora con {@code @Import(TestData.class)}.
+ */
+@TestComponent
+public class TestData {
+
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private RequestRepository requestRepository;
+    @Autowired
+    private QuoteRepository quoteRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    public Client client(String name) {
+        return client(name, c -> { });
+    }
+
+    public Client client(String name, Consumer<Client.ClientBuilder> customizer) {
+        Client.ClientBuilder builder = Client.builder()
+                .name(name)
+                .document(document())
+                .personType(PersonType.Natural)
+                .status(Status.Activo)
+                .createdAt(LocalDateTime.now());
+        customizer.accept(builder);
+        return clientRepository.save(builder.build());
+    }
+
+    public Request request(Client client, Consumer<Request.RequestBuilder> customizer) {
+        LocalDateTime now = LocalDateTime.now();
+        Request.RequestBuilder builder = Request.builder()
+                .client(client)
+                .eventName("Solicitud de prueba")
+                .eventDate(now.plusMonths(1).toLocalDate().toString())
+                .location("San Salvador")
+                .requestedServices("Sonido")
+                .status(Status.Activo)
+                .createdAt(now)
+                .updatedAt(now);
+        customizer.accept(builder);
+        return requestRepository.save(builder.build());
+    }
+
+    public Quote quote(Client client, String eventName, QuoteStatus status) {
+        return quote(client, eventName, status, q -> { });
+    }
+
+    public Quote quote(Client client, String eventName, QuoteStatus status, Consumer<Quote.QuoteBuilder> customizer) {
+        Quote.QuoteBuilder builder = Quote.builder()
+                .client(client)
+                .eventName(eventName)
+                .subtotal(BigDecimal.ZERO)
+                .taxTotal(BigDecimal.ZERO)
+                .additionalCosts(BigDecimal.ZERO)
+                .total(BigDecimal.ZERO)
+                .status(status)
+                .createdAt(LocalDateTime.now());
+        customizer.accept(builder);
+        return quoteRepository.save(builder.build());
+    }
+
+    /**
+     * Agrega {@code count} ítems de $10 + 13% de IVA a una cotización ya guardada.
+     */
+    public Quote withItems(Quote quote, int count) {
+        for (int i = 0; i < count; i++) {
+            quote.addItem(QuoteItem.builder()
+                    .description("Servicio " + i)
+                    .quantity(BigDecimal.ONE)
+                    .unitPrice(BigDecimal.TEN)
+                    .taxRate(new BigDecimal("13.00"))
+                    .subtotal(BigDecimal.TEN)
+                    .total(new BigDecimal("11.30"))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return quoteRepository.save(quote);
+    }
+
+    /**
+     * Reservación programada de la cotización, a una semana, con el cliente y el nombre del evento de esta.
+     */
+    public Reservation reservation(Quote quote) {
+        return reservation(quote, r -> { });
+    }
+
+    public Reservation reservation(Quote quote, Consumer<Reservation.ReservationBuilder> customizer) {
+        LocalDateTime now = LocalDateTime.now();
+        Reservation.ReservationBuilder builder = Reservation.builder()
+                .quote(quote)
+                .client(quote.getClient())
+                .eventName(quote.getEventName())
+                .status(ReservationStatus.PROGRAMADA)
+                .scheduledFor(now.plusDays(7).toString())
+                .location("San Salvador")
+                .progressPercentage(BigDecimal.ZERO)
+                .createdAt(now)
+                .updatedAt(now);
+        customizer.accept(builder);
+        return reservationRepository.save(builder.build());
+    }
+
+    /**
+     * Atajo para la cadena completa: cliente, cotización aprobada y reservación programada.
+     */
+    public Reservation approvedReservation(String eventName) {
+        return reservation(quote(client("Cliente " + eventName), eventName, QuoteStatus.Aprobada));
+    }
+
+    public Task task(Reservation reservation, String title, LocalDateTime start, LocalDateTime end) {
+        return task(reservation, title, start, end, t -> { });
+    }
+
+    public Task task(Reservation reservation, String title, LocalDateTime start, LocalDateTime end,
+                     Consumer<Task.TaskBuilder> customizer) {
+        LocalDateTime now = LocalDateTime.now();
+        Task.TaskBuilder builder = Task.builder()
+                .reservation(reservation)
+                .title(title)
+                .status(TaskStatus.PENDIENTE)
+                .startDatetime(start)
+                .endDatetime(end)
+                .createdAt(now)
+                .updatedAt(now);
+        customizer.accept(builder);
+        return taskRepository.save(builder.build());
+    }
+
+    /**
+     * Tareas pendientes de una hora, consecutivas a partir de mañana.
+     */
+    public List<Task> tasks(Reservation reservation, int count) {
+        LocalDateTime first = LocalDateTime.now().plusDays(1);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(reservation, "Tarea " + i, first.plusHours(i), first.plusHours(i + 1)));
+        }
+        return tasks;
+    }
+
+    public Employee employee(String name) {
+        LocalDateTime now = LocalDateTime.now();
+        return employeeRepository.save(Employee.builder()
+                .name(name)
+                .document(document())
+                .personType(PersonType.Natural)
+                .contractType(ContractType.Permanente)
+                .status(Status.Activo)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+
+    public Assignment assign(Task task, Employee employee) {
+        return assignmentRepository.save(Assignment.builder()
+                .task(task)
+                .employee(employee)
+                .assignedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private static String document() {
+        return UUID.randomUUID().toString().substring(0, 12);
+    }
+}
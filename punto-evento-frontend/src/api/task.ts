@@ -43,6 +43,26 @@ export interface TasksListResponse {
   success: boolean;
 }
 
+// Tablero del empleado: una página de tareas con sus totales
+export interface TasksPageResponse {
+  data: {
+    content: Task[];
+    totalElements: number;
+    totalPages: number;
+    size: number;
+    number: number;
+  };
+  message: string;
+  success: boolean;
+}
+
+// Totales por estado del tablero del empleado
+export interface TaskSummaryResponse {
+  data: Record<"PENDIENTE" | "EN_PROCESO" | "COMPLETADA" | "CANCELADA", number>;
+  message: string;
+  success: boolean;
+}
+
 export const tasksApi = {
   // Crear nueva tarea
   createTask: async (taskData: CreateTaskRequest): Promise<TaskResponse> => {
@@ -57,8 +77,16 @@ export const tasksApi = {
   },
 
   // Obtener mis tareas (del empleado autenticado)
-  getMyTasks: async (): Promise<TasksListResponse> => {
-    const response = await axiosClient.get("/tasks/my-tasks");
+  getMyTasks: async (page = 0, size?: number): Promise<TasksPageResponse> => {
+    const response = await axiosClient.get("/tasks/my-tasks", {
+      params: { page, size },
+    });
+    return response.data;
+  },
+
+  // Resumen de mis tareas por estado (todas, no solo una página)
+  getMyTaskSummary: async (): Promise<TaskSummaryResponse> => {
+    const response = await axiosClient.get("/tasks/my-tasks/summary");
     return response.data;
   },
 
@@ -74,9 +102,13 @@ export const tasksApi = {
 
   // Obtener tareas por empleado
   getTasksByEmployee: async (
-    employeeId: string
-  ): Promise<TasksListResponse> => {
-    const response = await axiosClient.get(`/tasks/employee/${employeeId}`);
+    employeeId: string,
+    page = 0,
+    size?: number
+  ): Promise<TasksPageResponse> => {
+    const response = await axiosClient.get(`/tasks/employee/${employeeId}`, {
+      params: { page, size },
+    });
     return response.data;
   },
 
@@ -8,13 +8,15 @@ import {
 } from "@ant-design/icons";
 import { Link } from "react-router-dom";
 import { useAuth } from "../../hooks/use-auth";
-import { tasksApi, Task } from "../../api/task";
+import { tasksApi, TaskSummaryResponse } from "../../api/task";
 import { getErrorFromResponse } from "../../utils/get-errror-from-response.util";
 
 const EmployeeDashboard: React.FC = () => {
   const { user } = useAuth();
   const [loading, setLoading] = useState(false);
-  const [tasks, setTasks] = useState<Task[]>([]);
+  const [summary, setSummary] = useState<TaskSummaryResponse["data"] | null>(
+    null
+  );
 
   useEffect(() => {
     fetchTasks();
@@ -23,8 +25,9 @@ const EmployeeDashboard: React.FC = () => {
   const fetchTasks = async () => {
     try {
       setLoading(true);
-      const response = await tasksApi.getMyTasks();
-      setTasks(response.data);
+      // Solo los totales: el panel no necesita las tareas, que pueden ser muchas
+      const response = await tasksApi.getMyTaskSummary();
+      setSummary(response.data);
     } catch (error) {
       const errorMessage = getErrorFromResponse(error);
       message.error(`Error al cargar las tareas: ${errorMessage}`);
@@ -33,9 +36,12 @@ const EmployeeDashboard: React.FC = () => {
     }
   };
 
-  const pendingTasks = tasks.filter((t) => t.status === "PENDIENTE").length;
-  const inProgressTasks = tasks.filter((t) => t.status === "EN_PROCESO").length;
-  const completedTasks = tasks.filter((t) => t.status === "COMPLETADA").length;
+  const pendingTasks = summary?.PENDIENTE ?? 0;
+  const inProgressTasks = summary?.EN_PROCESO ?? 0;
+  const completedTasks = summary?.COMPLETADA ?? 0;
+  const totalTasks = summary
+    ? Object.values(summary).reduce((sum, count) => sum + count, 0)
+    : 0;
 
   return (
     <div className="container mx-auto px-4 py-8">
@@ -83,7 +89,7 @@ const EmployeeDashboard: React.FC = () => {
           <Card loading={loading}>
             <Statistic
               title="Total de Tareas"
-              value={tasks.length}
+              value={totalTasks}
               prefix={<CheckSquareOutlined />}
               valueStyle={{ color: "#722ed1" }}
             />
@@ -21,7 +21,7 @@ import {
 } from "@ant-design/icons";
 import { useAuth } from "../../hooks/use-auth";
 import dayjs from "dayjs";
-import { tasksApi, Task } from "../../api/task";
+import { tasksApi, Task, TaskSummaryResponse } from "../../api/task";
 import { getErrorFromResponse } from "../../utils/get-errror-from-response.util";
 
 interface TaskData {
@@ -46,6 +46,15 @@ const EmployeeTasks: React.FC = () => {
   const { user } = useAuth();
   const [loading, setLoading] = useState(false);
   const [tasks, setTasks] = useState<TaskData[]>([]);
+  // Paginación en el servidor: el tablero trae una página a la vez, abiertas primero
+  const [pagination, setPagination] = useState({
+    current: 1,
+    pageSize: 10,
+    total: 0,
+  });
+  const [summary, setSummary] = useState<TaskSummaryResponse["data"] | null>(
+    null
+  );
   const [modalVisible, setModalVisible] = useState(false);
   const [selectedTask, setSelectedTask] = useState<TaskData | null>(null);
 
@@ -53,13 +62,20 @@ const EmployeeTasks: React.FC = () => {
     fetchTasks();
   }, []);
 
-  const fetchTasks = async () => {
+  const fetchTasks = async (
+    current = pagination.current,
+    pageSize = pagination.pageSize
+  ) => {
     try {
       setLoading(true);
-      const response = await tasksApi.getMyTasks();
+      const [response, summaryResponse] = await Promise.all([
+        tasksApi.getMyTasks(current - 1, pageSize),
+        tasksApi.getMyTaskSummary(),
+      ]);
+      setSummary(summaryResponse.data);
 
       if (response.success && response.data) {
-        const tasksData = response.data.map((task: Task) => ({
+        const tasksData = response.data.content.map((task: Task) => ({
           id: task.id,
           title: task.title,
           description: task.description || "",
@@ -89,6 +105,11 @@ const EmployeeTasks: React.FC = () => {
               : 0,
         }));
         setTasks(tasksData);
+        setPagination({
+          current,
+          pageSize,
+          total: response.data.totalElements,
+        });
       } else {
         setTasks([]);
       }
@@ -282,7 +303,7 @@ const EmployeeTasks: React.FC = () => {
         <Card>
           <div className="text-center">
             <div className="text-2xl font-bold text-orange-600">
-              {tasks.filter((t) => t.status === "PENDIENTE").length}
+              {summary?.PENDIENTE ?? 0}
             </div>
             <div className="text-sm text-gray-600">Pendientes</div>
           </div>
@@ -290,7 +311,7 @@ const EmployeeTasks: React.FC = () => {
         <Card>
           <div className="text-center">
             <div className="text-2xl font-bold text-blue-600">
-              {tasks.filter((t) => t.status === "EN_PROCESO").length}
+              {summary?.EN_PROCESO ?? 0}
             </div>
             <div className="text-sm text-gray-600">En Proceso</div>
           </div>
@@ -298,7 +319,7 @@ const EmployeeTasks: React.FC = () => {
         <Card>
           <div className="text-center">
             <div className="text-2xl font-bold text-green-600">
-              {tasks.filter((t) => t.status === "COMPLETADA").length}
+              {summary?.COMPLETADA ?? 0}
             </div>
             <div className="text-sm text-gray-600">Completadas</div>
           </div>
@@ -306,7 +327,9 @@ const EmployeeTasks: React.FC = () => {
         <Card>
           <div className="text-center">
             <div className="text-2xl font-bold text-gray-600">
-              {tasks.length}
+              {summary
+                ? Object.values(summary).reduce((sum, count) => sum + count, 0)
+                : 0}
             </div>
             <div className="text-sm text-gray-600">Total</div>
           </div>
@@ -321,9 +344,12 @@ const EmployeeTasks: React.FC = () => {
             rowKey="id"
             loading={loading}
             pagination={{
-              pageSize: 10,
+              current: pagination.current,
+              pageSize: pagination.pageSize,
+              total: pagination.total,
               showSizeChanger: true,
               showQuickJumper: true,
+              onChange: (current, pageSize) => fetchTasks(current, pageSize),
             }}
           />
         </div>